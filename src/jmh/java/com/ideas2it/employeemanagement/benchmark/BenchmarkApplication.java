@@ -0,0 +1,93 @@
+package com.ideas2it.employeemanagement.benchmark;
+
+import com.ideas2it.employeemanagement.EmployeemanagementApplication;
+import com.ideas2it.employeemanagement.department.dao.DepartmentRepository;
+import com.ideas2it.employeemanagement.employee.dao.EmployeeBatchRepository;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
+import com.ideas2it.employeemanagement.model.Department;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Starts the application without a web server against its own in-memory H2 database in MySQL
+ * mode, for benchmarks that go through the repositories and services.
+ */
+final class BenchmarkApplication {
+    private static final int DEPARTMENT_COUNT = 5;
+    private static final int SEED_CHUNK_SIZE = 10000;
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * Starts the application with an empty database.
+     *
+     * @param name      the name of the database, unique within the JVM
+     * @param extraArgs further settings, as {@code --name=value}
+     * @return the running application
+     */
+    static ConfigurableApplicationContext start(String name, String... extraArgs) {
+        String[] args = Stream.concat(Stream.of(
+                        "--spring.datasource.url=jdbc:h2:mem:" + name
+                                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.com.ideas2it=warn"), Stream.of(extraArgs))
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(EmployeemanagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args);
+    }
+
+    /**
+     * Inserts {@link EmployeeFixtures#employeeDtos} employees spread over a few departments, in
+     * JDBC batches as the bulk import does. A letter suffix keeps the names unique.
+     *
+     * @param context the running application
+     * @param count   the number of employees
+     * @return the IDs of the departments
+     */
+    static List<Integer> seed(ConfigurableApplicationContext context, int count) {
+        DepartmentRepository departmentRepository = context.getBean(DepartmentRepository.class);
+        List<Integer> departmentIds = new ArrayList<>();
+        for (int i = 0; i < DEPARTMENT_COUNT; i++) {
+            departmentIds.add(departmentRepository.save(Department.builder()
+                    .name("Department " + (char) ('A' + i))
+                    .employees(new HashSet<>())
+                    .build()).getId());
+        }
+        List<EmployeeDto> employeeDtos = EmployeeFixtures.employeeDtos(count, 42);
+        for (int i = 0; i < count; i++) {
+            EmployeeDto employeeDto = employeeDtos.get(i);
+            employeeDto.setName(employeeDto.getName() + " " + letters(i));
+            employeeDto.setDepartmentID(departmentIds.get((employeeDto.getDepartmentID() - 1) % DEPARTMENT_COUNT));
+        }
+        EmployeeBatchRepository employeeBatchRepository = context.getBean(EmployeeBatchRepository.class);
+        for (int from = 0; from < count; from += SEED_CHUNK_SIZE) {
+            employeeBatchRepository.insertEmployees(employeeDtos.subList(from, Math.min(count, from + SEED_CHUNK_SIZE)));
+        }
+        return departmentIds;
+    }
+
+    /**
+     * Spells a number in base 26 with letters, so that the seeded names are unique within a department.
+     */
+    private static String letters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ((letters.isEmpty() ? 'A' : 'a') + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+}
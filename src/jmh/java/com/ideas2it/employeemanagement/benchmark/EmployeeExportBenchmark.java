@@ -0,0 +1,107 @@
+package com.ideas2it.employeemanagement.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ideas2it.employeemanagement.employee.controller.EmployeeController;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
+import com.ideas2it.employeemanagement.utilities.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *<p>
+ * Reads the whole employee directory three ways, writing the JSON to a discarding stream:
+ * through the NDJSON export, page by page through the list endpoint, and as one list holding
+ * every employee, which is what the list endpoint returned before it was paginated.
+ *</p>
+ *<p>
+ * Run with {@code -prof gc}: the export keeps only the row being written reachable, while the
+ * single list keeps every DTO until the last byte is written. The H2 database lives in the same
+ * heap, so the forks get 1 GB to hold the larger table.
+ *</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class EmployeeExportBenchmark {
+    @Param({"10000", "100000"})
+    private int employeeCount;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeController employeeController;
+    private ObjectWriter listWriter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("export_" + employeeCount);
+        BenchmarkApplication.seed(context, employeeCount);
+        employeeController = context.getBean(EmployeeController.class);
+        listWriter = context.getBean(ObjectMapper.class).writerFor(new TypeReference<List<EmployeeDto>>() {
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void export() throws IOException {
+        employeeController.exportEmployees(new ServletWebRequest(new MockHttpServletRequest()))
+                .getBody()
+                .writeTo(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public int listPages() throws IOException {
+        int after = 0;
+        int pages = 0;
+        List<EmployeeDto> page;
+        do {
+            page = employeeController.getAllEmployees(after, Validator.MAX_PAGE_LIMIT, null).getBody();
+            listWriter.writeValue(OutputStream.nullOutputStream(), page);
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1).getId();
+            }
+            pages++;
+        } while (page.size() == Validator.MAX_PAGE_LIMIT);
+        return pages;
+    }
+
+    @Benchmark
+    public void listInOneResponse() throws IOException {
+        List<EmployeeDto> employeeDtos = new ArrayList<>(employeeCount);
+        List<EmployeeDto> page;
+        do {
+            page = employeeController.getAllEmployees(
+                    employeeDtos.isEmpty() ? 0 : employeeDtos.get(employeeDtos.size() - 1).getId(),
+                    Validator.MAX_PAGE_LIMIT, null).getBody();
+            employeeDtos.addAll(page);
+        } while (page.size() == Validator.MAX_PAGE_LIMIT);
+        listWriter.writeValue(OutputStream.nullOutputStream(), employeeDtos);
+    }
+}
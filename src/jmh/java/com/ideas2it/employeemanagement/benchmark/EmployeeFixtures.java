@@ -0,0 +1,82 @@
+package com.ideas2it.employeemanagement.benchmark;
+
+import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
+import com.ideas2it.employeemanagement.employee.mapper.EmployeeMapper;
+import com.ideas2it.employeemanagement.model.Address;
+import com.ideas2it.employeemanagement.model.Department;
+import com.ideas2it.employeemanagement.model.Employee;
+import com.ideas2it.employeemanagement.model.Sport;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Synthetic employees shaped like the ones the API serves: a department, an address and a few sports each.
+ * The same seed always produces the same employees.
+ */
+final class EmployeeFixtures {
+    private static final String[] FIRST_NAMES = {"Arun", "Kishore", "Santhosh", "Priya", "Divya", "Karthik",
+            "Meena", "Ravi", "Sandeep", "Lakshmi", "Vignesh", "Anitha", "Suresh", "Deepa", "Manoj", "Kavya"};
+    private static final String[] LAST_NAMES = {"Kumar", "Raj", "Krishnan", "Iyer", "Natarajan", "Subramanian",
+            "Reddy", "Nair", "Pillai", "Menon", "Sharma", "Rao"};
+    private static final String[] CITIES = {"Chennai", "Madurai", "Coimbatore", "Bengaluru", "Mysuru", "Kochi"};
+    private static final String[] STATES = {"Tamil Nadu", "Tamil Nadu", "Tamil Nadu", "Karnataka", "Karnataka", "Kerala"};
+    private static final String[] DEPARTMENTS = {"Engineering", "Finance", "Marketing", "Operations", "Sales"};
+    private static final String[] SPORTS = {"Cricket", "Football", "Chess", "Badminton", "Tennis", "Kabaddi"};
+
+    private EmployeeFixtures() {
+    }
+
+    static List<Employee> employees(int count, long seed) {
+        Random random = new Random(seed);
+        List<Department> departments = new ArrayList<>();
+        for (int i = 0; i < DEPARTMENTS.length; i++) {
+            departments.add(Department.builder().id(i + 1).name(DEPARTMENTS[i]).build());
+        }
+        List<Sport> sports = new ArrayList<>();
+        for (int i = 0; i < SPORTS.length; i++) {
+            sports.add(Sport.builder().id(i + 1).name(SPORTS[i]).isActive(true).build());
+        }
+
+        List<Employee> employees = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            int city = random.nextInt(CITIES.length);
+            Set<Sport> employeeSports = new HashSet<>();
+            for (int i = random.nextInt(4); i > 0; i--) {
+                employeeSports.add(sports.get(random.nextInt(sports.size())));
+            }
+            employees.add(Employee.builder()
+                    .id(id)
+                    .name(firstName + " " + lastName)
+                    .dob(LocalDate.of(1960 + random.nextInt(45), 1 + random.nextInt(12), 1 + random.nextInt(28)))
+                    .emailId(firstName.toLowerCase() + "." + id + "@example.com")
+                    .isActive(true)
+                    .version(random.nextInt(5))
+                    .department(departments.get(random.nextInt(departments.size())))
+                    .address(Address.builder()
+                            .id(id)
+                            .street(1 + random.nextInt(200) + " Main Road")
+                            .city(CITIES[city])
+                            .state(STATES[city])
+                            .zip(String.valueOf(600001 + random.nextInt(99999)))
+                            .build())
+                    .sports(employeeSports)
+                    .build());
+        }
+        return employees;
+    }
+
+    static List<EmployeeDto> employeeDtos(int count, long seed) {
+        List<EmployeeDto> employeeDtos = new ArrayList<>(count);
+        for (Employee employee : employees(count, seed)) {
+            employeeDtos.add(EmployeeMapper.mapToEmployeeDto(employee));
+        }
+        return employeeDtos;
+    }
+}
@@ -0,0 +1,98 @@
+package com.ideas2it.employeemanagement.benchmark;
+
+import com.ideas2it.employeemanagement.department.dao.DepartmentRepository;
+import com.ideas2it.employeemanagement.employee.dao.EmployeeRepository;
+import com.ideas2it.employeemanagement.model.Address;
+import com.ideas2it.employeemanagement.model.Department;
+import com.ideas2it.employeemanagement.model.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *<p>
+ * Saves employees with their addresses through Spring Data in one transaction, taking IDs from
+ * {@code BlockTableGenerator}, with and without JDBC batching.
+ *</p>
+ *<p>
+ * A {@code batchSize} of 1 sends every INSERT on its own, which is what IDENTITY keys forced
+ * before block IDs, since Hibernate had to run each INSERT to read the key back. A
+ * {@code batchSize} of 50 is the shipped setting.
+ *</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class EmployeeInsertBenchmark {
+    private static final int EMPLOYEES_PER_OPERATION = 2000;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeRepository employeeRepository;
+    private TransactionTemplate transactionTemplate;
+    private Department department;
+    private int saved;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("insert_" + batchSize,
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize);
+        employeeRepository = context.getBean(EmployeeRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        department = context.getBean(DepartmentRepository.class).save(Department.builder()
+                .name("Engineering")
+                .employees(new HashSet<>())
+                .build());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int saveAll() {
+        List<Employee> employees = new ArrayList<>(EMPLOYEES_PER_OPERATION);
+        for (int i = 0; i < EMPLOYEES_PER_OPERATION; i++, saved++) {
+            employees.add(Employee.builder()
+                    .name("Employee " + saved)
+                    .dob(LocalDate.of(1990, 1, 1).plusDays(saved % 10000))
+                    .emailId("employee" + saved + "@example.com")
+                    .isActive(true)
+                    .department(department)
+                    .address(Address.builder()
+                            .street(saved + " Main St")
+                            .city("Chennai")
+                            .state("Tamil Nadu")
+                            .zip("600001")
+                            .build())
+                    .sports(new HashSet<>())
+                    .build());
+        }
+        transactionTemplate.executeWithoutResult(status -> employeeRepository.saveAll(employees));
+        return employees.size();
+    }
+}
@@ -0,0 +1,114 @@
+package com.ideas2it.employeemanagement.benchmark;
+
+import com.ideas2it.employeemanagement.employee.dao.EmployeeQueryRepository;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
+import com.ideas2it.employeemanagement.employee.mapper.EmployeeMapper;
+import com.ideas2it.employeemanagement.model.Employee;
+import com.ideas2it.employeemanagement.model.Sport;
+import com.ideas2it.employeemanagement.sport.dao.SportRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *<p>
+ * Reads one page of active employees with their department, address and sports, the way the
+ * list endpoint does: through {@link EmployeeQueryRepository}, which selects the columns straight
+ * into DTOs, and through managed entities mapped with {@link EmployeeMapper}, which is how the
+ * endpoint read them before.
+ *</p>
+ *<p>
+ * The entity path fetches the department and address in the same query and the sports in
+ * batches of 50, so both paths issue a handful of statements; the difference is entity
+ * hydration, persistence context snapshots and the mapper copy.
+ *</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class EmployeeReadBenchmark {
+    private static final int EMPLOYEE_COUNT = 20000;
+    private static final int SPORT_COUNT = 3;
+
+    private static final String SELECT_PAGE = "SELECT e FROM Employee e "
+            + "JOIN FETCH e.department LEFT JOIN FETCH e.address "
+            + "WHERE e.isActive = true AND e.id > :after ORDER BY e.id";
+
+    @Param({"50", "500"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeQueryRepository employeeQueryRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+    private int after;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("read");
+        BenchmarkApplication.seed(context, EMPLOYEE_COUNT);
+        List<Integer> sportIds = new ArrayList<>();
+        for (int i = 0; i < SPORT_COUNT; i++) {
+            sportIds.add(context.getBean(SportRepository.class).save(Sport.builder()
+                    .name("Sport " + i)
+                    .isActive(true)
+                    .employees(new HashSet<>())
+                    .build()).getId());
+        }
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        List<Object[]> assignments = new ArrayList<>();
+        for (Integer employeeId : jdbcTemplate.queryForList("SELECT id FROM employee", Integer.class)) {
+            assignments.add(new Object[] {employeeId, sportIds.get(employeeId % SPORT_COUNT)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO employee_sport (employee_id, sport_id) VALUES (?, ?)", assignments);
+        employeeQueryRepository = context.getBean(EmployeeQueryRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(TransactionTemplate.class).getTransactionManager());
+        readOnlyTransaction.setReadOnly(true);
+        after = jdbcTemplate.queryForObject("SELECT MIN(id) FROM employee", Integer.class)
+                + EMPLOYEE_COUNT / 2;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EmployeeDto> projection() {
+        return employeeQueryRepository.findActiveAfter(after, pageSize);
+    }
+
+    @Benchmark
+    public List<EmployeeDto> entities() {
+        return readOnlyTransaction.execute(status -> entityManager.createQuery(SELECT_PAGE, Employee.class)
+                .setParameter("after", after)
+                .setMaxResults(pageSize)
+                .getResultList()
+                .stream()
+                .map(EmployeeMapper::mapToEmployeeDto)
+                .toList());
+    }
+}
@@ -0,0 +1,76 @@
+package com.ideas2it.employeemanagement.benchmark;
+
+import com.ideas2it.employeemanagement.employee.dto.EmployeeSearchDto;
+import com.ideas2it.employeemanagement.employee.service.EmployeeSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typeahead lookups against an index of synthetic employees. Sample time mode
+ * reports the latency percentiles; the p99 target for one million employees is 2 ms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class EmployeeSearchIndexBenchmark {
+    private static final String[] FIRST_NAMES = {"Arun", "Kishore", "Santhosh", "Priya", "Divya", "Karthik",
+            "Meena", "Ravi", "Sandeep", "Lakshmi", "Vignesh", "Anitha", "Suresh", "Deepa", "Manoj", "Kavya"};
+    private static final String[] LAST_NAMES = {"Kumar", "Raj", "Krishnan", "Iyer", "Natarajan", "Subramanian",
+            "Reddy", "Nair", "Pillai", "Menon", "Sharma", "Rao"};
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"1000000"})
+    private int employeeCount;
+
+    @Param({"10"})
+    private int limit;
+
+    private EmployeeSearchIndex employeeSearchIndex;
+    private String[] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<EmployeeSearchDto> employees = new ArrayList<>(employeeCount);
+        for (int id = 1; id <= employeeCount; id++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            employees.add(new EmployeeSearchDto(id, firstName + " " + lastName + " " + id,
+                    firstName.toLowerCase() + "." + id + "@example.com"));
+        }
+        employeeSearchIndex = new EmployeeSearchIndex();
+        employeeSearchIndex.replaceAll(employees);
+
+        queries = new String[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            EmployeeSearchDto employee = employees.get(random.nextInt(employeeCount));
+            String term = random.nextBoolean() ? employee.getName() : employee.getEmailId();
+            queries[i] = term.substring(0, 1 + random.nextInt(Math.min(8, term.length())));
+        }
+    }
+
+    @Benchmark
+    public List<EmployeeSearchDto> search() {
+        String query = queries[next++ & (QUERY_COUNT - 1)];
+        return employeeSearchIndex.search(query, limit);
+    }
+}
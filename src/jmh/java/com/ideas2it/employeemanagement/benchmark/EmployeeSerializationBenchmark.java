@@ -0,0 +1,54 @@
+package com.ideas2it.employeemanagement.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of an employee list response, with the object mapper configured the way
+ * Spring MVC configures it. The output is discarded, as the response body would be streamed to
+ * the client, so the score covers the serializer and not a growing result buffer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class EmployeeSerializationBenchmark {
+    @Param({"10", "1000", "100000"})
+    private int employeeCount;
+
+    private ObjectWriter writer;
+    private List<EmployeeDto> employeeDtos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writerFor(new TypeReference<List<EmployeeDto>>() {
+        });
+        employeeDtos = EmployeeFixtures.employeeDtos(employeeCount, 42);
+    }
+
+    @Benchmark
+    public void serializeEmployees() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), employeeDtos);
+    }
+}
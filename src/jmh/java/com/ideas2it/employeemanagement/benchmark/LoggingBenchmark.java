@@ -0,0 +1,82 @@
+package com.ideas2it.employeemanagement.benchmark;
+
+import com.ideas2it.employeemanagement.employee.controller.EmployeeController;
+import com.ideas2it.employeemanagement.logging.RequestLogSamplingFilter;
+import com.ideas2it.employeemanagement.logging.SamplingFilter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The two info lines a controller logs for every request, written through the application's
+ * log4j2.yml to the rolling file by eight request threads at once. The sync mode takes the
+ * appender lock on every line; the async mode hands the lines to the ring buffer. A full ring
+ * buffer blocks here instead of discarding, so the async score is what the background thread
+ * sustains. Sampling one request in ten, decided per operation the way
+ * {@link RequestLogSamplingFilter} decides per request, shows the cost of the lines that are dropped.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+@Threads(8)
+public class LoggingBenchmark {
+    private static final Integer EMPLOYEE_ID = 1001;
+
+    @Param({"sync", "async"})
+    private String mode;
+
+    @Param({"1", "10"})
+    private int sampleOneIn;
+
+    private Logger logger;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        System.setProperty("employeemanagement.log.dir", Files.createTempDirectory("logging-benchmark").toString());
+        System.setProperty("employeemanagement.log.console-level", "off");
+        System.setProperty("log4j2.asyncQueueFullPolicy", "Default");
+        if ("sync".equals(mode)) {
+            System.setProperty("log4j2.contextSelector",
+                    "org.apache.logging.log4j.core.selector.ClassLoaderContextSelector");
+        }
+        logger = LogManager.getLogger(EmployeeController.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        LogManager.shutdown();
+    }
+
+    @Benchmark
+    public void logRequest() {
+        if (sampleOneIn > 1) {
+            ThreadContext.put(SamplingFilter.SAMPLED_KEY, ThreadLocalRandom.current().nextInt(sampleOneIn) == 0
+                    ? SamplingFilter.SAMPLED : SamplingFilter.NOT_SAMPLED);
+        }
+        logger.info("Request to retrieve employee with ID: {}", EMPLOYEE_ID);
+        logger.info("Retrieved employee with ID: {}", EMPLOYEE_ID);
+        ThreadContext.remove(SamplingFilter.SAMPLED_KEY);
+    }
+}
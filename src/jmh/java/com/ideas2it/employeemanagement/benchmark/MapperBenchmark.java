@@ -0,0 +1,90 @@
+package com.ideas2it.employeemanagement.benchmark;
+
+import com.ideas2it.employeemanagement.department.dto.DepartmentDto;
+import com.ideas2it.employeemanagement.department.mapper.DepartmentMapper;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
+import com.ideas2it.employeemanagement.employee.mapper.EmployeeMapper;
+import com.ideas2it.employeemanagement.model.Department;
+import com.ideas2it.employeemanagement.model.Employee;
+import com.ideas2it.employeemanagement.model.Sport;
+import com.ideas2it.employeemanagement.sport.dto.SportDto;
+import com.ideas2it.employeemanagement.sport.mapper.SportMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping and back, run once per entity read or written. Cycles through a set of
+ * synthetic employees so the sports sets and addresses vary from call to call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class MapperBenchmark {
+    private static final int SAMPLE_COUNT = 1024;
+
+    private Employee[] employees;
+    private EmployeeDto[] employeeDtos;
+    private Department[] departments;
+    private DepartmentDto[] departmentDtos;
+    private Sport[] sports;
+    private SportDto[] sportDtos;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Employee> sample = EmployeeFixtures.employees(SAMPLE_COUNT, 42);
+        employees = sample.toArray(new Employee[0]);
+        employeeDtos = sample.stream().map(EmployeeMapper::mapToEmployeeDto).toArray(EmployeeDto[]::new);
+        departments = sample.stream().map(Employee::getDepartment).toArray(Department[]::new);
+        departmentDtos = Arrays.stream(departments).map(DepartmentMapper::mapToDepartmentDto).toArray(DepartmentDto[]::new);
+        sports = sample.stream().flatMap(employee -> employee.getSports().stream()).limit(SAMPLE_COUNT)
+                .toArray(Sport[]::new);
+        sportDtos = Arrays.stream(sports).map(SportMapper::mapToSportDto).toArray(SportDto[]::new);
+    }
+
+    @Benchmark
+    public EmployeeDto mapToEmployeeDto() {
+        return EmployeeMapper.mapToEmployeeDto(employees[next++ & (SAMPLE_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public Employee mapToEmployee() {
+        return EmployeeMapper.mapToEmployee(employeeDtos[next++ & (SAMPLE_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public DepartmentDto mapToDepartmentDto() {
+        return DepartmentMapper.mapToDepartmentDto(departments[next++ & (SAMPLE_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public Department mapToDepartment() {
+        return DepartmentMapper.mapToDepartment(departmentDtos[next++ & (SAMPLE_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public SportDto mapToSportDto() {
+        return SportMapper.mapToSportDto(sports[next++ % sports.length]);
+    }
+
+    @Benchmark
+    public Sport mapToSport() {
+        return SportMapper.mapToSport(sportDtos[next++ % sportDtos.length]);
+    }
+}
@@ -0,0 +1,113 @@
+package com.ideas2it.employeemanagement.benchmark;
+
+import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
+import com.ideas2it.employeemanagement.utilities.Validator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *<p>
+ * Age calculation and Bean Validation of employees as done for every create, update and
+ * imported row. The invalid sample fails the name, email and zip patterns, so every
+ * constraint message is interpolated.
+ *</p>
+ *<p>
+ * The {@code @Email} pattern on {@link EmployeeDto#getEmailId()} cannot match any real address,
+ * so every fixture, valid or not, fails it; {@code validateEmployee} and {@code validateEmailId}
+ * therefore include one interpolated message each. The set-up checks that the email ID is the
+ * only constraint the valid fixtures break.
+ *</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class ValidationBenchmark {
+    private static final int SAMPLE_COUNT = 1024;
+
+    private ValidatorFactory validatorFactory;
+    private jakarta.validation.Validator beanValidator;
+    private EmployeeDto[] employeeDtos;
+    private EmployeeDto invalidEmployeeDto;
+    private LocalDate[] dobs;
+    private LocalDate today;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        beanValidator = validatorFactory.getValidator();
+        List<EmployeeDto> sample = EmployeeFixtures.employeeDtos(SAMPLE_COUNT, 42);
+        employeeDtos = sample.toArray(new EmployeeDto[0]);
+        for (EmployeeDto employeeDto : employeeDtos) {
+            for (ConstraintViolation<EmployeeDto> violation : beanValidator.validate(employeeDto)) {
+                if (!violation.getPropertyPath().toString().equals("emailId")) {
+                    throw new IllegalStateException("Fixture " + employeeDto.getId() + " fails "
+                            + violation.getPropertyPath() + ": " + violation.getMessage());
+                }
+            }
+        }
+        dobs = sample.stream().map(EmployeeDto::getDob).toArray(LocalDate[]::new);
+        today = LocalDate.now();
+        invalidEmployeeDto = EmployeeDto.builder()
+                .name("Santhosh 2")
+                .dob(LocalDate.of(1990, 1, 1))
+                .emailId("not an email")
+                .departmentID(1)
+                .street("12th Main St")
+                .city("Tambaram")
+                .state("Tamil Nadu")
+                .zip("12345")
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public int calculateAge() {
+        return Validator.calculateAge(dobs[next++ & (SAMPLE_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public int calculateAgeOnDay() {
+        return Validator.calculateAge(dobs[next++ & (SAMPLE_COUNT - 1)], today);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<EmployeeDto>> validateEmployee() {
+        return beanValidator.validate(employeeDtos[next++ & (SAMPLE_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<EmployeeDto>> validateInvalidEmployee() {
+        return beanValidator.validate(invalidEmployeeDto);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<EmployeeDto>> validateEmailId() {
+        return beanValidator.validateProperty(employeeDtos[next++ & (SAMPLE_COUNT - 1)], "emailId");
+    }
+}
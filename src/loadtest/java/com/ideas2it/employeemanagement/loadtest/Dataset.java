@@ -0,0 +1,47 @@
+package com.ideas2it.employeemanagement.loadtest;
+
+import java.util.Random;
+
+import com.ideas2it.employeemanagement.employee.service.EmployeeHeadcounts;
+import com.ideas2it.employeemanagement.employee.service.EmployeeLocationIndex;
+import com.ideas2it.employeemanagement.employee.service.EmployeeSearchIndex;
+import com.ideas2it.employeemanagement.report.service.EmployeeColumnStore;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * The synthetic departments, sports and employees a load test runs against, as loaded by
+ * {@link DatasetGenerator}.
+ *
+ * @param departmentIds the IDs of the seeded departments
+ * @param sportIds      the IDs of the seeded sports
+ * @param employeeIds   the IDs of the seeded employees
+ */
+record Dataset(int[] departmentIds, int[] sportIds, int[] employeeIds) {
+    /**
+     * Seeds the database of a freshly started application and refreshes the in-memory indexes
+     * and headcounts, which were built from the empty database at startup.
+     *
+     * @param context the running application
+     * @return the seeded dataset
+     */
+    static Dataset seed(ApplicationContext context) throws Exception {
+        Dataset dataset = new DatasetGenerator().generate(context);
+        context.getBean(EmployeeSearchIndex.class).rebuild();
+        context.getBean(EmployeeLocationIndex.class).rebuild();
+        context.getBean(EmployeeColumnStore.class).rebuild();
+        context.getBean(EmployeeHeadcounts.class).reconcile();
+        return dataset;
+    }
+
+    int randomDepartmentId(Random random) {
+        return departmentIds[random.nextInt(departmentIds.length)];
+    }
+
+    int randomSportId(Random random) {
+        return sportIds[random.nextInt(sportIds.length)];
+    }
+
+    int randomEmployeeId(Random random) {
+        return employeeIds[random.nextInt(employeeIds.length)];
+    }
+}
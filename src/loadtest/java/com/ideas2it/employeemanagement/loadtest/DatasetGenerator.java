@@ -0,0 +1,228 @@
+package com.ideas2it.employeemanagement.loadtest;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.ideas2it.employeemanagement.employee.dao.EmployeeBatchRepository;
+import com.ideas2it.employeemanagement.model.BlockTableGenerator;
+import com.ideas2it.employeemanagement.utilities.IdBlockAllocator;
+import com.ideas2it.employeemanagement.utilities.Validator;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ *<p>
+ * Generates departments, sports and employees with addresses and sport memberships, and loads
+ * them with JDBC batch inserts, bypassing the persistence context. The IDs are reserved from the
+ * {@code id_block} rows Hibernate allocates from, so the application keeps working on the data.
+ *</p>
+ *<p>
+ * Department sizes and sport popularity follow a Zipf distribution, so a few departments and
+ * sports hold most of the employees as they do in practice. Each employee plays up to
+ * {@code dataset.max-sports-per-employee} distinct sports. Names are unique and made of
+ * letters only, so generated employees pass validation when they are updated.
+ *</p>
+ *<p>
+ * Employees are loaded in chunks on {@code dataset.threads} connections. Each chunk draws
+ * from its own random generator seeded from {@code dataset.seed} and its position, so the
+ * same settings always produce the same rows however the chunks are scheduled.
+ *</p>
+ * Settings are read from {@code dataset.departments} (10), {@code dataset.sports} (20),
+ * {@code dataset.employees} (10000), {@code dataset.max-sports-per-employee} (3),
+ * {@code dataset.zipf-exponent} (1.0), {@code dataset.seed} (42), {@code dataset.threads} (4)
+ * and {@code dataset.chunk-size} (10000).
+ */
+final class DatasetGenerator {
+    private static final String INSERT_DEPARTMENT =
+            "INSERT INTO department (id, name, is_deleted, version) VALUES (?, ?, ?, 0)";
+
+    private static final String INSERT_SPORT =
+            "INSERT INTO sport (id, name, is_active, version) VALUES (?, ?, ?, 0)";
+
+    private static final String INSERT_EMPLOYEE_SPORT =
+            "INSERT INTO employee_sport (employee_id, sport_id) VALUES (?, ?)";
+
+    private static final String[] FIRST_NAMES = {"Arun", "Kishore", "Santhosh", "Priya", "Divya", "Karthik",
+            "Meena", "Ravi", "Sandeep", "Lakshmi", "Vignesh", "Anitha", "Suresh", "Deepa", "Manoj", "Kavya"};
+    private static final String[] LAST_NAMES = {"Kumar", "Raj", "Krishnan", "Iyer", "Natarajan", "Subramanian",
+            "Reddy", "Nair", "Pillai", "Menon", "Sharma", "Rao"};
+    private static final String[] CITIES = {"Chennai", "Madurai", "Coimbatore", "Salem", "Bengaluru", "Mysuru",
+            "Mangaluru", "Kochi", "Thiruvananthapuram", "Hyderabad", "Warangal", "Mumbai", "Pune"};
+    private static final String[] STATES = {"Tamil Nadu", "Tamil Nadu", "Tamil Nadu", "Tamil Nadu", "Karnataka",
+            "Karnataka", "Karnataka", "Kerala", "Kerala", "Telangana", "Telangana", "Maharashtra", "Maharashtra"};
+
+    private final int departments = Integer.getInteger("dataset.departments", 10);
+    private final int sports = Integer.getInteger("dataset.sports", 20);
+    private final int employees = Integer.getInteger("dataset.employees", 10000);
+    private final int maxSportsPerEmployee = Integer.getInteger("dataset.max-sports-per-employee", 3);
+    private final double zipfExponent = Double.parseDouble(System.getProperty("dataset.zipf-exponent", "1.0"));
+    private final long seed = Long.getLong("dataset.seed", 42L);
+    private final int threads = Integer.getInteger("dataset.threads", 4);
+    private final int chunkSize = Integer.getInteger("dataset.chunk-size", 10000);
+
+    /**
+     * Generates and loads the dataset.
+     *
+     * @param context the running application, whose database receives the rows
+     * @return the IDs of the loaded rows
+     */
+    Dataset generate(ApplicationContext context) throws Exception {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        IdBlockAllocator idBlockAllocator = context.getBean(IdBlockAllocator.class);
+        int[] departmentIds = insertNamed(jdbcTemplate, INSERT_DEPARTMENT, "Department ", departments, false,
+                idBlockAllocator.reserve(BlockTableGenerator.DEPARTMENT_SEGMENT, departments));
+        int[] sportIds = insertNamed(jdbcTemplate, INSERT_SPORT, "Sport ", sports, true,
+                idBlockAllocator.reserve(BlockTableGenerator.SPORT_SEGMENT, sports));
+        int firstAddressId = idBlockAllocator.reserve(BlockTableGenerator.ADDRESS_SEGMENT, employees);
+        int firstEmployeeId = idBlockAllocator.reserve(BlockTableGenerator.EMPLOYEE_SEGMENT, employees);
+
+        ZipfSampler departmentSampler = new ZipfSampler(departments, zipfExponent);
+        ZipfSampler sportSampler = new ZipfSampler(sports, zipfExponent);
+        ExecutorService loaders = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> chunks = new ArrayList<>();
+            for (int from = 0; from < employees; from += chunkSize) {
+                int chunkFrom = from;
+                int chunkTo = Math.min(employees, from + chunkSize);
+                chunks.add(loaders.submit(() -> insertEmployees(jdbcTemplate, chunkFrom, chunkTo,
+                        firstEmployeeId, firstAddressId, departmentIds, sportIds, departmentSampler, sportSampler)));
+            }
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } finally {
+            loaders.shutdownNow();
+        }
+
+        int[] employeeIds = new int[employees];
+        for (int i = 0; i < employees; i++) {
+            employeeIds[i] = firstEmployeeId + i;
+        }
+        return new Dataset(departmentIds, sportIds, employeeIds);
+    }
+
+    private static int[] insertNamed(JdbcTemplate jdbcTemplate, String sql, String prefix, int count,
+                                     boolean flag, int firstId) {
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = firstId + i;
+        }
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setInt(1, ids[i]);
+                ps.setString(2, prefix + letters(i));
+                ps.setBoolean(3, flag);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return count;
+            }
+        });
+        return ids;
+    }
+
+    private void insertEmployees(JdbcTemplate jdbcTemplate, int from, int to, int firstEmployeeId,
+                                 int firstAddressId, int[] departmentIds, int[] sportIds,
+                                 ZipfSampler departmentSampler, ZipfSampler sportSampler) {
+        Random random = new Random(seed * 31 + from);
+        int count = to - from;
+        String[] names = new String[count];
+        LocalDate[] dobs = new LocalDate[count];
+        int[] cities = new int[count];
+        int[] departmentOf = new int[count];
+        List<int[]> assignments = new ArrayList<>(count * maxSportsPerEmployee / 2);
+        int[] playedSports = new int[maxSportsPerEmployee];
+        for (int i = 0; i < count; i++) {
+            names[i] = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + letters(from + i);
+            dobs[i] = LocalDate.of(1960 + random.nextInt(45), 1 + random.nextInt(12), 1 + random.nextInt(28));
+            cities[i] = random.nextInt(CITIES.length);
+            departmentOf[i] = departmentIds[departmentSampler.sample(random)];
+            int played = 0;
+            for (int attempt = random.nextInt(maxSportsPerEmployee + 1); attempt > 0; attempt--) {
+                int sportId = sportIds[sportSampler.sample(random)];
+                boolean alreadyPlayed = false;
+                for (int j = 0; j < played; j++) {
+                    alreadyPlayed |= playedSports[j] == sportId;
+                }
+                if (!alreadyPlayed) {
+                    playedSports[played++] = sportId;
+                    assignments.add(new int[] {firstEmployeeId + from + i, sportId});
+                }
+            }
+        }
+
+        jdbcTemplate.batchUpdate(EmployeeBatchRepository.INSERT_ADDRESS, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setInt(1, firstAddressId + from + i);
+                ps.setString(2, (1 + (from + i) % 300) + " Main Road");
+                ps.setString(3, CITIES[cities[i]]);
+                ps.setString(4, STATES[cities[i]]);
+                ps.setString(5, String.valueOf(600001 + (from + i) % 99999));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return count;
+            }
+        });
+
+        jdbcTemplate.batchUpdate(EmployeeBatchRepository.INSERT_EMPLOYEE, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setInt(1, firstEmployeeId + from + i);
+                ps.setString(2, names[i]);
+                ps.setDate(3, Date.valueOf(dobs[i]));
+                ps.setInt(4, Validator.birthdayKey(dobs[i]));
+                ps.setString(5, names[i].toLowerCase(Locale.ROOT).replace(' ', '.') + "@example.com");
+                ps.setBoolean(6, true);
+                ps.setInt(7, departmentOf[i]);
+                ps.setInt(8, firstAddressId + from + i);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return count;
+            }
+        });
+
+        jdbcTemplate.batchUpdate(INSERT_EMPLOYEE_SPORT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setInt(1, assignments.get(i)[0]);
+                ps.setInt(2, assignments.get(i)[1]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return assignments.size();
+            }
+        });
+    }
+
+    /**
+     * Spells a number in base 26 with letters, least significant digit first and capitalised,
+     * so that generated names stay unique and alphabetic.
+     */
+    private static String letters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ((letters.isEmpty() ? 'A' : 'a') + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+}
@@ -0,0 +1,60 @@
+package com.ideas2it.employeemanagement.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Random;
+import java.util.function.BiFunction;
+
+/**
+ * The REST endpoints a load test scenario can call, each with the path of a random request
+ * against the seeded dataset.
+ */
+enum Endpoint {
+    GET_EMPLOYEE("getEmployee", "GET",
+            (dataset, random) -> "/api/v1/employees/" + dataset.randomEmployeeId(random)),
+    SEARCH_EMPLOYEES("searchEmployees", "GET",
+            (dataset, random) -> "/api/v1/employees/search?q=Employee%20" + random.nextInt(100)),
+    GET_DEPARTMENT("getDepartment", "GET",
+            (dataset, random) -> "/api/v1/departments/" + dataset.randomDepartmentId(random)),
+    GET_DEPARTMENT_EMPLOYEES("getDepartmentEmployees", "GET",
+            (dataset, random) -> "/api/v1/departments/" + dataset.randomDepartmentId(random) + "/employees"),
+    GET_SPORT("getSport", "GET",
+            (dataset, random) -> "/api/v1/sports/" + dataset.randomSportId(random)),
+    COUNT_SPORT_EMPLOYEES("countSportEmployees", "GET",
+            (dataset, random) -> "/api/v1/sports/" + dataset.randomSportId(random) + "/employees/count"),
+    ASSIGN_SPORT("assignSport", "PUT",
+            (dataset, random) -> "/api/v1/employees/" + dataset.randomEmployeeId(random)
+                    + "/addSport/" + dataset.randomSportId(random)),
+    UNASSIGN_SPORT("unassignSport", "PUT",
+            (dataset, random) -> "/api/v1/employees/" + dataset.randomEmployeeId(random)
+                    + "/removeSport/" + dataset.randomSportId(random));
+
+    private final String label;
+    private final String method;
+    private final BiFunction<Dataset, Random, String> path;
+
+    Endpoint(String label, String method, BiFunction<Dataset, Random, String> path) {
+        this.label = label;
+        this.method = method;
+        this.path = path;
+    }
+
+    String label() {
+        return label;
+    }
+
+    HttpRequest request(String baseUrl, Dataset dataset, Random random) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path.apply(dataset, random)))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    static Endpoint byLabel(String label) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.label.equals(label)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Unknown endpoint: " + label);
+    }
+}
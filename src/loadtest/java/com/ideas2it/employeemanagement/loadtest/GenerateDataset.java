@@ -0,0 +1,33 @@
+package com.ideas2it.employeemanagement.loadtest;
+
+import java.util.concurrent.TimeUnit;
+
+import com.ideas2it.employeemanagement.EmployeemanagementApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Loads a synthetic dataset into the database the application is configured for, through the
+ * usual {@code DB_URL}, {@code DB_USERNAME} and password settings, without starting the web
+ * server. Sizes and the other settings are described on {@link DatasetGenerator}, e.g.
+ * {@code mvn -Ploadtest verify -Dloadtest.main=GenerateDataset -Dloadtest.args="-Ddataset.employees=1000000"}.
+ * Against MySQL, add {@code rewriteBatchedStatements=true} to the URL so that each batch is sent
+ * as multi-row inserts rather than one statement per row.
+ */
+public final class GenerateDataset {
+    private GenerateDataset() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EmployeemanagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args)) {
+            long started = System.nanoTime();
+            Dataset dataset = new DatasetGenerator().generate(context);
+            System.out.printf("Loaded %d departments, %d sports and %d employees in %.1f s%n",
+                    dataset.departmentIds().length, dataset.sportIds().length, dataset.employeeIds().length,
+                    (System.nanoTime() - started) / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+}
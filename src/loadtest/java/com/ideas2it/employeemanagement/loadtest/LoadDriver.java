@@ -0,0 +1,195 @@
+package com.ideas2it.employeemanagement.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ *<p>
+ * Drives a running application with clients on virtual threads, each picking the endpoint of
+ * its next request from the mix. Requests scheduled during the warm-up are sent but not recorded.
+ *</p>
+ *<p>
+ * With {@code loadtest.rate} set, the clients together send that many requests per second on a
+ * fixed schedule, and each latency is measured from the time the request was due rather than
+ * the time it was sent. A client stuck behind a slow answer therefore records the wait of every
+ * request it could not send on time, instead of hiding it (coordinated omission). Without a rate
+ * each client sends its next request as soon as the previous one is answered; the percentiles
+ * then only describe the requests that were sent, and understate queueing once the application
+ * saturates.
+ *</p>
+ *<p>
+ * Latencies are recorded per endpoint in HDR histograms with microsecond values and three
+ * significant digits. Answers with a 4xx status, such as assigning a sport the employee already
+ * plays, are counted as rejected but still timed; failed connections and 5xx answers are errors.
+ * Settings are read from {@code loadtest.clients} (1000), {@code loadtest.rate} (0, unpaced),
+ * {@code loadtest.seconds} (30) and {@code loadtest.warmup-seconds} (10).
+ *</p>
+ */
+final class LoadDriver {
+    static final int CLIENTS = Integer.getInteger("loadtest.clients", 1000);
+    static final int SECONDS = Integer.getInteger("loadtest.seconds", 30);
+    static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 10);
+    static final int RATE = Integer.getInteger("loadtest.rate", 0);
+
+    private LoadDriver() {
+    }
+
+    /**
+     * Runs the mix against the application until the measurement window ends.
+     *
+     * @return the results of every endpoint of the mix, in declaration order
+     */
+    static Map<Endpoint, EndpointResult> run(String baseUrl, Dataset dataset, Mix mix) throws Exception {
+        Map<Endpoint, EndpointRecorder> recorders = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : mix.endpoints()) {
+            recorders.put(endpoint, new EndpointRecorder());
+        }
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS);
+        long measureUntil = measureFrom + TimeUnit.SECONDS.toNanos(SECONDS);
+        try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder()
+                     .executor(clientThreads)
+                     .connectTimeout(Duration.ofSeconds(10))
+                     .build()) {
+            long intervalNanos = RATE > 0 ? TimeUnit.SECONDS.toNanos(CLIENTS) / RATE : 0;
+            long firstDue = System.nanoTime();
+            List<Callable<Void>> clients = new ArrayList<>(CLIENTS);
+            for (int i = 0; i < CLIENTS; i++) {
+                long clientFirstDue = firstDue + intervalNanos * i / CLIENTS;
+                clients.add(() -> {
+                    drive(httpClient, baseUrl, dataset, mix, recorders, clientFirstDue, intervalNanos,
+                            measureFrom, measureUntil);
+                    return null;
+                });
+            }
+            for (Future<Void> client : clientThreads.invokeAll(clients)) {
+                client.get();
+            }
+        }
+        double seconds = (double) (System.nanoTime() - measureFrom) / TimeUnit.SECONDS.toNanos(1);
+
+        Map<Endpoint, EndpointResult> results = new EnumMap<>(Endpoint.class);
+        recorders.forEach((endpoint, recorder) -> results.put(endpoint, new EndpointResult(
+                recorder.latencies.getIntervalHistogram(), recorder.rejected.sum(), recorder.errors.sum(), seconds)));
+        return results;
+    }
+
+    /**
+     * @return how the clients pace their requests, for the report heading
+     */
+    static String pacing() {
+        return RATE > 0 ? "sending " + RATE + " req/s on schedule" : "sending as fast as answered";
+    }
+
+    /**
+     * Prints one line per endpoint and a total line.
+     */
+    static void print(PrintStream out, Map<Endpoint, EndpointResult> results) {
+        out.printf("%-24s %10s %10s %10s %10s %10s %10s %8s %8s%n",
+                "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "4xx", "errors");
+        Histogram total = new Histogram(3);
+        long rejected = 0;
+        long errors = 0;
+        double seconds = 0;
+        for (Map.Entry<Endpoint, EndpointResult> result : results.entrySet()) {
+            print(out, result.getKey().label(), result.getValue());
+            total.add(result.getValue().latencies());
+            rejected += result.getValue().rejected();
+            errors += result.getValue().errors();
+            seconds = result.getValue().seconds();
+        }
+        print(out, "total", new EndpointResult(total, rejected, errors, seconds));
+    }
+
+    private static void print(PrintStream out, String label, EndpointResult result) {
+        Histogram latencies = result.latencies();
+        out.printf("%-24s %10d %10.0f %10.2f %10.2f %10.2f %10.2f %8d %8d%n",
+                label, latencies.getTotalCount(), latencies.getTotalCount() / result.seconds(),
+                millis(latencies.getValueAtPercentile(50)), millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getValueAtPercentile(99.9)), millis(latencies.getMaxValue()),
+                result.rejected(), result.errors());
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    /**
+     * Sends requests until the measurement window ends. With an interval, each request is due one
+     * interval after the previous one and its latency counts from that time; without, it is due
+     * when it is sent.
+     */
+    private static void drive(HttpClient httpClient, String baseUrl, Dataset dataset, Mix mix,
+                              Map<Endpoint, EndpointRecorder> recorders, long firstDue, long intervalNanos,
+                              long measureFrom, long measureUntil) throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long due = firstDue;
+        while (due < measureUntil) {
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            long started = intervalNanos > 0 ? due : System.nanoTime();
+            if (started >= measureUntil) {
+                break;
+            }
+            Endpoint endpoint = mix.pick(random);
+            int status;
+            try {
+                status = httpClient.send(endpoint.request(baseUrl, dataset, random),
+                        HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                status = 0;
+            }
+            long answered = System.nanoTime();
+            due = intervalNanos > 0 ? due + intervalNanos : answered;
+            if (started < measureFrom) {
+                continue;
+            }
+            EndpointRecorder recorder = recorders.get(endpoint);
+            if (status == 0 || status >= 500) {
+                recorder.errors.increment();
+                continue;
+            }
+            if (status >= 400) {
+                recorder.rejected.increment();
+            }
+            recorder.latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(answered - started));
+        }
+    }
+
+    /**
+     * The measurements of one endpoint.
+     *
+     * @param latencies the latencies of the answered requests, in microseconds
+     * @param rejected  the number of requests answered with a 4xx status
+     * @param errors    the number of requests that failed or were answered with a 5xx status
+     * @param seconds   the time from the end of the warm-up until the last answer, which is longer
+     *                  than the measurement window when paced clients fall behind schedule
+     */
+    record EndpointResult(Histogram latencies, long rejected, long errors, double seconds) {
+    }
+
+    private static final class EndpointRecorder {
+        private final Recorder latencies = new Recorder(3);
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,53 @@
+package com.ideas2it.employeemanagement.loadtest;
+
+import com.ideas2it.employeemanagement.EmployeemanagementApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the application for a load test on a random port against an in-memory H2 database in
+ * MySQL mode, so a run needs neither a database server nor the network. Every statement is
+ * delayed by {@code loadtest.db-latency-ms} (5) to stand in for the round trip to MySQL. The
+ * pool holds {@code loadtest.pool-size} (20) connections, the size the application ships with.
+ */
+final class LoadTestApplication {
+    static final int DB_LATENCY_MS = Integer.getInteger("loadtest.db-latency-ms", 5);
+    static final int POOL_SIZE = Integer.getInteger("loadtest.pool-size", 20);
+
+    private LoadTestApplication() {
+    }
+
+    /**
+     * Starts the application with its own empty database.
+     *
+     * @param name           the name of the database, unique within the JVM
+     * @param virtualThreads whether requests are handled on virtual threads
+     * @return the running application
+     */
+    static ConfigurableApplicationContext start(String name, boolean virtualThreads) {
+        return new SpringApplicationBuilder(EmployeemanagementApplication.class)
+                .initializers(applicationContext -> applicationContext.getBeanFactory()
+                        .addBeanPostProcessor(SimulatedLatencyDataSource.postProcessor(DB_LATENCY_MS)))
+                .run("--server.port=0",
+                        "--management.server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:" + name
+                                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--spring.datasource.hikari.minimum-idle=" + POOL_SIZE,
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.com.ideas2it=warn");
+    }
+
+    /**
+     * @return the base URL of the running application, without a trailing slash
+     */
+    static String baseUrl(ConfigurableApplicationContext context) {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+}
@@ -0,0 +1,47 @@
+package com.ideas2it.employeemanagement.loadtest;
+
+import java.util.Random;
+
+/**
+ * A weighted choice of endpoints, written as {@code label=weight} pairs separated by commas,
+ * such as {@code getEmployee=80,assignSport=20}.
+ */
+final class Mix {
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+
+    private Mix(Endpoint[] endpoints, int[] cumulativeWeights) {
+        this.endpoints = endpoints;
+        this.cumulativeWeights = cumulativeWeights;
+    }
+
+    static Mix parse(String mix) {
+        String[] entries = mix.split(",");
+        Endpoint[] endpoints = new Endpoint[entries.length];
+        int[] cumulativeWeights = new int[entries.length];
+        int total = 0;
+        for (int i = 0; i < entries.length; i++) {
+            String[] labelAndWeight = entries[i].trim().split("=");
+            endpoints[i] = Endpoint.byLabel(labelAndWeight[0].trim());
+            total += Integer.parseInt(labelAndWeight[1].trim());
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("The mix has no weight: " + mix);
+        }
+        return new Mix(endpoints, cumulativeWeights);
+    }
+
+    Endpoint pick(Random random) {
+        int ticket = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int i = 0;
+        while (cumulativeWeights[i] <= ticket) {
+            i++;
+        }
+        return endpoints[i];
+    }
+
+    Endpoint[] endpoints() {
+        return endpoints.clone();
+    }
+}
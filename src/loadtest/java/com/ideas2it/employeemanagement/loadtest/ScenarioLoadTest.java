@@ -0,0 +1,42 @@
+package com.ideas2it.employeemanagement.loadtest;
+
+import java.util.Map;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ *<p>
+ * Replays a mix of reads and sport assignments against the employee, department and sport
+ * endpoints and reports the throughput and the p50, p99 and p999 latency of each endpoint.
+ *</p>
+ *<p>
+ * The mix is read from {@code loadtest.mix}; the default is 80% reads and 20% sport
+ * assignments. {@code loadtest.virtual-threads} (false) selects the request thread mode, and
+ * the dataset, client and database settings are described on {@link DatasetGenerator},
+ * {@link LoadDriver} and {@link LoadTestApplication}.
+ *</p>
+ */
+public final class ScenarioLoadTest {
+    private static final String MIX = System.getProperty("loadtest.mix",
+            "getEmployee=40,searchEmployees=10,getDepartment=10,getDepartmentEmployees=5,"
+                    + "getSport=10,countSportEmployees=5,assignSport=10,unassignSport=10");
+    private static final boolean VIRTUAL_THREADS = Boolean.getBoolean("loadtest.virtual-threads");
+
+    private ScenarioLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Mix mix = Mix.parse(MIX);
+        try (ConfigurableApplicationContext context = LoadTestApplication.start("scenario", VIRTUAL_THREADS)) {
+            Dataset dataset = Dataset.seed(context);
+            Map<Endpoint, LoadDriver.EndpointResult> results =
+                    LoadDriver.run(LoadTestApplication.baseUrl(context), dataset, mix);
+            System.out.printf("%n%s%n%d clients %s, %d s after %d s warm-up, %d employees, %d ms per statement, "
+                            + "pool of %d connections, %s threads%n",
+                    MIX, LoadDriver.CLIENTS, LoadDriver.pacing(), LoadDriver.SECONDS, LoadDriver.WARMUP_SECONDS,
+                    dataset.employeeIds().length, LoadTestApplication.DB_LATENCY_MS, LoadTestApplication.POOL_SIZE,
+                    VIRTUAL_THREADS ? "virtual" : "platform");
+            LoadDriver.print(System.out, results);
+        }
+    }
+}
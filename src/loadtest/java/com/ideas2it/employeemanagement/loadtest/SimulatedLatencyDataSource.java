@@ -0,0 +1,37 @@
+package com.ideas2it.employeemanagement.loadtest;
+
+import javax.sql.DataSource;
+
+import com.ideas2it.employeemanagement.statements.StatementInterceptingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Wraps the connection pool so that every statement waits for a simulated database round trip
+ * before it runs. The in-memory database answers in microseconds; the delay makes a request
+ * block on the database the way it does against MySQL, with the pooled connection held meanwhile.
+ */
+public class SimulatedLatencyDataSource extends StatementInterceptingDataSource {
+
+    public SimulatedLatencyDataSource(DataSource targetDataSource, long latencyMillis) {
+        super(targetDataSource, execution -> {
+            Thread.sleep(latencyMillis);
+            return execution.proceed();
+        });
+    }
+
+    /**
+     * Wraps the application's DataSource bean when it is created.
+     *
+     * @param latencyMillis the delay added to every statement
+     * @return the post processor to register with the application context
+     */
+    public static BeanPostProcessor postProcessor(long latencyMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && latencyMillis > 0
+                        ? new SimulatedLatencyDataSource(dataSource, latencyMillis) : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.ideas2it.employeemanagement.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ *<p>
+ * Compares request handling on Tomcat's platform thread pool with request handling on virtual
+ * threads. Each mode starts the application with its own database, seeds it, and runs the same
+ * mix, by default fetching employees by ID.
+ *</p>
+ *<p>
+ * Besides the latencies, each mode reports the largest number of requests seen waiting for a
+ * pooled connection: if it stays high, the pool and not the request threads is the limit.
+ * The JVM runs with {@code -Djdk.tracePinnedThreads=short}, so any virtual thread pinned to its
+ * carrier while blocked is printed with the frame holding the monitor.
+ *</p>
+ * The modes are read from {@code loadtest.modes} (platform,virtual) and the mix from
+ * {@code loadtest.mix} (getEmployee=100).
+ */
+public final class ThreadModeLoadTest {
+    private static final String[] MODES = System.getProperty("loadtest.modes", "platform,virtual").split(",");
+    private static final String MIX = System.getProperty("loadtest.mix", "getEmployee=100");
+
+    private ThreadModeLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Mix mix = Mix.parse(MIX);
+        Map<String, Map<Endpoint, LoadDriver.EndpointResult>> results = new LinkedHashMap<>();
+        Map<String, Integer> maxWaiting = new LinkedHashMap<>();
+        for (String mode : MODES) {
+            String name = mode.trim();
+            try (ConfigurableApplicationContext context = LoadTestApplication.start("threads_" + name,
+                    "virtual".equals(name))) {
+                Dataset dataset = Dataset.seed(context);
+                HikariPoolMXBean pool = context.getBean(DataSource.class).unwrap(HikariDataSource.class)
+                        .getHikariPoolMXBean();
+                AtomicInteger waiting = new AtomicInteger();
+                ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+                sampler.scheduleAtFixedRate(
+                        () -> waiting.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max),
+                        0, 100, TimeUnit.MILLISECONDS);
+                try {
+                    results.put(name, LoadDriver.run(LoadTestApplication.baseUrl(context), dataset, mix));
+                } finally {
+                    sampler.shutdownNow();
+                }
+                maxWaiting.put(name, waiting.get());
+            }
+        }
+        System.out.printf("%n%s%n%d clients %s, %d s after %d s warm-up, %d ms per statement, "
+                        + "pool of %d connections%n",
+                MIX, LoadDriver.CLIENTS, LoadDriver.pacing(), LoadDriver.SECONDS, LoadDriver.WARMUP_SECONDS,
+                LoadTestApplication.DB_LATENCY_MS, LoadTestApplication.POOL_SIZE);
+        for (Map.Entry<String, Map<Endpoint, LoadDriver.EndpointResult>> result : results.entrySet()) {
+            System.out.printf("%n%s threads, at most %d requests waiting for a connection%n",
+                    result.getKey(), maxWaiting.get(result.getKey()));
+            LoadDriver.print(System.out, result.getValue());
+        }
+    }
+}
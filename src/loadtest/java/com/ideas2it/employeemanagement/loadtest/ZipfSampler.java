@@ -0,0 +1,29 @@
+package com.ideas2it.employeemanagement.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Draws ranks 0 to n - 1 with probability proportional to {@code 1 / (rank + 1)^exponent}, so
+ * rank 0 is the most frequent. An exponent of 0 draws every rank equally often.
+ */
+final class ZipfSampler {
+    private final double[] cumulative;
+
+    ZipfSampler(int n, double exponent) {
+        cumulative = new double[n];
+        double total = 0;
+        for (int rank = 0; rank < n; rank++) {
+            total += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cumulative[rank] /= total;
+        }
+    }
+
+    int sample(Random random) {
+        int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(rank < 0 ? -rank - 1 : rank, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,60 @@
+package com.ideas2it.employeemanagement.cache.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ideas2it.employeemanagement.cache.dto.CacheStatsDto;
+import io.micrometer.core.annotation.Timed;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller reporting the statistics of the in-process caches
+ * in front of the department and sport lookups.
+ */
+@RestController
+@Timed("employeemanagement.controller")
+@RequestMapping("api/v1/caches")
+public class CacheController {
+    @Autowired
+    private CacheManager cacheManager;
+
+    private static final Logger logger = LogManager.getLogger(CacheController.class);
+
+    /**
+     * Retrieves hit/miss statistics of every cache.
+     *
+     * @return list of {@link CacheStatsDto} with HTTP status 200 OK.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStatsDto>> getCacheStats() {
+        logger.info("Request to get cache statistics");
+            List<CacheStatsDto> cacheStatsDtos = new ArrayList<>();
+            for (String name : cacheManager.getCacheNames()) {
+                Cache cache = cacheManager.getCache(name);
+                if (cache instanceof CaffeineCache caffeineCache) {
+                    com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+                    CacheStats stats = nativeCache.stats();
+                    cacheStatsDtos.add(CacheStatsDto.builder()
+                            .name(name)
+                            .size(nativeCache.estimatedSize())
+                            .hitCount(stats.hitCount())
+                            .missCount(stats.missCount())
+                            .hitRate(stats.hitRate())
+                            .evictionCount(stats.evictionCount())
+                            .build());
+                }
+            }
+            return new ResponseEntity<>(cacheStatsDtos, HttpStatus.OK);
+    }
+}
@@ -5,10 +5,13 @@ import java.util.List;
 import com.ideas2it.employeemanagement.department.dto.DepartmentDto;
 import com.ideas2it.employeemanagement.department.service.DepartmentService;
 import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
+import com.ideas2it.employeemanagement.utilities.ResourceVersions;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,11 +22,15 @@ import org.springframework.web.bind.annotation.*;
  * and manage their associated employee.
  */
 @RestController
+@Timed("employeemanagement.controller")
 @RequestMapping("api/v1/departments")
 public class DepartmentController {
     @Autowired
     private  DepartmentService departmentService;
 
+    @Autowired
+    private ResourceVersions resourceVersions;
+
     private static final Logger logger = LogManager.getLogger(DepartmentController.class);
 
     /**
@@ -55,28 +62,38 @@ public class DepartmentController {
     }
 
     /**
-     * Retrieves a list of all active department.
+     * Retrieves one page of active departments ordered by ID.
+     * The ID of the last department in the page is the cursor for the next page.
      *
-     * @return A list of department DTOs with HTTP status 200 OK.
+     * @param after The last department ID of the previous page, 0 for the first page.
+     * @param limit The maximum number of departments to return.
+     * @param ifNoneMatch The ETag of the page the client already holds, if any.
+     * @return A list of department DTOs with HTTP status 200 OK, or 304 Not Modified without a body.
      */
     @GetMapping
-    public ResponseEntity<List<DepartmentDto>> getAllDepartments() {
-        logger.info("Retrieving list of all departments");
-            List<DepartmentDto> departmentDtos = departmentService.getAllDepartments();
+    public ResponseEntity<List<DepartmentDto>> getAllDepartments(@RequestParam(defaultValue = "0") int after,
+                                                                 @RequestParam(defaultValue = "50") int limit,
+                                                                 @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        logger.info("Retrieving list of departments after ID: {} with limit: {}", after, limit);
+            String eTag = resourceVersions.getDepartmentsETag(after, limit);
+            if (ResourceVersions.matches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+            List<DepartmentDto> departmentDtos = departmentService.getAllDepartments(after, limit);
             logger.info("Retrieved {} departments", departmentDtos.size());
-            return new ResponseEntity<>(departmentDtos, HttpStatus.OK);
+            return ResponseEntity.ok().eTag(eTag).body(departmentDtos);
     }
 
     /**
      * Retrieves a department by ID.
      *
      * @param id The ID of the department.
-     * @return The department DTO with HTTP status 200 OK.
+     * @return The department DTO with its number of active employees and HTTP status 200 OK.
      */
     @GetMapping("/{id}")
     public ResponseEntity<DepartmentDto> getDepartmentById(@PathVariable int id) {
         logger.info("Retrieving department with ID: {}", id);
-            DepartmentDto departmentDto = departmentService.getDepartmentById(id);
+            DepartmentDto departmentDto = departmentService.getDepartmentWithEmployeeCount(id);
             logger.info("Retrieved department with ID: {}", id);
             return new ResponseEntity<>(departmentDto, HttpStatus.OK);
     }
@@ -109,4 +126,16 @@ public class DepartmentController {
             logger.info("Retrieved {} employees for department with ID: {}", employeeDtos.size(), departmentId);
             return new ResponseEntity<>(employeeDtos, HttpStatus.OK);
     }
-}
\ No newline at end of file
+
+    /**
+     * Counts the active employees in the department without loading them.
+     *
+     * @param departmentId The ID of the department.
+     * @return The number of active employees with HTTP status 200 OK.
+     */
+    @GetMapping("/{departmentId}/employees/count")
+    public ResponseEntity<Long> getActiveEmployeeCount(@PathVariable int departmentId) {
+            long count = departmentService.getActiveEmployeeCount(departmentId);
+            return new ResponseEntity<>(count, HttpStatus.OK);
+    }
+}
@@ -1,7 +1,15 @@
 package com.ideas2it.employeemanagement.department.dao;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.ideas2it.employeemanagement.department.dto.DepartmentDto;
 import com.ideas2it.employeemanagement.model.Department;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Repository interface for managing Department entities.
@@ -10,5 +18,34 @@ import org.springframework.data.repository.CrudRepository;
  */
 public interface DepartmentRepository extends CrudRepository<Department, Integer> {
 
-    boolean existsByName(String name);
+    /**
+     * Retrieves the next page of departments that are not deleted after the given cursor,
+     * selected straight into DTOs without loading the entities.
+     *
+     * @param after    the last department ID of the previous page, 0 for the first page
+     * @param pageable the page size to fetch
+     * @return the departments with an ID greater than {@code after}
+     */
+    @Query("SELECT new com.ideas2it.employeemanagement.department.dto.DepartmentDto(d.id, d.name) "
+            + "FROM Department d WHERE d.isDeleted = false AND d.id > :after ORDER BY d.id")
+    List<DepartmentDto> findActiveDepartmentsAfter(@Param("after") int after, Pageable pageable);
+
+    /**
+     * Retrieves a department that is not deleted, selected straight into a DTO.
+     *
+     * @param id the ID of the department
+     * @return the department, or empty when it does not exist or is deleted
+     */
+    @Query("SELECT new com.ideas2it.employeemanagement.department.dto.DepartmentDto(d.id, d.name) "
+            + "FROM Department d WHERE d.isDeleted = false AND d.id = :id")
+    Optional<DepartmentDto> findActiveDepartmentById(@Param("id") int id);
+
+    /**
+     * Retrieves which of the given department IDs belong to departments that are not deleted.
+     *
+     * @param ids the department IDs to check
+     * @return the subset of {@code ids} that are active departments
+     */
+    @Query("SELECT d.id FROM Department d WHERE d.isDeleted = false AND d.id IN :ids")
+    List<Integer> findActiveDepartmentIds(@Param("ids") Collection<Integer> ids);
 }
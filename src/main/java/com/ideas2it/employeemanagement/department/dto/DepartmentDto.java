@@ -1,5 +1,7 @@
 package com.ideas2it.employeemanagement.department.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
@@ -23,5 +25,20 @@ public class DepartmentDto {
     @Pattern(regexp = "^[a-zA-Z]+([ ][a-zA-Z]+)*$", message = "Name should be alphabets" )
     private String name;
 
+    /**
+     * Number of active employees in the department, read from the in-process headcounts.
+     * Left out of the response where it is not filled in, such as inside an employee.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long activeEmployeeCount;
+
+    /**
+     * Used by the JPQL constructor expressions of the repository.
+     */
+    public DepartmentDto(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
 }
 
@@ -1,6 +1,7 @@
 package com.ideas2it.employeemanagement.department.service;
 
 import java.util.List;
+import java.util.Set;
 
 import com.ideas2it.employeemanagement.department.dto.DepartmentDto;
 import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
@@ -24,11 +25,13 @@ public interface DepartmentService {
     DepartmentDto addDepartment(DepartmentDto departmentDto);
 
     /**
-     * Retrieves all active department.
+     * Retrieves one page of active departments ordered by ID.
      *
+     * @param after the last department ID of the previous page, 0 for the first page
+     * @param limit the maximum number of departments to return
      * @return a list of active department entities
      */
-    List<DepartmentDto> getAllDepartments();
+    List<DepartmentDto> getAllDepartments(int after, int limit);
 
     /**
      * Retrieves an departemnt by their ID.
@@ -38,6 +41,31 @@ public interface DepartmentService {
      */
     DepartmentDto getDepartmentById(int id);
 
+    /**
+     * Retrieves a department by ID together with its number of active employees.
+     * Always reads the department itself, so the cached lookup used by employee writes is not shared.
+     *
+     * @param id the ID of the department to be retrieved
+     * @return the department with its headcount
+     */
+    DepartmentDto getDepartmentWithEmployeeCount(int id);
+
+    /**
+     * Reads the number of active employees in the department from the in-process headcounts.
+     *
+     * @param departmentId the ID of the department
+     * @return the number of active employees in the department
+     */
+    long getActiveEmployeeCount(int departmentId);
+
+    /**
+     * Resolves which of the given department IDs are active, in a single lookup.
+     *
+     * @param ids the department IDs to resolve
+     * @return the IDs of the departments that exist and are not deleted
+     */
+    Set<Integer> getActiveDepartmentIds(Set<Integer> ids);
+
     /**
      * Updates an existing department.
      *
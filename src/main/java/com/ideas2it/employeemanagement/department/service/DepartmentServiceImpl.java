@@ -1,20 +1,26 @@
 package com.ideas2it.employeemanagement.department.service;
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.ideas2it.employeemanagement.department.dto.DepartmentDto;
 import com.ideas2it.employeemanagement.department.dao.DepartmentRepository;
 import com.ideas2it.employeemanagement.department.mapper.DepartmentMapper;
+import com.ideas2it.employeemanagement.employee.dao.EmployeeQueryRepository;
 import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
-import com.ideas2it.employeemanagement.employee.mapper.EmployeeMapper;
-import com.ideas2it.employeemanagement.exceptions.ResourceAlreadyExistsException;
+import com.ideas2it.employeemanagement.employee.service.EmployeeHeadcounts;
 import com.ideas2it.employeemanagement.exceptions.ResourceNotFoundException;
 import com.ideas2it.employeemanagement.model.Department;
-import com.ideas2it.employeemanagement.model.Employee;
+import com.ideas2it.employeemanagement.utilities.ResourceVersions;
+import com.ideas2it.employeemanagement.utilities.Validator;
+import io.micrometer.core.annotation.Timed;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 /**
@@ -24,53 +30,92 @@ import org.springframework.stereotype.Service;
  * @author  Kishore
  */
 @Service
+@Timed("employeemanagement.service")
 public class DepartmentServiceImpl implements DepartmentService {
+    /**
+     * Active departments by ID. Read on every employee write, so lookups are served
+     * from here and entries are evicted whenever the department changes.
+     */
+    public static final String DEPARTMENT_CACHE = "departments";
+
     @Autowired
     private DepartmentRepository departmentRepository;
 
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private EmployeeQueryRepository employeeQueryRepository;
+
+    @Autowired
+    private EmployeeHeadcounts employeeHeadcounts;
+
     private static final Logger logger = LogManager.getLogger(DepartmentServiceImpl.class);
 
     @Override
     public DepartmentDto addDepartment(DepartmentDto departmentDto) {
-        if (departmentRepository.existsByName(departmentDto.getName())) {
-            logger.error("Department already exists with name: {}", departmentDto.getName());
-            throw new ResourceAlreadyExistsException("Department already exists with name: " + departmentDto.getName());
-        }
         Department department = DepartmentMapper.mapToDepartment(departmentDto);
         Department createdDepartment = departmentRepository.save(department);
+        resourceVersions.departmentsChanged();
         logger.info("Adding department with name: {}",departmentDto.getName());
         return DepartmentMapper.mapToDepartmentDto(createdDepartment);
     }
 
     @Override
-    public List<DepartmentDto> getAllDepartments() {
-        List<Department> departments = new ArrayList<>();
-        Iterable<Department> allDepartments = departmentRepository.findAll();
-        for (Department department : allDepartments) {
-            if (!department.isDeleted()) {
-                departments.add(department);
-            }
-        }
-        List<DepartmentDto> departmentDtos = new ArrayList<>();
-        for (Department department : departments) {
-            departmentDtos.add(DepartmentMapper.mapToDepartmentDto(department));
+    public List<DepartmentDto> getAllDepartments(int after, int limit) {
+        List<DepartmentDto> departmentDtos = departmentRepository.findActiveDepartmentsAfter(
+                after, PageRequest.of(0, Validator.validateLimit(limit)));
+        for (DepartmentDto departmentDto : departmentDtos) {
+            departmentDto.setActiveEmployeeCount(employeeHeadcounts.getDepartmentCount(departmentDto.getId()));
         }
         logger.info("Retrieving list of all departments");
         return departmentDtos;
     }
 
     @Override
+    @Cacheable(cacheNames = DEPARTMENT_CACHE, key = "#id")
     public DepartmentDto getDepartmentById(int id) {
-        Department department = departmentRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Department not found with ID: " + id));
-        if (department.isDeleted()) {
-            logger.error("Department is deleted with ID: " + id);
-            throw new ResourceNotFoundException("Department is deleted with ID: " + id);
+        return departmentRepository.findActiveDepartmentById(id)
+                .orElseThrow(() -> {
+                    if (!departmentRepository.existsById(id)) {
+                        return new ResourceNotFoundException("Department not found with ID: " + id);
+                    }
+                    logger.error("Department is deleted with ID: " + id);
+                    return new ResourceNotFoundException("Department is deleted with ID: " + id);
+                });
+    }
+
+    @Override
+    public DepartmentDto getDepartmentWithEmployeeCount(int id) {
+        DepartmentDto departmentDto = departmentRepository.findActiveDepartmentById(id)
+                .orElseThrow(() -> {
+                    if (!departmentRepository.existsById(id)) {
+                        return new ResourceNotFoundException("Department not found with ID: " + id);
+                    }
+                    return new ResourceNotFoundException("Department is deleted with ID: " + id);
+                });
+        departmentDto.setActiveEmployeeCount(employeeHeadcounts.getDepartmentCount(id));
+        return departmentDto;
+    }
+
+    @Override
+    public long getActiveEmployeeCount(int departmentId) {
+        if (!departmentRepository.existsById(departmentId)) {
+            throw new ResourceNotFoundException("Department not found with ID: " + departmentId);
         }
-        return DepartmentMapper.mapToDepartmentDto(department);
+        return employeeHeadcounts.getDepartmentCount(departmentId);
     }
 
     @Override
+    public Set<Integer> getActiveDepartmentIds(Set<Integer> ids) {
+        if (ids.isEmpty()) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(departmentRepository.findActiveDepartmentIds(ids));
+    }
+
+    @Override
+    @CacheEvict(cacheNames = DEPARTMENT_CACHE, key = "#id")
     public DepartmentDto updateDepartment(int id, DepartmentDto departmentDto) {
         Department existingDepartment = departmentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Department not found with ID: " + id));
@@ -80,11 +125,13 @@ public class DepartmentServiceImpl implements DepartmentService {
         }
         existingDepartment.setName(departmentDto.getName());
         Department updatedDepartment = departmentRepository.save(existingDepartment);
+        resourceVersions.departmentsChanged();
         logger.info("Updated department with name {}",departmentDto.getName());
         return DepartmentMapper.mapToDepartmentDto(updatedDepartment);
     }
 
     @Override
+    @CacheEvict(cacheNames = DEPARTMENT_CACHE, key = "#id")
     public void deleteDepartment(int id) {
         Department existingDepartment = departmentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Department not found with ID: " + id));
@@ -93,24 +140,16 @@ public class DepartmentServiceImpl implements DepartmentService {
         }
         existingDepartment.setDeleted(true);
         departmentRepository.save(existingDepartment);
+        resourceVersions.departmentsChanged();
         logger.info("Department is Deleted {}",existingDepartment.getName());
     }
 
     @Override
     public List<EmployeeDto> getEmployeesByDepartmentId(int departmentId) {
-        Department department = departmentRepository.findById(departmentId)
-                .orElseThrow(() -> new ResourceNotFoundException("Department not found with ID: " + departmentId));
-
-        List<Employee> activeEmployees = new ArrayList<>();
-        for (Employee employee : department.getEmployees()) {
-            if (employee.isActive()) {
-                activeEmployees.add(employee);
-            }
-        }
-        List<EmployeeDto> employeeDtos = new ArrayList<>();
-        for (Employee employee : activeEmployees) {
-            employeeDtos.add(EmployeeMapper.mapToEmployeeDto(employee));
+        if (!departmentRepository.existsById(departmentId)) {
+            throw new ResourceNotFoundException("Department not found with ID: " + departmentId);
         }
+        List<EmployeeDto> employeeDtos = employeeQueryRepository.findActiveByDepartmentId(departmentId);
         logger.info("Retrieving list of Employee in Department{}",employeeDtos.size());
         return employeeDtos;
     }
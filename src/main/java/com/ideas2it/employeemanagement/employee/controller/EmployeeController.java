@@ -1,18 +1,44 @@
 package com.ideas2it.employeemanagement.employee.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.ideas2it.employeemanagement.department.service.DepartmentService;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeAddressFilterDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeAgeFilterDto;
 import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeImportResultDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeSearchDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeStatusUpdateRequestDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeStatusUpdateResultDto;
+import com.ideas2it.employeemanagement.employee.dto.LocationCountDto;
+import com.ideas2it.employeemanagement.employee.dto.SportAssignmentRequestDto;
+import com.ideas2it.employeemanagement.employee.dto.SportAssignmentResultDto;
+import com.ideas2it.employeemanagement.employee.mapper.EmployeeCsvMapper;
 import com.ideas2it.employeemanagement.employee.service.EmployeeService;
 import com.ideas2it.employeemanagement.sport.service.SportService;
+import com.ideas2it.employeemanagement.utilities.ResourceVersions;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * REST controller for managing Employee entities.
@@ -20,19 +46,33 @@ import java.util.List;
  * and manage their associated department & sports.
  */
 @RestController
+@Timed("employeemanagement.controller")
 @RequestMapping("api/v1/employees")
 public class EmployeeController {
     @Autowired
     private EmployeeService employeeService;
 
+    @Autowired
+    private ResourceVersions resourceVersions;
+
     @Autowired
     private DepartmentService departmentService;
 
     @Autowired
     private SportService sportService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${employeemanagement.export.timeout-ms:1800000}")
+    private long exportTimeoutMs;
+
     private static final Logger logger = LogManager.getLogger(EmployeeController.class);
 
+    private static final int EXPORT_FLUSH_SIZE = 500;
+
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     /**
      * Creates a new employee.
      *
@@ -41,37 +81,215 @@ public class EmployeeController {
      */
     @PostMapping
     public ResponseEntity<EmployeeDto> addEmployee(@Valid @RequestBody EmployeeDto employeeDto) {
-        logger.info("Request to create employee with details: {}", employeeDto);
+        logger.info("Request to create employee with name: {}", employeeDto.getName());
             EmployeeDto createdEmployeeDto = employeeService.addEmployee(employeeDto);
             logger.info("Employee created with ID: {}", createdEmployeeDto.getId());
             return new ResponseEntity<>(createdEmployeeDto, HttpStatus.CREATED);
     }
 
     /**
-     * Retrieves a list of all active employees.
+     * Imports many employees from a JSON array in one request.
      *
-     * @return A list of employee DTOs with HTTP status 200 OK.
+     * @param employeeDtos {@link EmployeeDto} The employees to be created.
+     * @return The import summary with per-row failures and HTTP status 200 OK.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EmployeeImportResultDto> importEmployees(@RequestBody List<EmployeeDto> employeeDtos) {
+        logger.info("Request to import {} employees", employeeDtos.size());
+            EmployeeImportResultDto importResult = employeeService.importEmployees(employeeDtos);
+            logger.info("Imported {} of {} employees", importResult.getImportedCount(), importResult.getTotalCount());
+            return new ResponseEntity<>(importResult, HttpStatus.OK);
+    }
+
+    /**
+     * Imports many employees from CSV text whose first line is the column header.
+     *
+     * @param csv The CSV text with one employee per line.
+     * @return The import summary with per-row failures and HTTP status 200 OK.
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<EmployeeImportResultDto> importEmployeesFromCsv(@RequestBody String csv) {
+        Map<Integer, String> rejectedRows = new HashMap<>();
+        List<EmployeeDto> employeeDtos = EmployeeCsvMapper.mapToEmployeeDtos(csv, rejectedRows);
+        logger.info("Request to import {} employees from CSV", employeeDtos.size());
+            EmployeeImportResultDto importResult = employeeService.importEmployees(employeeDtos, rejectedRows);
+            logger.info("Imported {} of {} employees", importResult.getImportedCount(), importResult.getTotalCount());
+            return new ResponseEntity<>(importResult, HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves one page of active employees ordered by ID.
+     * The ID of the last employee in the page is the cursor for the next page.
+     *
+     * @param after The last employee ID of the previous page, 0 for the first page.
+     * @param limit The maximum number of employees to return.
+     * @param ifNoneMatch The ETag of the page the client already holds, if any.
+     * @return A list of employee DTOs with HTTP status 200 OK, or 304 Not Modified without a body.
      */
     @GetMapping
-    public ResponseEntity<List<EmployeeDto>> getAllEmployees() {
-        logger.info("Request to retrieve all employees");
-            List<EmployeeDto> employeeDtos = employeeService.getAllEmployees();
+    public ResponseEntity<List<EmployeeDto>> getAllEmployees(@RequestParam(defaultValue = "0") int after,
+                                                             @RequestParam(defaultValue = "50") int limit,
+                                                             @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        logger.info("Request to retrieve employees after ID: {} with limit: {}", after, limit);
+            String eTag = resourceVersions.getEmployeesETag(after, limit);
+            if (ResourceVersions.matches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+            List<EmployeeDto> employeeDtos = employeeService.getAllEmployees(after, limit);
+            logger.info("Retrieved {} employees", employeeDtos.size());
+            return ResponseEntity.ok().eTag(eTag).body(employeeDtos);
+    }
+
+    /**
+     * Exports every active employee as newline-delimited JSON.
+     * Rows are written and flushed as they are read, so memory use does not grow with the table.
+     * The stream gets its own async timeout, long enough for the whole table, so other async
+     * requests keep the default.
+     *
+     * @param webRequest The current request, whose async timeout is raised.
+     * @return A chunked NDJSON stream of employee DTOs with HTTP status 200 OK.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportEmployees(NativeWebRequest webRequest) {
+        logger.info("Request to export all employees");
+        if (webRequest instanceof AsyncWebRequest asyncWebRequest) {
+            asyncWebRequest.setTimeout(exportTimeoutMs);
+        }
+        ObjectWriter writer = objectMapper.writerFor(EmployeeDto.class);
+        StreamingResponseBody body = outputStream -> {
+            AtomicInteger pendingRows = new AtomicInteger();
+            int exportedCount = employeeService.exportEmployees(employeeDto -> {
+                try {
+                    outputStream.write(writer.writeValueAsBytes(employeeDto));
+                    outputStream.write('\n');
+                    if (pendingRows.incrementAndGet() == EXPORT_FLUSH_SIZE) {
+                        outputStream.flush();
+                        pendingRows.set(0);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            outputStream.flush();
+            logger.info("Exported {} employees", exportedCount);
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Retrieves one page of active employees filtered by city, state and/or zip prefix.
+     * The ID of the last employee in the page is the cursor for the next page.
+     *
+     * @param employeeAddressFilterDto {@link EmployeeAddressFilterDto} The address filters, read from the query string.
+     * @param after The last employee ID of the previous page, 0 for the first page.
+     * @param limit The maximum number of employees to return.
+     * @return A list of employee DTOs with HTTP status 200 OK.
+     */
+    @GetMapping("/byAddress")
+    public ResponseEntity<List<EmployeeDto>> getEmployeesByAddress(@Valid EmployeeAddressFilterDto employeeAddressFilterDto,
+                                                                   @RequestParam(defaultValue = "0") int after,
+                                                                   @RequestParam(defaultValue = "50") int limit) {
+        logger.info("Request to retrieve employees by address after ID: {} with limit: {}", after, limit);
+            List<EmployeeDto> employeeDtos = employeeService.getEmployeesByAddress(employeeAddressFilterDto, after, limit);
             logger.info("Retrieved {} employees", employeeDtos.size());
             return new ResponseEntity<>(employeeDtos, HttpStatus.OK);
     }
 
+    /**
+     * Retrieves one page of active employees whose age is inside a range, both bounds inclusive.
+     * The ID of the last employee in the page is the cursor for the next page.
+     *
+     * @param employeeAgeFilterDto {@link EmployeeAgeFilterDto} The minimum and maximum age, read from the query string.
+     * @param after The last employee ID of the previous page, 0 for the first page.
+     * @param limit The maximum number of employees to return.
+     * @return A list of employee DTOs with HTTP status 200 OK.
+     */
+    @GetMapping("/byAge")
+    public ResponseEntity<List<EmployeeDto>> getEmployeesByAge(@Valid EmployeeAgeFilterDto employeeAgeFilterDto,
+                                                               @RequestParam(defaultValue = "0") int after,
+                                                               @RequestParam(defaultValue = "50") int limit) {
+        logger.info("Request to retrieve employees aged {} to {}", employeeAgeFilterDto.getMinAge(), employeeAgeFilterDto.getMaxAge());
+            List<EmployeeDto> employeeDtos = employeeService.getEmployeesByAge(employeeAgeFilterDto, after, limit);
+            logger.info("Retrieved {} employees", employeeDtos.size());
+            return new ResponseEntity<>(employeeDtos, HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the active employees whose birthday is today or within the next days.
+     *
+     * @param days The number of days after today to include, at most 366.
+     * @param limit The maximum number of employees to return.
+     * @return A list of employee DTOs, nearest birthday first, with HTTP status 200 OK.
+     */
+    @GetMapping("/birthdays")
+    public ResponseEntity<List<EmployeeDto>> getUpcomingBirthdays(@RequestParam(defaultValue = "30") int days,
+                                                                  @RequestParam(defaultValue = "50") int limit) {
+            List<EmployeeDto> employeeDtos = employeeService.getUpcomingBirthdays(days, limit);
+            return new ResponseEntity<>(employeeDtos, HttpStatus.OK);
+    }
+
+    /**
+     * Counts the active employees of every city, optionally within one state.
+     *
+     * @param state The state to restrict the counts to, if any.
+     * @return One count per state and city with HTTP status 200 OK.
+     */
+    @GetMapping("/countByCity")
+    public ResponseEntity<List<LocationCountDto>> getEmployeeCountsByCity(@RequestParam(required = false) String state) {
+            List<LocationCountDto> locationCountDtos = employeeService.getEmployeeCountsByCity(state);
+            return new ResponseEntity<>(locationCountDtos, HttpStatus.OK);
+    }
+
+    /**
+     * Counts the active employees of every state.
+     *
+     * @return One count per state with HTTP status 200 OK.
+     */
+    @GetMapping("/countByState")
+    public ResponseEntity<List<LocationCountDto>> getEmployeeCountsByState() {
+            List<LocationCountDto> locationCountDtos = employeeService.getEmployeeCountsByState();
+            return new ResponseEntity<>(locationCountDtos, HttpStatus.OK);
+    }
+
+    /**
+     * Typeahead search over the names and email IDs of active employees.
+     *
+     * @param q The prefix typed by the user.
+     * @param limit The maximum number of employees to return.
+     * @return The matching employees with HTTP status 200 OK.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<EmployeeSearchDto>> searchEmployees(@RequestParam String q,
+                                                                   @RequestParam(defaultValue = "10") int limit) {
+            List<EmployeeSearchDto> employeeSearchDtos = employeeService.searchEmployees(q, limit);
+            return new ResponseEntity<>(employeeSearchDtos, HttpStatus.OK);
+    }
+
     /**
      * Retrieves an employee by ID.
      *
+     * When the client's ETag matches the employee's last known version, 304 is returned
+     * without loading the employee.
+     *
      * @param id The ID of the employee.
-     * @return The employee DTO with HTTP status 200 OK.
+     * @param ifNoneMatch The ETag of the employee the client already holds, if any.
+     * @return The employee DTO with HTTP status 200 OK, or 304 Not Modified without a body.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeDto> getEmployeeById(@Valid @PathVariable int id) {
+    public ResponseEntity<EmployeeDto> getEmployeeById(@Valid @PathVariable int id,
+                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         logger.info("Request to retrieve employee with ID: {}", id);
+            String eTag = resourceVersions.getEmployeeETag(id);
+            if (ResourceVersions.matches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+            long readStamp = resourceVersions.beginEmployeeRead();
             EmployeeDto employeeDto = employeeService.getEmployeeById(id);
+            eTag = resourceVersions.recordEmployeeVersion(id, employeeDto.getVersion(), readStamp);
             logger.info("Retrieved employee with ID: {}", id);
-            return new ResponseEntity<>(employeeDto, HttpStatus.OK);
+            return ResponseEntity.ok().eTag(eTag).body(employeeDto);
     }
 
     /**
@@ -89,6 +307,22 @@ public class EmployeeController {
             return new ResponseEntity<>(updatedEmployeeDto, HttpStatus.OK);
     }
 
+    /**
+     * Partially updates an existing employee with a JSON Merge Patch (RFC 7386). Only the
+     * fields present in the patch are changed, and only the changed columns are written.
+     *
+     * @param id The ID of the employee to be updated.
+     * @param mergePatch The merge patch with the fields to change.
+     * @return The updated employee DTO with HTTP status 200 OK.
+     */
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<EmployeeDto> patchEmployee(@PathVariable int id, @RequestBody ObjectNode mergePatch) {
+        logger.info("Request to patch employee with ID: {}", id);
+            EmployeeDto updatedEmployeeDto = employeeService.patchEmployee(id, mergePatch);
+            logger.info("Patched employee with ID: {}", id);
+            return new ResponseEntity<>(updatedEmployeeDto, HttpStatus.OK);
+    }
+
     /**
      * Deletes an employee by ID.
      *
@@ -103,6 +337,36 @@ public class EmployeeController {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
+    /**
+     * Deactivates every employee selected by IDs or by a department/city filter.
+     *
+     * @param employeeStatusUpdateRequestDto {@link EmployeeStatusUpdateRequestDto} The IDs or filter.
+     * @return The number of employees deactivated with HTTP status 200 OK.
+     */
+    @PutMapping("/deactivate")
+    public ResponseEntity<EmployeeStatusUpdateResultDto> deactivateEmployees(
+            @Valid @RequestBody EmployeeStatusUpdateRequestDto employeeStatusUpdateRequestDto) {
+        logger.info("Request to deactivate employees");
+            EmployeeStatusUpdateResultDto result = employeeService.deactivateEmployees(employeeStatusUpdateRequestDto);
+            logger.info("Deactivated {} employees", result.getAffectedCount());
+            return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
+    /**
+     * Reactivates every employee selected by IDs or by a department/city filter.
+     *
+     * @param employeeStatusUpdateRequestDto {@link EmployeeStatusUpdateRequestDto} The IDs or filter.
+     * @return The number of employees reactivated with HTTP status 200 OK.
+     */
+    @PutMapping("/reactivate")
+    public ResponseEntity<EmployeeStatusUpdateResultDto> reactivateEmployees(
+            @Valid @RequestBody EmployeeStatusUpdateRequestDto employeeStatusUpdateRequestDto) {
+        logger.info("Request to reactivate employees");
+            EmployeeStatusUpdateResultDto result = employeeService.reactivateEmployees(employeeStatusUpdateRequestDto);
+            logger.info("Reactivated {} employees", result.getAffectedCount());
+            return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
     /**
      * Adds a sport to an employee's list of sports.
      *
@@ -118,6 +382,21 @@ public class EmployeeController {
             return new ResponseEntity<>(updatedEmployeeDto, HttpStatus.OK);
     }
 
+    /**
+     * Assigns sports to many employees in one request.
+     *
+     * @param sportAssignmentRequestDto {@link SportAssignmentRequestDto} The pairs, or one sport and its employees.
+     * @return The outcome of every pair with HTTP status 200 OK.
+     */
+    @PutMapping("/addSports")
+    public ResponseEntity<List<SportAssignmentResultDto>> addSportsToEmployees(
+            @Valid @RequestBody SportAssignmentRequestDto sportAssignmentRequestDto) {
+        logger.info("Request to add sports to employees in batch");
+            List<SportAssignmentResultDto> results = employeeService.addSportsToEmployees(sportAssignmentRequestDto);
+            logger.info("Processed {} sport assignments", results.size());
+            return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+
     /**
      * Removes a sport from an employee's list of sports.
      *
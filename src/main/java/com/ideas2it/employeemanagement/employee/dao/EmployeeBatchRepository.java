@@ -0,0 +1,91 @@
+package com.ideas2it.employeemanagement.employee.dao;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
+import com.ideas2it.employeemanagement.model.BlockTableGenerator;
+import com.ideas2it.employeemanagement.utilities.IdBlockAllocator;
+import com.ideas2it.employeemanagement.utilities.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository that writes employees with JDBC batch statements instead of one entity at a time.
+ * Used by bulk operations where the per-row overhead of the persistence context is not wanted.
+ */
+@Repository
+public class EmployeeBatchRepository {
+    /**
+     * Inserts one address, taking the ID, street, city, state and zip.
+     */
+    public static final String INSERT_ADDRESS =
+            "INSERT INTO address (id, street, city, state, zip) VALUES (?, ?, ?, ?, ?)";
+
+    /**
+     * Inserts one employee, taking the ID, name, date of birth, birthday key, email ID,
+     * active flag, department ID and address ID.
+     */
+    public static final String INSERT_EMPLOYEE =
+            "INSERT INTO employee (id, name, dob, birthday, email_id, is_active, version, department_id, address_id) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdBlockAllocator idBlockAllocator;
+
+    /**
+     * Inserts the given employees and their addresses as two JDBC batches.
+     * IDs are reserved up front from the same blocks Hibernate uses, so no generated keys are read back.
+     * Every employee is stored as active.
+     *
+     * @param employeeDtos {@link EmployeeDto} the validated employees to insert
+     */
+    public void insertEmployees(List<EmployeeDto> employeeDtos) {
+        int firstAddressId = idBlockAllocator.reserve(BlockTableGenerator.ADDRESS_SEGMENT, employeeDtos.size());
+        int firstEmployeeId = idBlockAllocator.reserve(BlockTableGenerator.EMPLOYEE_SEGMENT, employeeDtos.size());
+
+        jdbcTemplate.batchUpdate(INSERT_ADDRESS, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                EmployeeDto employeeDto = employeeDtos.get(i);
+                ps.setInt(1, firstAddressId + i);
+                ps.setString(2, employeeDto.getStreet());
+                ps.setString(3, employeeDto.getCity());
+                ps.setString(4, employeeDto.getState());
+                ps.setString(5, employeeDto.getZip());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return employeeDtos.size();
+            }
+        });
+
+        jdbcTemplate.batchUpdate(INSERT_EMPLOYEE, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                EmployeeDto employeeDto = employeeDtos.get(i);
+                ps.setInt(1, firstEmployeeId + i);
+                ps.setString(2, employeeDto.getName());
+                ps.setDate(3, Date.valueOf(employeeDto.getDob()));
+                ps.setInt(4, Validator.birthdayKey(employeeDto.getDob()));
+                ps.setString(5, employeeDto.getEmailId());
+                ps.setBoolean(6, true);
+                ps.setInt(7, employeeDto.getDepartmentID());
+                ps.setInt(8, firstAddressId + i);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return employeeDtos.size();
+            }
+        });
+    }
+}
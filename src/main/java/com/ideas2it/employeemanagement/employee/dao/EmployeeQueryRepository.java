@@ -0,0 +1,441 @@
+package com.ideas2it.employeemanagement.employee.dao;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.ideas2it.employeemanagement.employee.dto.EmployeeAddressFilterDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeFactsDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeLocationDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeSearchDto;
+import com.ideas2it.employeemanagement.employee.dto.LocationCountDto;
+import com.ideas2it.employeemanagement.employee.dto.SportAssignmentDto;
+import com.ideas2it.employeemanagement.sport.dto.SportDto;
+import com.ideas2it.employeemanagement.utilities.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Read-only repository that selects employee columns straight into {@link EmployeeDto}s.
+ * Nothing is loaded into the persistence context, so GET requests skip entity
+ * hydration and dirty-check snapshots. Sports for a page of employees are
+ * fetched with one extra query per thousand employees.
+ */
+@Repository
+public class EmployeeQueryRepository {
+    private static final String SELECT_EMPLOYEE =
+            "SELECT e.id, e.name, e.dob, e.email_id, e.version, d.id AS department_id, d.name AS department_name, "
+                    + "a.street, a.city, a.state, a.zip "
+                    + "FROM employee e "
+                    + "JOIN department d ON d.id = e.department_id "
+                    + "LEFT JOIN address a ON a.id = e.address_id ";
+
+    private static final String SELECT_ACTIVE_AFTER =
+            SELECT_EMPLOYEE + "WHERE e.is_active = ? AND e.id > ? ORDER BY e.id";
+
+    private static final String SELECT_ACTIVE_BY_ID =
+            SELECT_EMPLOYEE + "WHERE e.is_active = ? AND e.id = ?";
+
+    private static final String SELECT_ACTIVE_BY_DEPARTMENT =
+            SELECT_EMPLOYEE + "WHERE e.is_active = ? AND e.department_id = ? ORDER BY e.id";
+
+    private static final String SELECT_ACTIVE_BY_SPORT =
+            SELECT_EMPLOYEE + "JOIN employee_sport es ON es.employee_id = e.id "
+                    + "WHERE e.is_active = ? AND es.sport_id = ? ORDER BY e.id";
+
+    private static final String SELECT_ACTIVE_BY_DOB =
+            SELECT_EMPLOYEE + "WHERE e.is_active = ? AND e.dob > ? AND e.dob <= ? AND e.id > ? ORDER BY e.id";
+
+    private static final String SELECT_ACTIVE_BY_BIRTHDAY =
+            SELECT_EMPLOYEE + "WHERE e.is_active = ? AND e.birthday BETWEEN ? AND ? ORDER BY e.birthday, e.id";
+
+    private static final String SELECT_ACTIVE_BY_BIRTHDAY_ACROSS_YEAR_END =
+            SELECT_EMPLOYEE + "WHERE e.is_active = ? AND (e.birthday >= ? OR e.birthday <= ?) "
+                    + "ORDER BY CASE WHEN e.birthday >= ? THEN 0 ELSE 1 END, e.birthday, e.id";
+
+    private static final String SELECT_ACTIVE_BY_IDS =
+            SELECT_EMPLOYEE + "WHERE e.is_active = :active AND e.id IN (:ids) ORDER BY e.id";
+
+    private static final String SELECT_ACTIVE_LOCATIONS =
+            "SELECT e.id, a.state, a.city FROM employee e "
+                    + "JOIN address a ON a.id = e.address_id "
+                    + "WHERE e.is_active = ?";
+
+    private static final String COUNT_ACTIVE_BY_CITY =
+            "SELECT a.state, a.city, COUNT(*) FROM employee e "
+                    + "JOIN address a ON a.id = e.address_id "
+                    + "WHERE e.is_active = ? "
+                    + "GROUP BY a.state, a.city ORDER BY a.state, a.city";
+
+    private static final String COUNT_ACTIVE_BY_CITY_IN_STATE =
+            "SELECT a.state, a.city, COUNT(*) FROM employee e "
+                    + "JOIN address a ON a.id = e.address_id "
+                    + "WHERE e.is_active = ? AND a.state = ? "
+                    + "GROUP BY a.state, a.city ORDER BY a.city";
+
+    private static final String COUNT_ACTIVE_BY_STATE =
+            "SELECT a.state, COUNT(*) FROM employee e "
+                    + "JOIN address a ON a.id = e.address_id "
+                    + "WHERE e.is_active = ? "
+                    + "GROUP BY a.state ORDER BY a.state";
+
+    private static final String COUNT_ACTIVE_BY_DEPARTMENT =
+            "SELECT department_id, COUNT(*) FROM employee WHERE is_active = ? GROUP BY department_id";
+
+    private static final String COUNT_ACTIVE_BY_SPORT =
+            "SELECT es.sport_id, COUNT(*) FROM employee_sport es "
+                    + "JOIN employee e ON e.id = es.employee_id "
+                    + "WHERE e.is_active = ? GROUP BY es.sport_id";
+
+    private static final String SELECT_ACTIVE_SEARCH_ENTRIES =
+            "SELECT id, name, email_id FROM employee WHERE is_active = ?";
+
+    private static final String SELECT_ACTIVE_FACTS =
+            "SELECT e.id, e.department_id, e.dob, a.state, a.city FROM employee e "
+                    + "LEFT JOIN address a ON a.id = e.address_id "
+                    + "WHERE e.is_active = ? ORDER BY e.id";
+
+    private static final String SELECT_ACTIVE_SPORT_ASSIGNMENTS =
+            "SELECT es.employee_id, es.sport_id FROM employee_sport es "
+                    + "JOIN employee e ON e.id = es.employee_id "
+                    + "WHERE e.is_active = ?";
+
+    private static final String SELECT_SPORTS =
+            "SELECT es.employee_id, s.id, s.name FROM employee_sport es "
+                    + "JOIN sport s ON s.id = es.sport_id "
+                    + "WHERE es.employee_id IN (:employeeIds)";
+
+    private static final int SEARCH_FETCH_SIZE = 1000;
+
+    // SQL Server accepts at most 2100 parameters per statement, so IN lists are sent in chunks.
+    private static final int IN_LIST_CHUNK_SIZE = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Retrieves one page of active employees ordered by ID.
+     *
+     * @param after the last employee ID of the previous page, 0 for the first page
+     * @param limit the maximum number of employees to return
+     * @return the active employees with an ID greater than {@code after}
+     */
+    public List<EmployeeDto> findActiveAfter(int after, int limit) {
+        List<EmployeeDto> employeeDtos = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_ACTIVE_AFTER);
+            ps.setBoolean(1, true);
+            ps.setInt(2, after);
+            ps.setMaxRows(limit);
+            return ps;
+        }, (rs, rowNum) -> mapRow(rs));
+        return withSports(employeeDtos);
+    }
+
+    /**
+     * Retrieves an active employee by ID.
+     *
+     * @param id the ID of the employee
+     * @return the employee, or empty when it does not exist or is inactive
+     */
+    public Optional<EmployeeDto> findActiveById(int id) {
+        List<EmployeeDto> employeeDtos = jdbcTemplate.query(SELECT_ACTIVE_BY_ID,
+                (rs, rowNum) -> mapRow(rs), true, id);
+        return withSports(employeeDtos).stream().findFirst();
+    }
+
+    /**
+     * Retrieves every active employee of a department.
+     *
+     * @param departmentId the ID of the department
+     * @return the active employees of the department ordered by ID
+     */
+    public List<EmployeeDto> findActiveByDepartmentId(int departmentId) {
+        return withSports(jdbcTemplate.query(SELECT_ACTIVE_BY_DEPARTMENT,
+                (rs, rowNum) -> mapRow(rs), true, departmentId));
+    }
+
+    /**
+     * Retrieves every active employee assigned to a sport.
+     *
+     * @param sportId the ID of the sport
+     * @return the active employees playing the sport ordered by ID
+     */
+    public List<EmployeeDto> findActiveBySportId(int sportId) {
+        return withSports(jdbcTemplate.query(SELECT_ACTIVE_BY_SPORT,
+                (rs, rowNum) -> mapRow(rs), true, sportId));
+    }
+
+    /**
+     * Retrieves one page of active employees whose address matches every given filter.
+     * Each filter is served by an index on the address table.
+     *
+     * @param employeeAddressFilterDto {@link EmployeeAddressFilterDto} the city, state and/or zip prefix
+     * @param after the last employee ID of the previous page, 0 for the first page
+     * @param limit the maximum number of employees to return
+     * @return the matching active employees with an ID greater than {@code after}
+     */
+    public List<EmployeeDto> findActiveByAddress(EmployeeAddressFilterDto employeeAddressFilterDto, int after, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_EMPLOYEE).append("WHERE e.is_active = ? AND e.id > ?");
+        List<Object> args = new ArrayList<>(List.of(true, after));
+        if (employeeAddressFilterDto.getCity() != null) {
+            sql.append(" AND a.city = ?");
+            args.add(employeeAddressFilterDto.getCity());
+        }
+        if (employeeAddressFilterDto.getState() != null) {
+            sql.append(" AND a.state = ?");
+            args.add(employeeAddressFilterDto.getState());
+        }
+        if (employeeAddressFilterDto.getZipPrefix() != null) {
+            sql.append(" AND a.zip LIKE ?");
+            args.add(employeeAddressFilterDto.getZipPrefix() + "%");
+        }
+        sql.append(" ORDER BY e.id");
+        List<EmployeeDto> employeeDtos = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql.toString());
+            for (int i = 0; i < args.size(); i++) {
+                ps.setObject(i + 1, args.get(i));
+            }
+            ps.setMaxRows(limit);
+            return ps;
+        }, (rs, rowNum) -> mapRow(rs));
+        return withSports(employeeDtos);
+    }
+
+    /**
+     * Retrieves one page of active employees born inside a date range.
+     * The range is a predicate on the indexed dob column.
+     *
+     * @param bornAfter the day before the earliest date of birth to include
+     * @param bornOnOrBefore the latest date of birth to include
+     * @param after the last employee ID of the previous page, 0 for the first page
+     * @param limit the maximum number of employees to return
+     * @return the matching active employees with an ID greater than {@code after}
+     */
+    public List<EmployeeDto> findActiveByDobRange(LocalDate bornAfter, LocalDate bornOnOrBefore, int after, int limit) {
+        List<EmployeeDto> employeeDtos = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_ACTIVE_BY_DOB);
+            ps.setBoolean(1, true);
+            ps.setObject(2, bornAfter);
+            ps.setObject(3, bornOnOrBefore);
+            ps.setInt(4, after);
+            ps.setMaxRows(limit);
+            return ps;
+        }, (rs, rowNum) -> mapRow(rs));
+        return withSports(employeeDtos);
+    }
+
+    /**
+     * Retrieves the active employees whose birthday falls between two days of the year,
+     * in calendar order starting from {@code from}. When {@code to} is before {@code from}
+     * the range runs past the end of the year.
+     *
+     * @param from the first birthday to include, as {@code MMDD}
+     * @param to the last birthday to include, as {@code MMDD}
+     * @param limit the maximum number of employees to return
+     * @return the matching active employees, earliest birthday first
+     */
+    public List<EmployeeDto> findActiveByBirthdayRange(int from, int to, int limit) {
+        boolean acrossYearEnd = to < from;
+        List<EmployeeDto> employeeDtos = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(acrossYearEnd
+                    ? SELECT_ACTIVE_BY_BIRTHDAY_ACROSS_YEAR_END : SELECT_ACTIVE_BY_BIRTHDAY);
+            ps.setBoolean(1, true);
+            ps.setInt(2, from);
+            ps.setInt(3, to);
+            if (acrossYearEnd) {
+                ps.setInt(4, from);
+            }
+            ps.setMaxRows(limit);
+            return ps;
+        }, (rs, rowNum) -> mapRow(rs));
+        return withSports(employeeDtos);
+    }
+
+    /**
+     * Retrieves the active employees among the given IDs.
+     *
+     * @param ids the IDs of the employees
+     * @return the active employees ordered by ID
+     */
+    public List<EmployeeDto> findActiveByIds(Collection<Integer> ids) {
+        List<Integer> sortedIds = ids.stream().sorted().toList();
+        List<EmployeeDto> employeeDtos = new ArrayList<>();
+        for (int from = 0; from < sortedIds.size(); from += IN_LIST_CHUNK_SIZE) {
+            List<Integer> chunk = sortedIds.subList(from, Math.min(sortedIds.size(), from + IN_LIST_CHUNK_SIZE));
+            employeeDtos.addAll(namedParameterJdbcTemplate.query(SELECT_ACTIVE_BY_IDS,
+                    Map.of("active", true, "ids", chunk), (rs, rowNum) -> mapRow(rs)));
+        }
+        return withSports(employeeDtos);
+    }
+
+    /**
+     * Counts the active employees of every city, optionally within one state.
+     *
+     * @param state the state to restrict the counts to, or null for every state
+     * @return one count per state and city, ordered by state and city
+     */
+    public List<LocationCountDto> countActiveByCity(String state) {
+        RowMapper<LocationCountDto> rowMapper =
+                (rs, rowNum) -> new LocationCountDto(rs.getString(1), rs.getString(2), rs.getLong(3));
+        return state == null
+                ? jdbcTemplate.query(COUNT_ACTIVE_BY_CITY, rowMapper, true)
+                : jdbcTemplate.query(COUNT_ACTIVE_BY_CITY_IN_STATE, rowMapper, true, state);
+    }
+
+    /**
+     * Counts the active employees of every state.
+     *
+     * @return one count per state, ordered by state
+     */
+    public List<LocationCountDto> countActiveByState() {
+        return jdbcTemplate.query(COUNT_ACTIVE_BY_STATE,
+                (rs, rowNum) -> new LocationCountDto(rs.getString(1), null, rs.getLong(2)), true);
+    }
+
+    /**
+     * Counts the active employees of every department with one GROUP BY.
+     *
+     * @return the number of active employees by department ID; departments without any are left out
+     */
+    public Map<Integer, Long> countActiveByDepartment() {
+        return countById(COUNT_ACTIVE_BY_DEPARTMENT);
+    }
+
+    /**
+     * Counts the active employees playing every sport with one GROUP BY.
+     *
+     * @return the number of active employees by sport ID; sports without any are left out
+     */
+    public Map<Integer, Long> countActiveBySport() {
+        return countById(COUNT_ACTIVE_BY_SPORT);
+    }
+
+    /**
+     * Streams the ID, state and city of every active employee to the given consumer,
+     * without holding the whole result in memory. Used to build the location index.
+     *
+     * @param consumer receives one {@link EmployeeLocationDto} per active employee with an address
+     */
+    public void findActiveLocations(Consumer<EmployeeLocationDto> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_ACTIVE_LOCATIONS);
+            ps.setBoolean(1, true);
+            ps.setFetchSize(SEARCH_FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new EmployeeLocationDto(rs.getInt(1), rs.getString(2), rs.getString(3))));
+    }
+
+    /**
+     * Streams the ID, name and email ID of every active employee to the given consumer,
+     * without holding the whole result in memory. Used to build the search index.
+     *
+     * @param consumer receives one {@link EmployeeSearchDto} per active employee
+     */
+    public void findActiveSearchEntries(Consumer<EmployeeSearchDto> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_ACTIVE_SEARCH_ENTRIES);
+            ps.setBoolean(1, true);
+            ps.setFetchSize(SEARCH_FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new EmployeeSearchDto(rs.getInt(1), rs.getString(2), rs.getString(3))));
+    }
+
+    /**
+     * Streams the department, date of birth and location of every active employee to the
+     * given consumer in ascending ID order, without holding the whole result in memory.
+     * Used to build the report snapshot.
+     *
+     * @param consumer receives one {@link EmployeeFactsDto} per active employee
+     */
+    public void findActiveFacts(Consumer<EmployeeFactsDto> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_ACTIVE_FACTS);
+            ps.setBoolean(1, true);
+            ps.setFetchSize(SEARCH_FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new EmployeeFactsDto(rs.getInt(1), rs.getInt(2),
+                rs.getObject(3, LocalDate.class), rs.getString(4), rs.getString(5))));
+    }
+
+    /**
+     * Streams every sport assigned to an active employee to the given consumer,
+     * without holding the whole result in memory. Used to build the report snapshot.
+     *
+     * @param consumer receives one {@link SportAssignmentDto} per employee and sport pair
+     */
+    public void findActiveSportAssignments(Consumer<SportAssignmentDto> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_ACTIVE_SPORT_ASSIGNMENTS);
+            ps.setBoolean(1, true);
+            ps.setFetchSize(SEARCH_FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new SportAssignmentDto(rs.getInt(1), rs.getInt(2))));
+    }
+
+    private Map<Integer, Long> countById(String sql) {
+        Map<Integer, Long> counts = new HashMap<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> counts.put(rs.getInt(1), rs.getLong(2)), true);
+        return counts;
+    }
+
+    private List<EmployeeDto> withSports(List<EmployeeDto> employeeDtos) {
+        if (employeeDtos.isEmpty()) {
+            return employeeDtos;
+        }
+        Map<Integer, EmployeeDto> employeesById = new HashMap<>();
+        for (EmployeeDto employeeDto : employeeDtos) {
+            employeeDto.setSports(new HashSet<>());
+            employeesById.put(employeeDto.getId(), employeeDto);
+        }
+        List<Integer> employeeIds = new ArrayList<>(employeesById.keySet());
+        for (int from = 0; from < employeeIds.size(); from += IN_LIST_CHUNK_SIZE) {
+            List<Integer> chunk = employeeIds.subList(from, Math.min(employeeIds.size(), from + IN_LIST_CHUNK_SIZE));
+            namedParameterJdbcTemplate.query(SELECT_SPORTS, Map.of("employeeIds", chunk), rs -> {
+                Set<SportDto> sports = employeesById.get(rs.getInt(1)).getSports();
+                sports.add(SportDto.builder()
+                        .id(rs.getInt(2))
+                        .name(rs.getString(3))
+                        .build());
+            });
+        }
+        return employeeDtos;
+    }
+
+    private static EmployeeDto mapRow(ResultSet rs) throws SQLException {
+        EmployeeDto employeeDto = EmployeeDto.builder()
+                .id(rs.getInt("id"))
+                .name(rs.getString("name"))
+                .dob(rs.getObject("dob", LocalDate.class))
+                .emailId(rs.getString("email_id"))
+                .departmentID(rs.getInt("department_id"))
+                .departmentName(rs.getString("department_name"))
+                .street(rs.getString("street"))
+                .city(rs.getString("city"))
+                .state(rs.getString("state"))
+                .zip(rs.getString("zip"))
+                .version(rs.getLong("version"))
+                .build();
+        if (employeeDto.getDob() != null) {
+            employeeDto.setAge(Validator.calculateAge(employeeDto.getDob()));
+        }
+        return employeeDto;
+    }
+}
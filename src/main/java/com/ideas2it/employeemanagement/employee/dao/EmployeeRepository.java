@@ -1,7 +1,15 @@
 package com.ideas2it.employeemanagement.employee.dao;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import com.ideas2it.employeemanagement.model.Employee;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Repository interface for managing Employee entities.
@@ -10,6 +18,83 @@ import org.springframework.data.repository.CrudRepository;
  */
 public interface EmployeeRepository extends CrudRepository<Employee, Integer> {
 
-    boolean existsByNameAndDepartmentId(String name, int departmentID);
+    /**
+     * Retrieves an employee together with its department, address and sports in one query.
+     * Plain {@code findById} loads none of the associations.
+     *
+     * @param id the ID of the employee
+     * @return the employee with its associations initialised
+     */
+    @EntityGraph(Employee.DETAILS_GRAPH)
+    Optional<Employee> findWithDetailsById(int id);
+
+    /**
+     * Retrieves the name, department ID and email ID of every employee that matches
+     * any of the given names or email IDs, so a whole batch can be checked for duplicates at once.
+     *
+     * @param names    the employee names to look for
+     * @param emailIds the email IDs to look for
+     * @return rows of {@code [name, departmentId, emailId]}
+     */
+    @Query("SELECT e.name, e.department.id, e.emailId FROM Employee e "
+            + "WHERE e.name IN :names OR e.emailId IN :emailIds")
+    List<Object[]> findExistingByNamesOrEmailIds(@Param("names") Collection<String> names,
+                                                 @Param("emailIds") Collection<String> emailIds);
+
+    /**
+     * Retrieves which of the given employee IDs belong to active employees.
+     *
+     * @param ids the employee IDs to check
+     * @return the subset of {@code ids} that are active employees
+     */
+    @Query("SELECT e.id FROM Employee e WHERE e.isActive = true AND e.id IN :ids")
+    List<Integer> findActiveEmployeeIds(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Retrieves the department of an employee without loading the employee.
+     *
+     * @param id the ID of the employee
+     * @return the ID of the employee's department, or empty when the employee does not exist
+     */
+    @Query("SELECT e.department.id FROM Employee e WHERE e.id = :id")
+    Optional<Integer> findDepartmentIdById(@Param("id") int id);
+
+    /**
+     * Sets the active flag of the given employees with one UPDATE statement.
+     * The row version is incremented so cached ETags of the employees stop matching.
+     *
+     * @param ids    the IDs of the employees to change
+     * @param active the new value of the active flag
+     * @return the number of employees whose flag changed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.isActive = :active, e.version = e.version + 1 WHERE e.isActive <> :active AND e.id IN :ids")
+    int updateActiveByIds(@Param("ids") Collection<Integer> ids, @Param("active") boolean active);
+
+    /**
+     * Sets the active flag of every employee matching the filter with one UPDATE statement.
+     * A null filter value matches every employee. The row version is incremented.
+     *
+     * @param departmentId the department the employees belong to, or null
+     * @param city         the city of the employees' address, or null
+     * @param active       the new value of the active flag
+     * @return the number of employees whose flag changed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.isActive = :active, e.version = e.version + 1 WHERE e.isActive <> :active "
+            + "AND (:departmentId IS NULL OR e.department.id = :departmentId) "
+            + "AND (:city IS NULL OR e.address.id IN (SELECT a.id FROM Address a WHERE a.city = :city))")
+    int updateActiveByFilter(@Param("departmentId") Integer departmentId, @Param("city") String city,
+                             @Param("active") boolean active);
 
+    /**
+     * Increments the row version of the given employees after a change made outside
+     * the entity, such as a sport assignment written straight to the join table.
+     *
+     * @param ids the IDs of the employees that changed
+     * @return the number of employees updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.version = e.version + 1 WHERE e.id IN :ids")
+    int incrementVersions(@Param("ids") Collection<Integer> ids);
 }
@@ -0,0 +1,125 @@
+package com.ideas2it.employeemanagement.employee.dao;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.ideas2it.employeemanagement.employee.dto.SportAssignmentDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository that writes the employee_sport join table directly.
+ * Assigning or removing a sport is a single statement, without loading the employee
+ * and its sports into the persistence context. Duplicates are rejected by the
+ * table's composite key and unknown IDs by its foreign keys.
+ */
+@Repository
+public class EmployeeSportRepository {
+    private static final String INSERT_EMPLOYEE_SPORT =
+            "INSERT INTO employee_sport (employee_id, sport_id) VALUES (?, ?)";
+
+    private static final String DELETE_EMPLOYEE_SPORT =
+            "DELETE FROM employee_sport WHERE employee_id = ? AND sport_id = ?";
+
+    private static final String SELECT_SPORT_IDS =
+            "SELECT sport_id FROM employee_sport WHERE employee_id = ?";
+
+    private static final String SELECT_EXISTING =
+            "SELECT employee_id, sport_id FROM employee_sport "
+                    + "WHERE employee_id IN (:employeeIds) AND sport_id IN (:sportIds)";
+
+    // SQL Server accepts at most 2100 parameters per statement; two chunks of this size stay below it.
+    private static final int IN_LIST_CHUNK_SIZE = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Assigns a sport to an employee.
+     *
+     * @param employeeId the ID of the employee
+     * @param sportId the ID of the sport
+     * @throws org.springframework.dao.DuplicateKeyException if the sport is already assigned
+     * @throws org.springframework.dao.DataIntegrityViolationException if the employee or sport does not exist
+     */
+    public void insert(int employeeId, int sportId) {
+        jdbcTemplate.update(INSERT_EMPLOYEE_SPORT, employeeId, sportId);
+    }
+
+    /**
+     * Removes a sport from an employee.
+     *
+     * @param employeeId the ID of the employee
+     * @param sportId the ID of the sport
+     * @return true if the sport was assigned and has been removed
+     */
+    public boolean delete(int employeeId, int sportId) {
+        return jdbcTemplate.update(DELETE_EMPLOYEE_SPORT, employeeId, sportId) > 0;
+    }
+
+    /**
+     * Retrieves the IDs of the sports assigned to an employee.
+     *
+     * @param employeeId the ID of the employee
+     * @return the IDs of the employee's sports
+     */
+    public List<Integer> findSportIds(int employeeId) {
+        return jdbcTemplate.queryForList(SELECT_SPORT_IDS, Integer.class, employeeId);
+    }
+
+    /**
+     * Retrieves the assignments that already exist among the given employees and sports.
+     * Long ID lists are split over several queries.
+     *
+     * @param employeeIds the employee IDs to look for
+     * @param sportIds the sport IDs to look for
+     * @return {@link SportAssignmentDto} every existing pair of one of the employees and one of the sports
+     */
+    public List<SportAssignmentDto> findExisting(Collection<Integer> employeeIds, Collection<Integer> sportIds) {
+        List<Integer> employeeIdList = new ArrayList<>(employeeIds);
+        List<Integer> sportIdList = new ArrayList<>(sportIds);
+        List<SportAssignmentDto> existing = new ArrayList<>();
+        for (int employeeFrom = 0; employeeFrom < employeeIdList.size(); employeeFrom += IN_LIST_CHUNK_SIZE) {
+            List<Integer> employeeChunk = employeeIdList.subList(employeeFrom,
+                    Math.min(employeeIdList.size(), employeeFrom + IN_LIST_CHUNK_SIZE));
+            for (int sportFrom = 0; sportFrom < sportIdList.size(); sportFrom += IN_LIST_CHUNK_SIZE) {
+                List<Integer> sportChunk = sportIdList.subList(sportFrom,
+                        Math.min(sportIdList.size(), sportFrom + IN_LIST_CHUNK_SIZE));
+                existing.addAll(namedParameterJdbcTemplate.query(SELECT_EXISTING,
+                        Map.of("employeeIds", employeeChunk, "sportIds", sportChunk),
+                        (rs, rowNum) -> new SportAssignmentDto(rs.getInt(1), rs.getInt(2))));
+            }
+        }
+        return existing;
+    }
+
+    /**
+     * Assigns every given pair as one JDBC batch.
+     *
+     * @param assignments {@link SportAssignmentDto} the pairs to insert, none of which may exist yet
+     */
+    public void insertAll(List<SportAssignmentDto> assignments) {
+        jdbcTemplate.batchUpdate(INSERT_EMPLOYEE_SPORT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setInt(1, assignments.get(i).getEmployeeId());
+                ps.setInt(2, assignments.get(i).getSportId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return assignments.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,35 @@
+package com.ideas2it.employeemanagement.employee.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) filtering active employees by their address.
+ * At least one of {@code city}, {@code state} or {@code zipPrefix} is required;
+ * when several are set an employee has to match all of them.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeAddressFilterDto {
+    private String city;
+
+    private String state;
+
+    @Pattern(regexp = "^[0-9]{1,6}$", message = "Zip prefix can only contain digits")
+    private String zipPrefix;
+
+    @JsonIgnore
+    @AssertTrue(message = "At least one of city, state or zipPrefix is required")
+    public boolean isFilterPresent() {
+        return city != null || state != null || zipPrefix != null;
+    }
+}
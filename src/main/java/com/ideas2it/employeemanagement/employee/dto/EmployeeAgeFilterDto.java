@@ -0,0 +1,36 @@
+package com.ideas2it.employeemanagement.employee.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) filtering active employees by age in whole years, both bounds inclusive.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeAgeFilterDto {
+    @NotNull(message = "Minimum age is Required")
+    @Min(value = 0, message = "Minimum age cannot be negative")
+    private Integer minAge;
+
+    @NotNull(message = "Maximum age is Required")
+    @Max(value = 150, message = "Maximum age cannot exceed 150")
+    private Integer maxAge;
+
+    @JsonIgnore
+    @AssertTrue(message = "Minimum age cannot be greater than maximum age")
+    public boolean isRangeValid() {
+        return minAge == null || maxAge == null || minAge <= maxAge;
+    }
+}
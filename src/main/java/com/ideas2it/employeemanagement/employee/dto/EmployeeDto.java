@@ -1,5 +1,6 @@
 package com.ideas2it.employeemanagement.employee.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.ideas2it.employeemanagement.sport.dto.SportDto;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -62,4 +63,10 @@ public class EmployeeDto {
     private String zip;
 
     private Set<SportDto> sports;
+
+    /**
+     * Row version of the employee, used to build its ETag.
+     */
+    @JsonIgnore
+    private long version;
 }
@@ -0,0 +1,30 @@
+package com.ideas2it.employeemanagement.employee.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) holding the attributes of an active employee that the
+ * workforce reports group and filter on, as kept by the columnar report snapshot.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeFactsDto {
+    private int id;
+
+    private int departmentId;
+
+    private LocalDate dob;
+
+    private String state;
+
+    private String city;
+}
@@ -0,0 +1,21 @@
+package com.ideas2it.employeemanagement.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) describing why one row of a bulk import was rejected.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeImportErrorDto {
+    private int row;
+
+    private String message;
+}
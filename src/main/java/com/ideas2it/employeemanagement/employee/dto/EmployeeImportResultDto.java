@@ -0,0 +1,26 @@
+package com.ideas2it.employeemanagement.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) summarising the outcome of a bulk employee import.
+ * Rows are numbered from 1 in the order they were submitted.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeImportResultDto {
+    private int totalCount;
+
+    private int importedCount;
+
+    private List<EmployeeImportErrorDto> failures;
+}
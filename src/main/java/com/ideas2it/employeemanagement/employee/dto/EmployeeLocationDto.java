@@ -0,0 +1,24 @@
+package com.ideas2it.employeemanagement.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) holding the ID and address location of an active employee,
+ * as kept by the in-memory location index.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeLocationDto {
+    private int id;
+
+    private String state;
+
+    private String city;
+}
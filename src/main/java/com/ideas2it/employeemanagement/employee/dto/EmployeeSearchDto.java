@@ -0,0 +1,23 @@
+package com.ideas2it.employeemanagement.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) for one typeahead match of the employee search.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeSearchDto {
+    private int id;
+
+    private String name;
+
+    private String emailId;
+}
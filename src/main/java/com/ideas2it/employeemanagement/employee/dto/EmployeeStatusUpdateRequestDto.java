@@ -0,0 +1,39 @@
+package com.ideas2it.employeemanagement.employee.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) selecting the employees of a bulk deactivation or reactivation.
+ * Either {@code ids} is given, or a filter on {@code departmentId} and/or {@code city}.
+ * When both filters are set an employee has to match both.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeStatusUpdateRequestDto {
+    @Size(max = 1000, message = "At most 1000 IDs can be sent in one request")
+    private List<Integer> ids;
+
+    private Integer departmentId;
+
+    private String city;
+
+    @JsonIgnore
+    @AssertTrue(message = "Either ids or a departmentId/city filter is required, not both")
+    public boolean isSelectionValid() {
+        boolean hasIds = ids != null && !ids.isEmpty();
+        boolean hasFilter = departmentId != null || city != null;
+        return hasIds != hasFilter;
+    }
+}
@@ -0,0 +1,20 @@
+package com.ideas2it.employeemanagement.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) reporting how many employees a bulk deactivation
+ * or reactivation changed. Employees already in the requested state are not counted.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeStatusUpdateResultDto {
+    private int affectedCount;
+}
@@ -0,0 +1,24 @@
+package com.ideas2it.employeemanagement.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) holding the number of active employees in a state,
+ * or in a city of a state. {@code city} is null when counts are grouped by state.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class LocationCountDto {
+    private String state;
+
+    private String city;
+
+    private long count;
+}
@@ -0,0 +1,35 @@
+package com.ideas2it.employeemanagement.employee.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for a batch sport assignment.
+ * Pairs can be listed explicitly in {@code assignments}, or one {@code sportId}
+ * can be given together with the {@code employeeIds} that should play it. Both
+ * forms may be combined in one request.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SportAssignmentRequestDto {
+    public static final int MAX_ASSIGNMENTS = 1000;
+
+    @Valid
+    @Size(max = MAX_ASSIGNMENTS, message = "At most 1000 assignments can be sent in one request")
+    private List<SportAssignmentDto> assignments;
+
+    private Integer sportId;
+
+    @Size(max = MAX_ASSIGNMENTS, message = "At most 1000 employees can be sent in one request")
+    private List<Integer> employeeIds;
+}
@@ -0,0 +1,33 @@
+package com.ideas2it.employeemanagement.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) describing the outcome of one pair of a batch sport assignment.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SportAssignmentResultDto {
+    /**
+     * What happened to one employee and sport pair.
+     */
+    public enum Status {
+        ASSIGNED,
+        ALREADY_ASSIGNED,
+        EMPLOYEE_NOT_FOUND,
+        SPORT_NOT_FOUND
+    }
+
+    private int employeeId;
+
+    private int sportId;
+
+    private Status status;
+}
@@ -0,0 +1,115 @@
+package com.ideas2it.employeemanagement.employee.mapper;
+
+import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A utility class for mapping CSV text to EmployeeDto objects.
+ * The first line is a header naming the columns: name, dob, emailId, departmentID, street, city, state, zip.
+ * A row with a date of birth or department ID that cannot be parsed is rejected with the reason,
+ * instead of being imported with the value missing.
+ */
+public class EmployeeCsvMapper {
+
+    /**
+     * Converts CSV text into EmployeeDtos, one per non-blank data line.
+     *
+     * @param csv          The CSV text including its header line.
+     * @param rejectedRows Receives the reason for every row with a value that cannot be parsed,
+     *                     keyed by the index of the row in the returned list.
+     * @return The EmployeeDtos in the order the rows appear.
+     */
+    public static List<EmployeeDto> mapToEmployeeDtos(String csv, Map<Integer, String> rejectedRows) {
+        List<EmployeeDto> employeeDtos = new ArrayList<>();
+        String[] lines = csv.split("\\r?\\n");
+        if (lines.length == 0) {
+            return employeeDtos;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = splitLine(lines[0]);
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(), i);
+        }
+        for (int i = 1; i < lines.length; i++) {
+            if (lines[i].isBlank()) {
+                continue;
+            }
+            List<String> values = splitLine(lines[i]);
+            String dob = value(values, columns, "dob");
+            String departmentId = value(values, columns, "departmentid");
+            LocalDate parsedDob = parseDate(dob);
+            Integer parsedDepartmentId = parseInt(departmentId);
+            if (dob != null && parsedDob == null) {
+                rejectedRows.put(employeeDtos.size(), "Invalid date of birth: " + dob);
+            } else if (departmentId != null && parsedDepartmentId == null) {
+                rejectedRows.put(employeeDtos.size(), "Invalid department ID: " + departmentId);
+            }
+            employeeDtos.add(EmployeeDto.builder()
+                    .name(value(values, columns, "name"))
+                    .dob(parsedDob)
+                    .emailId(value(values, columns, "emailid"))
+                    .departmentID(parsedDepartmentId == null ? 0 : parsedDepartmentId)
+                    .street(value(values, columns, "street"))
+                    .city(value(values, columns, "city"))
+                    .state(value(values, columns, "state"))
+                    .zip(value(values, columns, "zip"))
+                    .build());
+        }
+        return employeeDtos;
+    }
+
+    private static String value(List<String> values, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static LocalDate parseDate(String value) {
+        try {
+            return value == null ? null : LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static Integer parseInt(String value) {
+        try {
+            return value == null ? null : Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static List<String> splitLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == ',' && !quoted) {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
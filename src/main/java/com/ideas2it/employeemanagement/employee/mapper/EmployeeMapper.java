@@ -38,6 +38,7 @@ public class EmployeeMapper {
                                 .build())
                         .collect(Collectors.toSet()) : Collections.emptySet())
                 .age(Validator.calculateAge(employee.getDob()))
+                .version(employee.getVersion())
                 .build();
 
         return employeeDto;
@@ -0,0 +1,145 @@
+package com.ideas2it.employeemanagement.employee.service;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.ideas2it.employeemanagement.employee.dao.EmployeeQueryRepository;
+import com.ideas2it.employeemanagement.utilities.CoalescingTask;
+import com.ideas2it.employeemanagement.utilities.ResourceVersions;
+import com.ideas2it.employeemanagement.utilities.Transactions;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ *<p>
+ * In-process number of active employees per department and per sport, so headcounts
+ * are read without loading or counting employees.
+ *</p>
+ *<p>
+ * Each department and sport has a {@link LongAdder}, seeded from a GROUP BY once the
+ * application has started. Single-employee writes apply their exact change after commit;
+ * bulk writes that do not know which departments or sports they touched schedule a
+ * reconciliation instead. Reconciliation also runs periodically and corrects any drift,
+ * such as a change applied while the counts were being read back from the database,
+ * or a write made by another instance.
+ *</p>
+ * @author Kishore
+ */
+@Component
+public class EmployeeHeadcounts {
+    @Autowired
+    private EmployeeQueryRepository employeeQueryRepository;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    private static final Logger logger = LogManager.getLogger(EmployeeHeadcounts.class);
+
+    private final Map<Integer, LongAdder> departmentCounts = new ConcurrentHashMap<>();
+    private final Map<Integer, LongAdder> sportCounts = new ConcurrentHashMap<>();
+
+    private final CoalescingTask reconcileTask =
+            new CoalescingTask("employee-headcount-reconcile", this::reconcile, logger, "Headcount reconciliation failed");
+
+    /**
+     * Reads the number of active employees in a department.
+     *
+     * @param departmentId the ID of the department
+     * @return the headcount, 0 for an unknown department
+     */
+    public long getDepartmentCount(int departmentId) {
+        LongAdder count = departmentCounts.get(departmentId);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Reads the number of active employees playing a sport.
+     *
+     * @param sportId the ID of the sport
+     * @return the headcount, 0 for an unknown sport
+     */
+    public long getSportCount(int sportId) {
+        LongAdder count = sportCounts.get(sportId);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Changes the headcount of a department once the current transaction commits.
+     *
+     * @param departmentId the ID of the department
+     * @param delta        the number of active employees added, negative when removed
+     */
+    public void departmentChanged(int departmentId, long delta) {
+        Transactions.afterCommit(() -> add(departmentCounts, departmentId, delta));
+    }
+
+    /**
+     * Changes the headcount of a sport once the current transaction commits.
+     *
+     * @param sportId the ID of the sport
+     * @param delta   the number of active employees added, negative when removed
+     */
+    public void sportChanged(int sportId, long delta) {
+        Transactions.afterCommit(() -> add(sportCounts, sportId, delta));
+    }
+
+    /**
+     * Schedules a reconciliation in the background once the current transaction commits.
+     * Requests made while one is already waiting to run are merged into it.
+     */
+    public void reconcileAfterCommit() {
+        Transactions.afterCommit(reconcileTask::schedule);
+    }
+
+    /**
+     * Sets every counter to the headcount counted by the database. Runs once the application
+     * has started and then every {@code employeemanagement.headcount.reconcile-interval-ms}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${employeemanagement.headcount.reconcile-interval-ms:600000}",
+            initialDelayString = "${employeemanagement.headcount.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        long drift = reconcile(departmentCounts, employeeQueryRepository.countActiveByDepartment())
+                + reconcile(sportCounts, employeeQueryRepository.countActiveBySport());
+        if (drift != 0) {
+            logger.info("Headcounts reconciled, corrected a drift of {} employees", drift);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        reconcileTask.shutdown();
+    }
+
+    private void add(Map<Integer, LongAdder> counts, int id, long delta) {
+        counts.computeIfAbsent(id, key -> new LongAdder()).add(delta);
+        resourceVersions.headcountsChanged();
+    }
+
+    private long reconcile(Map<Integer, LongAdder> counts, Map<Integer, Long> actualCounts) {
+        Set<Integer> ids = new HashSet<>(counts.keySet());
+        ids.addAll(actualCounts.keySet());
+        long drift = 0;
+        for (int id : ids) {
+            LongAdder count = counts.computeIfAbsent(id, key -> new LongAdder());
+            long difference = actualCounts.getOrDefault(id, 0L) - count.sum();
+            if (difference != 0) {
+                count.add(difference);
+                drift += Math.abs(difference);
+            }
+        }
+        if (drift != 0) {
+            resourceVersions.headcountsChanged();
+        }
+        return drift;
+    }
+}
@@ -0,0 +1,224 @@
+package com.ideas2it.employeemanagement.employee.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import com.ideas2it.employeemanagement.employee.dao.EmployeeQueryRepository;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeLocationDto;
+import com.ideas2it.employeemanagement.employee.dto.LocationCountDto;
+import com.ideas2it.employeemanagement.utilities.RebuildableSnapshot;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ *<p>
+ * Optional in-process inverted index from the state and city of an address to the
+ * IDs of the active employees living there. When enabled it answers city filters and
+ * the per-city and per-state counts without touching the database.
+ *</p>
+ *<p>
+ * Each state and city pair keeps its employee IDs in a sorted set, so a page is read
+ * in ID order straight from the cursor. Cities and states are matched case-insensitively,
+ * like the default database collations. Writes and rebuilds follow
+ * {@link RebuildableSnapshot}.
+ *</p>
+ * @author Kishore
+ */
+@Component
+public class EmployeeLocationIndex extends RebuildableSnapshot<EmployeeLocationIndex.Locations> {
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final Comparator<String> NAME_ORDER = Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER);
+
+    @Autowired
+    private EmployeeQueryRepository employeeQueryRepository;
+
+    private static final Logger logger = LogManager.getLogger(EmployeeLocationIndex.class);
+
+    private final boolean enabled;
+
+    public EmployeeLocationIndex(@Value("${employeemanagement.location-index.enabled:false}") boolean enabled) {
+        super(new Locations(), "employee-location-rebuild", "Employee location index", logger);
+        this.enabled = enabled;
+    }
+
+    /**
+     * Tells whether the index is kept up to date and may be queried.
+     *
+     * @return true when the index is enabled
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    protected Locations load() {
+        Locations newLocations = new Locations();
+        employeeQueryRepository.findActiveLocations(newLocations::add);
+        return newLocations;
+    }
+
+    @Override
+    protected int size(Locations locations) {
+        return locations.keys.size();
+    }
+
+    /**
+     * Adds an employee to the index, replacing its previous location.
+     *
+     * @param employeeLocationDto {@link EmployeeLocationDto} the active employee and its location
+     */
+    public void put(EmployeeLocationDto employeeLocationDto) {
+        write(locations -> {
+            locations.remove(employeeLocationDto.getId());
+            locations.add(employeeLocationDto);
+            return true;
+        });
+    }
+
+    /**
+     * Removes an employee from the index.
+     *
+     * @param id the ID of the employee
+     */
+    public void remove(int id) {
+        write(locations -> {
+            locations.remove(id);
+            return true;
+        });
+    }
+
+    /**
+     * Finds one page of the IDs of the active employees living in a city.
+     *
+     * @param city  the city
+     * @param state the state of the city, or null for a city of that name in any state
+     * @param after the last employee ID of the previous page, 0 for the first page
+     * @param limit the maximum number of IDs to return
+     * @return the matching IDs greater than {@code after}, in ascending order
+     */
+    public List<Integer> findIds(String city, String state, int after, int limit) {
+        List<Integer> ids = new ArrayList<>();
+        if (state != null) {
+            Location location = snapshot().locations.get(key(state, city));
+            if (location != null) {
+                for (Integer id : location.ids.tailSet(after, false)) {
+                    if (ids.size() == limit) {
+                        break;
+                    }
+                    ids.add(id);
+                }
+            }
+            return ids;
+        }
+        String normalizedCity = normalize(city);
+        for (Location location : snapshot().locations.values()) {
+            if (normalize(location.city).equals(normalizedCity)) {
+                int taken = 0;
+                for (Integer id : location.ids.tailSet(after, false)) {
+                    if (taken++ == limit) {
+                        break;
+                    }
+                    ids.add(id);
+                }
+            }
+        }
+        ids.sort(null);
+        return ids.size() > limit ? new ArrayList<>(ids.subList(0, limit)) : ids;
+    }
+
+    /**
+     * Counts the active employees of every city, optionally within one state.
+     *
+     * @param state the state to restrict the counts to, or null for every state
+     * @return one count per state and city, ordered by state and city
+     */
+    public List<LocationCountDto> countByCity(String state) {
+        List<LocationCountDto> counts = new ArrayList<>();
+        String normalizedState = state == null ? null : normalize(state);
+        for (Location location : snapshot().locations.values()) {
+            int count = location.ids.size();
+            if (count > 0 && (normalizedState == null || normalize(location.state).equals(normalizedState))) {
+                counts.add(new LocationCountDto(location.state, location.city, count));
+            }
+        }
+        counts.sort(Comparator.comparing(LocationCountDto::getState, NAME_ORDER)
+                .thenComparing(LocationCountDto::getCity, NAME_ORDER));
+        return counts;
+    }
+
+    /**
+     * Counts the active employees of every state.
+     *
+     * @return one count per state, ordered by state
+     */
+    public List<LocationCountDto> countByState() {
+        Map<String, LocationCountDto> counts = new TreeMap<>();
+        for (Location location : snapshot().locations.values()) {
+            int count = location.ids.size();
+            if (count > 0) {
+                LocationCountDto stateCount = counts.computeIfAbsent(normalize(location.state),
+                        state -> new LocationCountDto(location.state, null, 0));
+                stateCount.setCount(stateCount.getCount() + count);
+            }
+        }
+        return new ArrayList<>(counts.values());
+    }
+
+    private static String key(String state, String city) {
+        return normalize(state) + KEY_SEPARATOR + normalize(city);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The employee IDs of every state and city pair, and the pair of each employee to find its old location.
+     * Both maps are concurrent, so lookups and counts read them without locking.
+     */
+    static class Locations {
+        private final Map<String, Location> locations = new ConcurrentHashMap<>();
+        private final Map<Integer, String> keys = new ConcurrentHashMap<>();
+
+        private void add(EmployeeLocationDto employeeLocationDto) {
+            String key = key(employeeLocationDto.getState(), employeeLocationDto.getCity());
+            keys.put(employeeLocationDto.getId(), key);
+            locations.computeIfAbsent(key, k -> new Location(employeeLocationDto.getState(), employeeLocationDto.getCity()))
+                    .ids.add(employeeLocationDto.getId());
+        }
+
+        private void remove(int id) {
+            String key = keys.remove(id);
+            if (key != null) {
+                Location location = locations.get(key);
+                if (location != null) {
+                    location.ids.remove(id);
+                    if (location.ids.isEmpty()) {
+                        locations.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    private static class Location {
+        private final String state;
+        private final String city;
+        private final ConcurrentSkipListSet<Integer> ids = new ConcurrentSkipListSet<>();
+
+        private Location(String state, String city) {
+            this.state = state;
+            this.city = city;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.ideas2it.employeemanagement.employee.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import com.ideas2it.employeemanagement.employee.dao.EmployeeQueryRepository;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeSearchDto;
+import com.ideas2it.employeemanagement.utilities.RebuildableSnapshot;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ *<p>
+ * In-process prefix index over the name and email ID of every active employee,
+ * serving the typeahead search without a database query.
+ *</p>
+ *<p>
+ * Terms are kept lower-cased in a sorted skip list, so a prefix lookup is one
+ * {@code subMap} seek followed by an in-order walk of the matches. The full name,
+ * each later word of the name and the email ID are indexed. Reads never lock;
+ * writes and rebuilds follow {@link RebuildableSnapshot}.
+ *</p>
+ * @author Kishore
+ */
+@Component
+public class EmployeeSearchIndex extends RebuildableSnapshot<EmployeeSearchIndex.Terms> {
+    private static final char TERM_SEPARATOR = '\u0000';
+
+    @Autowired
+    private EmployeeQueryRepository employeeQueryRepository;
+
+    private static final Logger logger = LogManager.getLogger(EmployeeSearchIndex.class);
+
+    public EmployeeSearchIndex() {
+        super(new Terms(), "employee-search-rebuild", "Employee search index", logger);
+    }
+
+    @Override
+    protected Terms load() {
+        Terms newTerms = new Terms();
+        employeeQueryRepository.findActiveSearchEntries(newTerms::add);
+        return newTerms;
+    }
+
+    @Override
+    protected int size(Terms terms) {
+        return terms.entries.size();
+    }
+
+    /**
+     * Replaces the whole index with the given employees.
+     *
+     * @param employees {@link EmployeeSearchDto} every active employee
+     */
+    public void replaceAll(Iterable<EmployeeSearchDto> employees) {
+        Terms newTerms = new Terms();
+        for (EmployeeSearchDto employee : employees) {
+            newTerms.add(employee);
+        }
+        replace(newTerms);
+    }
+
+    /**
+     * Adds an employee to the index, replacing its previous name and email ID.
+     *
+     * @param employee {@link EmployeeSearchDto} the active employee
+     */
+    public void put(EmployeeSearchDto employee) {
+        write(terms -> {
+            terms.remove(employee.getId());
+            terms.add(employee);
+            return true;
+        });
+    }
+
+    /**
+     * Removes an employee from the index.
+     *
+     * @param id the ID of the employee
+     */
+    public void remove(int id) {
+        write(terms -> {
+            terms.remove(id);
+            return true;
+        });
+    }
+
+    /**
+     * Finds the employees whose name, any word of their name, or email ID starts with the query.
+     * Matching is case-insensitive; results are ordered by the matching term.
+     *
+     * @param query the prefix typed by the user
+     * @param limit the maximum number of employees to return
+     * @return the matching employees, each at most once
+     */
+    public List<EmployeeSearchDto> search(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return new ArrayList<>();
+        }
+        NavigableMap<String, EmployeeSearchDto> matches = snapshot().terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        Map<Integer, EmployeeSearchDto> results = new LinkedHashMap<>();
+        for (EmployeeSearchDto employee : matches.values()) {
+            results.putIfAbsent(employee.getId(), employee);
+            if (results.size() == limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(results.values());
+    }
+
+    /**
+     * Counts the employees currently in the index.
+     *
+     * @return the number of indexed employees
+     */
+    public int size() {
+        return snapshot().entries.size();
+    }
+
+    private static List<String> termsOf(EmployeeSearchDto employee) {
+        List<String> terms = new ArrayList<>();
+        String name = normalize(employee.getName());
+        if (!name.isEmpty()) {
+            terms.add(name);
+            for (int space = name.indexOf(' '); space >= 0; space = name.indexOf(' ', space + 1)) {
+                if (space + 1 < name.length()) {
+                    terms.add(name.substring(space + 1));
+                }
+            }
+        }
+        String emailId = normalize(employee.getEmailId());
+        if (!emailId.isEmpty()) {
+            terms.add(emailId);
+        }
+        return terms;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The terms of every indexed employee, and each employee by ID to find its old terms.
+     * Both maps are concurrent, so searches read them without locking.
+     */
+    static class Terms {
+        private final ConcurrentSkipListMap<String, EmployeeSearchDto> terms = new ConcurrentSkipListMap<>();
+        private final Map<Integer, EmployeeSearchDto> entries = new ConcurrentHashMap<>();
+
+        private void add(EmployeeSearchDto employee) {
+            entries.put(employee.getId(), employee);
+            for (String term : termsOf(employee)) {
+                terms.put(term + TERM_SEPARATOR + employee.getId(), employee);
+            }
+        }
+
+        private void remove(int id) {
+            EmployeeSearchDto previous = entries.remove(id);
+            if (previous != null) {
+                for (String term : termsOf(previous)) {
+                    terms.remove(term + TERM_SEPARATOR + id);
+                }
+            }
+        }
+    }
+}
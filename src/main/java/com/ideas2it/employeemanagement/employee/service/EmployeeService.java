@@ -1,8 +1,20 @@
 package com.ideas2it.employeemanagement.employee.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeAddressFilterDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeAgeFilterDto;
 import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeImportResultDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeSearchDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeStatusUpdateRequestDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeStatusUpdateResultDto;
+import com.ideas2it.employeemanagement.employee.dto.LocationCountDto;
+import com.ideas2it.employeemanagement.employee.dto.SportAssignmentRequestDto;
+import com.ideas2it.employeemanagement.employee.dto.SportAssignmentResultDto;
 import org.springframework.stereotype.Component;
 /**
  *<p>
@@ -23,11 +35,41 @@ public interface EmployeeService {
     EmployeeDto addEmployee(EmployeeDto employeeDto);
 
     /**
-     * Retrieves all active employees.
+     * Adds many employees at once. Invalid, duplicate or unresolvable rows are
+     * reported individually and do not stop the remaining rows from being imported.
      *
+     * @param employeeDtos {@link EmployeeDto} the employees to be added
+     * @return the number of imported rows and the reason each rejected row failed
+     */
+    EmployeeImportResultDto importEmployees(List<EmployeeDto> employeeDtos);
+
+    /**
+     * Adds many employees at once, like {@link #importEmployees(List)}, with some rows
+     * already rejected before they reached the service, such as CSV values that could not be parsed.
+     *
+     * @param employeeDtos {@link EmployeeDto} the employees to be added
+     * @param rejectedRows the reason for each row already rejected, keyed by its index in employeeDtos
+     * @return the number of imported rows and the reason each rejected row failed
+     */
+    EmployeeImportResultDto importEmployees(List<EmployeeDto> employeeDtos, Map<Integer, String> rejectedRows);
+
+    /**
+     * Retrieves one page of active employees ordered by ID.
+     *
+     * @param after the last employee ID of the previous page, 0 for the first page
+     * @param limit the maximum number of employees to return
      * @return a list of active employee entities
      */
-    List<EmployeeDto> getAllEmployees();
+    List<EmployeeDto> getAllEmployees(int after, int limit);
+
+    /**
+     * Streams every active employee to the given consumer, reading one page of
+     * employees at a time, so the full list is never held in memory.
+     *
+     * @param consumer receives each active employee as it is read
+     * @return the number of employees exported
+     */
+    int exportEmployees(Consumer<EmployeeDto> consumer);
 
     /**
      * Retrieves an employee by their ID.
@@ -37,6 +79,60 @@ public interface EmployeeService {
      */
     EmployeeDto getEmployeeById(int id) ;
 
+    /**
+     * Finds active employees whose name, a word of their name, or email ID starts with the query.
+     * Served from the in-memory search index.
+     *
+     * @param query the prefix typed by the user
+     * @param limit the maximum number of employees to return
+     * @return the matching employees
+     */
+    List<EmployeeSearchDto> searchEmployees(String query, int limit);
+
+    /**
+     * Retrieves one page of active employees whose address matches every given filter.
+     *
+     * @param employeeAddressFilterDto {@link EmployeeAddressFilterDto} the city, state and/or zip prefix
+     * @param after the last employee ID of the previous page, 0 for the first page
+     * @param limit the maximum number of employees to return
+     * @return the matching active employees ordered by ID
+     */
+    List<EmployeeDto> getEmployeesByAddress(EmployeeAddressFilterDto employeeAddressFilterDto, int after, int limit);
+
+    /**
+     * Retrieves one page of active employees whose age is inside the given range.
+     *
+     * @param employeeAgeFilterDto {@link EmployeeAgeFilterDto} the minimum and maximum age, both inclusive
+     * @param after the last employee ID of the previous page, 0 for the first page
+     * @param limit the maximum number of employees to return
+     * @return the matching active employees ordered by ID
+     */
+    List<EmployeeDto> getEmployeesByAge(EmployeeAgeFilterDto employeeAgeFilterDto, int after, int limit);
+
+    /**
+     * Retrieves the active employees whose birthday is today or within the next days.
+     *
+     * @param days the number of days after today to include
+     * @param limit the maximum number of employees to return
+     * @return the matching active employees, nearest birthday first
+     */
+    List<EmployeeDto> getUpcomingBirthdays(int days, int limit);
+
+    /**
+     * Counts the active employees of every city, optionally within one state.
+     *
+     * @param state the state to restrict the counts to, or null for every state
+     * @return one count per state and city
+     */
+    List<LocationCountDto> getEmployeeCountsByCity(String state);
+
+    /**
+     * Counts the active employees of every state.
+     *
+     * @return one count per state
+     */
+    List<LocationCountDto> getEmployeeCountsByState();
+
     /**
      * Updates an existing employee.
      *
@@ -45,6 +141,16 @@ public interface EmployeeService {
      */
     EmployeeDto updateEmployee(int id, EmployeeDto employeeDto);
 
+    /**
+     * Applies a JSON Merge Patch to an existing employee. Only the fields present in the
+     * patch are changed, and a null member clears the field.
+     *
+     * @param id         the ID of the employee
+     * @param mergePatch the merge patch document
+     * @return the updated employee entity
+     */
+    EmployeeDto patchEmployee(int id, JsonNode mergePatch);
+
     /**
      * Soft deletes an employee by setting them as inactive.
      *
@@ -52,6 +158,22 @@ public interface EmployeeService {
      */
     void deleteEmployee(int id);
 
+    /**
+     * Soft deletes every selected employee with a single UPDATE statement.
+     *
+     * @param employeeStatusUpdateRequestDto {@link EmployeeStatusUpdateRequestDto} the IDs or filter selecting the employees
+     * @return the number of employees deactivated
+     */
+    EmployeeStatusUpdateResultDto deactivateEmployees(EmployeeStatusUpdateRequestDto employeeStatusUpdateRequestDto);
+
+    /**
+     * Reactivates every selected employee with a single UPDATE statement.
+     *
+     * @param employeeStatusUpdateRequestDto {@link EmployeeStatusUpdateRequestDto} the IDs or filter selecting the employees
+     * @return the number of employees reactivated
+     */
+    EmployeeStatusUpdateResultDto reactivateEmployees(EmployeeStatusUpdateRequestDto employeeStatusUpdateRequestDto);
+
     /**
      * Adds a sport to an employee's list of sports.
      *
@@ -61,6 +183,16 @@ public interface EmployeeService {
      */
     EmployeeDto addSportToEmployee(int employeeId, int sportId);
 
+    /**
+     * Assigns sports to many employees at once.
+     * Employee and sport IDs are each validated with one query and all new
+     * assignments are written as one batch in a single transaction.
+     *
+     * @param sportAssignmentRequestDto {@link SportAssignmentRequestDto} the pairs, or one sport and its employees
+     * @return the outcome of every pair in the order it was requested
+     */
+    List<SportAssignmentResultDto> addSportsToEmployees(SportAssignmentRequestDto sportAssignmentRequestDto);
+
     /**
      * Removes a sport from an employee's list of sports.
      *
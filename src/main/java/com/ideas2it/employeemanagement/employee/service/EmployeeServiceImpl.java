@@ -1,26 +1,66 @@
 package com.ideas2it.employeemanagement.employee.service;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ideas2it.employeemanagement.department.dto.DepartmentDto;
 import com.ideas2it.employeemanagement.department.mapper.DepartmentMapper;
 import com.ideas2it.employeemanagement.department.service.DepartmentService;
 import com.ideas2it.employeemanagement.department.service.DepartmentServiceImpl;
+import com.ideas2it.employeemanagement.employee.dao.EmployeeBatchRepository;
+import com.ideas2it.employeemanagement.employee.dao.EmployeeQueryRepository;
 import com.ideas2it.employeemanagement.employee.dao.EmployeeRepository;
+import com.ideas2it.employeemanagement.employee.dao.EmployeeSportRepository;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeAddressFilterDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeAgeFilterDto;
 import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeFactsDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeImportErrorDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeImportResultDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeLocationDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeSearchDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeStatusUpdateRequestDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeStatusUpdateResultDto;
+import com.ideas2it.employeemanagement.employee.dto.LocationCountDto;
+import com.ideas2it.employeemanagement.employee.dto.SportAssignmentDto;
+import com.ideas2it.employeemanagement.employee.dto.SportAssignmentRequestDto;
+import com.ideas2it.employeemanagement.employee.dto.SportAssignmentResultDto;
 import com.ideas2it.employeemanagement.employee.mapper.EmployeeMapper;
+import com.ideas2it.employeemanagement.exceptions.InvalidPatchException;
 import com.ideas2it.employeemanagement.exceptions.ResourceAlreadyExistsException;
 import com.ideas2it.employeemanagement.exceptions.ResourceNotFoundException;
 import com.ideas2it.employeemanagement.model.Address;
 import com.ideas2it.employeemanagement.model.Employee;
+import com.ideas2it.employeemanagement.report.service.EmployeeColumnStore;
 import com.ideas2it.employeemanagement.sport.dto.SportDto;
-import com.ideas2it.employeemanagement.sport.mapper.SportMapper;
 import com.ideas2it.employeemanagement.sport.service.SportService;
+import com.ideas2it.employeemanagement.utilities.DayClock;
+import com.ideas2it.employeemanagement.utilities.ResourceVersions;
+import com.ideas2it.employeemanagement.utilities.Transactions;
+import com.ideas2it.employeemanagement.utilities.Validator;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import static com.ideas2it.employeemanagement.employee.mapper.EmployeeMapper.mapToEmployee;
 import static com.ideas2it.employeemanagement.employee.mapper.EmployeeMapper.mapToEmployeeDto;
@@ -32,25 +72,59 @@ import static com.ideas2it.employeemanagement.employee.mapper.EmployeeMapper.map
  * @author  Kishore
  */
 @Service
+@Timed("employeemanagement.service")
 public class EmployeeServiceImpl implements EmployeeService {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private EmployeeBatchRepository employeeBatchRepository;
+
+    @Autowired
+    private EmployeeQueryRepository employeeQueryRepository;
+
+    @Autowired
+    private EmployeeSportRepository employeeSportRepository;
+
+    @Autowired
+    private jakarta.validation.Validator beanValidator;
+
     @Autowired
     private SportService sportService;
 
     @Autowired
     private DepartmentService departmentService;
+
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    @Autowired
+    private EmployeeLocationIndex employeeLocationIndex;
+
+    @Autowired
+    private EmployeeHeadcounts employeeHeadcounts;
+
+    @Autowired
+    private EmployeeColumnStore employeeColumnStore;
+
+    @Autowired
+    private ObjectMapper objectMapper;
     private static final Logger logger = LogManager.getLogger(DepartmentServiceImpl.class);
 
+    private static final int IMPORT_BATCH_SIZE = 1000;
+    private static final int EXPORT_PAGE_SIZE = 1000;
+
+    /**
+     * Fields of an employee a merge patch may change. Any other member of the patch is ignored.
+     */
+    private static final Set<String> PATCHABLE_FIELDS = Set.of(
+            "name", "dob", "emailId", "departmentID", "street", "city", "state", "zip");
+
     @Override
     public EmployeeDto addEmployee(EmployeeDto employeeDto) {
-        boolean alreadyExist = employeeRepository.existsByNameAndDepartmentId(
-                employeeDto.getName(), employeeDto.getDepartmentID());
-
-        if (alreadyExist) {
-            throw new ResourceAlreadyExistsException("Employee already exists in the department.");
-        }
         DepartmentDto department = departmentService.getDepartmentById(employeeDto.getDepartmentID());
         Address address = Address.builder()
                 .street(employeeDto.getStreet())
@@ -63,108 +137,484 @@ public class EmployeeServiceImpl implements EmployeeService {
         employee.setDepartment(DepartmentMapper.mapToDepartment(department));
         employee.setAddress(address);
         logger.info("Adding Employee with name: {} department ID: {}",employeeDto.getName(),employeeDto.getDepartmentName());
-        return EmployeeMapper.mapToEmployeeDto(employeeRepository.save(employee));
+        EmployeeDto createdEmployeeDto = EmployeeMapper.mapToEmployeeDto(employeeRepository.save(employee));
+        resourceVersions.employeeChanged(createdEmployeeDto.getId());
+        employeeHeadcounts.departmentChanged(createdEmployeeDto.getDepartmentID(), 1);
+        indexAfterCommit(createdEmployeeDto);
+        return createdEmployeeDto;
+    }
+
+    @Override
+    @Transactional
+    public EmployeeImportResultDto importEmployees(List<EmployeeDto> employeeDtos) {
+        return importEmployees(employeeDtos, Map.of());
     }
 
     @Override
-    public List<EmployeeDto> getAllEmployees() {
-        List<Employee> allEmployees = (List<Employee>) employeeRepository.findAll();
-        List<EmployeeDto> activeEmployeeDtos = new ArrayList<>();
+    @Transactional
+    public EmployeeImportResultDto importEmployees(List<EmployeeDto> employeeDtos, Map<Integer, String> rejectedRows) {
+        String[] rowErrors = new String[employeeDtos.size()];
+        rejectedRows.forEach((row, error) -> rowErrors[row] = error);
+        IntStream.range(0, employeeDtos.size()).parallel().forEach(row -> {
+            if (rowErrors[row] != null) {
+                return;
+            }
+            Set<ConstraintViolation<EmployeeDto>> violations = beanValidator.validate(employeeDtos.get(row));
+            if (!violations.isEmpty()) {
+                rowErrors[row] = violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+            }
+        });
+
+        Set<Integer> departmentIds = new HashSet<>();
+        for (int row = 0; row < employeeDtos.size(); row++) {
+            if (rowErrors[row] == null) {
+                departmentIds.add(employeeDtos.get(row).getDepartmentID());
+            }
+        }
+        Set<Integer> activeDepartmentIds = departmentService.getActiveDepartmentIds(departmentIds);
+
+        Set<String> existingNames = new HashSet<>();
+        Set<String> existingEmailIds = new HashSet<>();
+        Map<Integer, Long> importedByDepartment = new HashMap<>();
+        int importedCount = 0;
+        for (int start = 0; start < employeeDtos.size(); start += IMPORT_BATCH_SIZE) {
+            int end = Math.min(start + IMPORT_BATCH_SIZE, employeeDtos.size());
+            Set<String> names = new HashSet<>();
+            Set<String> emailIds = new HashSet<>();
+            for (int row = start; row < end; row++) {
+                if (rowErrors[row] == null) {
+                    names.add(employeeDtos.get(row).getName());
+                    emailIds.add(employeeDtos.get(row).getEmailId());
+                }
+            }
+            if (names.isEmpty()) {
+                continue;
+            }
+            for (Object[] existing : employeeRepository.findExistingByNamesOrEmailIds(names, emailIds)) {
+                existingNames.add(existing[0] + "|" + existing[1]);
+                existingEmailIds.add((String) existing[2]);
+            }
 
-        for (Employee employee : allEmployees) {
-            if (employee.isActive()) {
-                activeEmployeeDtos.add(mapToEmployeeDto(employee));
+            List<EmployeeDto> validEmployeeDtos = new ArrayList<>();
+            for (int row = start; row < end; row++) {
+                EmployeeDto employeeDto = employeeDtos.get(row);
+                if (rowErrors[row] != null) {
+                    continue;
+                }
+                if (!activeDepartmentIds.contains(employeeDto.getDepartmentID())) {
+                    rowErrors[row] = "Department not found with ID: " + employeeDto.getDepartmentID();
+                } else if (!existingNames.add(employeeDto.getName() + "|" + employeeDto.getDepartmentID())) {
+                    rowErrors[row] = "Employee already exists in the department.";
+                } else if (!existingEmailIds.add(employeeDto.getEmailId())) {
+                    rowErrors[row] = "Employee already exists with email ID: " + employeeDto.getEmailId();
+                } else {
+                    validEmployeeDtos.add(employeeDto);
+                    importedByDepartment.merge(employeeDto.getDepartmentID(), 1L, Long::sum);
+                }
             }
+            if (!validEmployeeDtos.isEmpty()) {
+                employeeBatchRepository.insertEmployees(validEmployeeDtos);
+                importedCount += validEmployeeDtos.size();
+            }
+        }
+
+        List<EmployeeImportErrorDto> failures = new ArrayList<>();
+        for (int row = 0; row < employeeDtos.size(); row++) {
+            if (rowErrors[row] != null) {
+                failures.add(new EmployeeImportErrorDto(row + 1, rowErrors[row]));
+            }
+        }
+        if (importedCount > 0) {
+            resourceVersions.employeesChanged();
+            importedByDepartment.forEach(employeeHeadcounts::departmentChanged);
+            rebuildIndexesAfterCommit();
         }
-        logger.info("Retrieving list of all Employees");
+        logger.info("Imported {} of {} Employees", importedCount, employeeDtos.size());
+        return EmployeeImportResultDto.builder()
+                .totalCount(employeeDtos.size())
+                .importedCount(importedCount)
+                .failures(failures)
+                .build();
+    }
+
+    @Override
+    public List<EmployeeDto> getAllEmployees(int after, int limit) {
+        List<EmployeeDto> activeEmployeeDtos = employeeQueryRepository.findActiveAfter(
+                after, Validator.validateLimit(limit));
+        logger.info("Retrieving list of Employees after ID: {}", after);
         return activeEmployeeDtos;
     }
 
+    @Override
+    public int exportEmployees(Consumer<EmployeeDto> consumer) {
+        int exportedCount = 0;
+        List<EmployeeDto> page;
+        int after = 0;
+        do {
+            page = employeeQueryRepository.findActiveAfter(after, EXPORT_PAGE_SIZE);
+            page.forEach(consumer);
+            exportedCount += page.size();
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == EXPORT_PAGE_SIZE);
+        logger.info("Exported {} active Employees", exportedCount);
+        return exportedCount;
+    }
+
     @Override
     public EmployeeDto getEmployeeById(int id) {
-        Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + id));
-        logger.error("Employee is deleted with ID: {}", id);
-        if (!employee.isActive()) {
-            throw new IllegalArgumentException("Employee is inactive with ID: " + id);
+        return employeeQueryRepository.findActiveById(id)
+                .orElseThrow(() -> {
+                    if (!employeeRepository.existsById(id)) {
+                        return new ResourceNotFoundException("Employee not found with ID: " + id);
+                    }
+                    logger.error("Employee is deleted with ID: {}", id);
+                    return new IllegalArgumentException("Employee is inactive with ID: " + id);
+                });
+    }
+
+    @Override
+    public List<EmployeeSearchDto> searchEmployees(String query, int limit) {
+        return employeeSearchIndex.search(query, Validator.validateLimit(limit));
+    }
+
+    @Override
+    public List<EmployeeDto> getEmployeesByAddress(EmployeeAddressFilterDto employeeAddressFilterDto, int after, int limit) {
+        int pageLimit = Validator.validateLimit(limit);
+        if (employeeLocationIndex.isEnabled() && employeeAddressFilterDto.getCity() != null
+                && employeeAddressFilterDto.getZipPrefix() == null) {
+            return employeeQueryRepository.findActiveByIds(employeeLocationIndex.findIds(
+                    employeeAddressFilterDto.getCity(), employeeAddressFilterDto.getState(), after, pageLimit));
+        }
+        return employeeQueryRepository.findActiveByAddress(employeeAddressFilterDto, after, pageLimit);
+    }
+
+    @Override
+    public List<EmployeeDto> getEmployeesByAge(EmployeeAgeFilterDto employeeAgeFilterDto, int after, int limit) {
+        LocalDate today = DayClock.today();
+        return employeeQueryRepository.findActiveByDobRange(
+                today.minusYears(employeeAgeFilterDto.getMaxAge() + 1L),
+                today.minusYears(employeeAgeFilterDto.getMinAge()),
+                after, Validator.validateLimit(limit));
+    }
+
+    @Override
+    public List<EmployeeDto> getUpcomingBirthdays(int days, int limit) {
+        LocalDate today = DayClock.today();
+        LocalDate lastDay = today.plusDays(Validator.validateBirthdayDays(days));
+        if (!lastDay.isBefore(today.plusYears(1).minusDays(1))) {
+            lastDay = today.minusDays(1);
         }
-        return mapToEmployeeDto(employee);
+        return employeeQueryRepository.findActiveByBirthdayRange(Validator.birthdayKey(today),
+                Validator.birthdayKey(lastDay), Validator.validateLimit(limit));
     }
 
+    @Override
+    public List<LocationCountDto> getEmployeeCountsByCity(String state) {
+        if (employeeLocationIndex.isEnabled()) {
+            return employeeLocationIndex.countByCity(state);
+        }
+        return employeeQueryRepository.countActiveByCity(state);
+    }
 
     @Override
+    public List<LocationCountDto> getEmployeeCountsByState() {
+        if (employeeLocationIndex.isEnabled()) {
+            return employeeLocationIndex.countByState();
+        }
+        return employeeQueryRepository.countActiveByState();
+    }
+
+    private void indexAfterCommit(EmployeeDto employeeDto) {
+        EmployeeSearchDto entry = new EmployeeSearchDto(employeeDto.getId(), employeeDto.getName(), employeeDto.getEmailId());
+        EmployeeLocationDto location = new EmployeeLocationDto(employeeDto.getId(), employeeDto.getState(), employeeDto.getCity());
+        EmployeeFactsDto facts = new EmployeeFactsDto(employeeDto.getId(), employeeDto.getDepartmentID(),
+                employeeDto.getDob(), employeeDto.getState(), employeeDto.getCity());
+        Transactions.afterCommit(() -> {
+            employeeSearchIndex.put(entry);
+            employeeLocationIndex.put(location);
+            employeeColumnStore.put(facts);
+        });
+    }
+
+    private void rebuildIndexesAfterCommit() {
+        Transactions.afterCommit(() -> {
+            employeeSearchIndex.rebuildAsync();
+            employeeLocationIndex.rebuildAsync();
+            employeeColumnStore.rebuildAsync();
+        });
+    }
+
+    @Override
+    @Transactional
     public EmployeeDto updateEmployee(int id, EmployeeDto employeeDto) {
-        Employee existingEmployee = employeeRepository.findById(id)
+        Employee employee = getUpdatableEmployee(id);
+        DepartmentDto department = departmentService.getDepartmentById(employeeDto.getDepartmentID());
+        int previousDepartmentId = employee.getDepartment().getId();
+        applyChanges(employee, employeeDto, department);
+        return saveChanges(employee, previousDepartmentId);
+    }
+
+    @Override
+    @Transactional
+    public EmployeeDto patchEmployee(int id, JsonNode mergePatch) {
+        Employee employee = getUpdatableEmployee(id);
+        Address address = employee.getAddress();
+        EmployeeDto patchedEmployeeDto = EmployeeDto.builder()
+                .name(employee.getName())
+                .dob(employee.getDob())
+                .emailId(employee.getEmailId())
+                .departmentID(employee.getDepartment().getId())
+                .street(address == null ? null : address.getStreet())
+                .city(address == null ? null : address.getCity())
+                .state(address == null ? null : address.getState())
+                .zip(address == null ? null : address.getZip())
+                .build();
+        try {
+            objectMapper.readerForUpdating(patchedEmployeeDto).readValue(mergePatch);
+        } catch (IOException e) {
+            throw new InvalidPatchException("Invalid patch for employee with ID: " + id,
+                    Map.of(rejectedField(e), "Invalid value"));
+        }
+
+        Map<String, String> fieldErrors = new TreeMap<>();
+        for (Iterator<String> fields = mergePatch.fieldNames(); fields.hasNext();) {
+            String field = fields.next();
+            if (PATCHABLE_FIELDS.contains(field)) {
+                for (ConstraintViolation<EmployeeDto> violation : beanValidator.validateProperty(patchedEmployeeDto, field)) {
+                    fieldErrors.put(field, violation.getMessage());
+                }
+            }
+        }
+        if (!fieldErrors.isEmpty()) {
+            throw new InvalidPatchException("Invalid patch for employee with ID: " + id, fieldErrors);
+        }
+
+        int previousDepartmentId = employee.getDepartment().getId();
+        DepartmentDto department = patchedEmployeeDto.getDepartmentID() == previousDepartmentId
+                ? null : departmentService.getDepartmentById(patchedEmployeeDto.getDepartmentID());
+        applyChanges(employee, patchedEmployeeDto, department);
+        return saveChanges(employee, previousDepartmentId);
+    }
+
+    private Employee getUpdatableEmployee(int id) {
+        Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + id));
 
-        if (!existingEmployee.isActive()) {
+        if (!employee.isActive()) {
             throw new ResourceNotFoundException("Cannot update an inactive employee with ID: " + id);
         }
+        return employee;
+    }
 
-        DepartmentDto department = departmentService.getDepartmentById(employeeDto.getDepartmentID());
-        Address address = Address.builder()
-                .street(employeeDto.getStreet())
-                .city(employeeDto.getCity())
-                .state(employeeDto.getState())
-                .zip(employeeDto.getZip())
-                .build();
+    private static String rejectedField(IOException e) {
+        if (e instanceof JsonMappingException mappingException && !mappingException.getPath().isEmpty()
+                && mappingException.getPath().get(0).getFieldName() != null) {
+            return mappingException.getPath().get(0).getFieldName();
+        }
+        return "patch";
+    }
 
-        Employee employee = mapToEmployee(employeeDto);
-        employee.setId(id);
-        employee.setDepartment(DepartmentMapper.mapToDepartment(department));
-        employee.setAddress(address);
+    /**
+     * Copies the editable fields onto the loaded employee and updates its address in place,
+     * adding one only if the employee has none. Values equal to the stored ones leave the
+     * entity clean, so the flush only writes the columns that changed.
+     *
+     * @param department the department to move the employee to, or null to keep the current one
+     */
+    private static void applyChanges(Employee employee, EmployeeDto employeeDto, DepartmentDto department) {
+        employee.setName(employeeDto.getName());
+        employee.setDob(employeeDto.getDob());
+        employee.setEmailId(employeeDto.getEmailId());
+        if (department != null && department.getId() != employee.getDepartment().getId()) {
+            employee.setDepartment(DepartmentMapper.mapToDepartment(department));
+        }
+        Address address = employee.getAddress();
+        if (address == null) {
+            if (employeeDto.getStreet() == null && employeeDto.getCity() == null
+                    && employeeDto.getState() == null && employeeDto.getZip() == null) {
+                return;
+            }
+            address = new Address();
+            employee.setAddress(address);
+        }
+        address.setStreet(employeeDto.getStreet());
+        address.setCity(employeeDto.getCity());
+        address.setState(employeeDto.getState());
+        address.setZip(employeeDto.getZip());
+    }
 
-        Employee updatedEmployee = employeeRepository.save(employee);
-        logger.info("Updated Employee with name {}",updatedEmployee.getName());
-        return mapToEmployeeDto(updatedEmployee);
+    private EmployeeDto saveChanges(Employee employee, int previousDepartmentId) {
+        EmployeeDto updatedEmployeeDto = mapToEmployeeDto(employeeRepository.save(employee));
+        resourceVersions.employeeChanged(updatedEmployeeDto.getId());
+        if (previousDepartmentId != updatedEmployeeDto.getDepartmentID()) {
+            employeeHeadcounts.departmentChanged(previousDepartmentId, -1);
+            employeeHeadcounts.departmentChanged(updatedEmployeeDto.getDepartmentID(), 1);
+        }
+        indexAfterCommit(updatedEmployeeDto);
+        logger.info("Updated Employee with name {}",updatedEmployeeDto.getName());
+        return updatedEmployeeDto;
     }
 
     @Override
+    @Transactional
     public void deleteEmployee(int id) {
-        Employee existingEmployee = employeeRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + id));
-        logger.error("Employee not found  with ID: {}", id);
-        existingEmployee.setActive(false);
-        employeeRepository.save(existingEmployee);
+        boolean deactivated = employeeRepository.updateActiveByIds(List.of(id), false) > 0;
+        if (!deactivated && !employeeRepository.existsById(id)) {
+            logger.error("Employee not found  with ID: {}", id);
+            throw new ResourceNotFoundException("Employee not found with ID: " + id);
+        }
+        resourceVersions.employeeChanged(id);
+        if (deactivated) {
+            employeeRepository.findDepartmentIdById(id)
+                    .ifPresent(departmentId -> employeeHeadcounts.departmentChanged(departmentId, -1));
+            for (int sportId : employeeSportRepository.findSportIds(id)) {
+                employeeHeadcounts.sportChanged(sportId, -1);
+            }
+        }
+        Transactions.afterCommit(() -> {
+            employeeSearchIndex.remove(id);
+            employeeLocationIndex.remove(id);
+            employeeColumnStore.remove(id);
+        });
+        logger.info("Deactivated employee with ID: {}", id);
     }
 
     @Override
-    public EmployeeDto addSportToEmployee(int employeeId, int sportId) {
-        Employee employee = employeeRepository.findById(employeeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + employeeId));
+    @Transactional
+    public EmployeeStatusUpdateResultDto deactivateEmployees(EmployeeStatusUpdateRequestDto employeeStatusUpdateRequestDto) {
+        int affectedCount = updateActive(employeeStatusUpdateRequestDto, false);
+        logger.info("Deactivated {} employees", affectedCount);
+        return new EmployeeStatusUpdateResultDto(affectedCount);
+    }
+
+    @Override
+    @Transactional
+    public EmployeeStatusUpdateResultDto reactivateEmployees(EmployeeStatusUpdateRequestDto employeeStatusUpdateRequestDto) {
+        int affectedCount = updateActive(employeeStatusUpdateRequestDto, true);
+        logger.info("Reactivated {} employees", affectedCount);
+        return new EmployeeStatusUpdateResultDto(affectedCount);
+    }
+
+    private int updateActive(EmployeeStatusUpdateRequestDto employeeStatusUpdateRequestDto, boolean active) {
+        resourceVersions.employeesChanged();
+        employeeHeadcounts.reconcileAfterCommit();
+        rebuildIndexesAfterCommit();
+        if (employeeStatusUpdateRequestDto.getIds() != null && !employeeStatusUpdateRequestDto.getIds().isEmpty()) {
+            return employeeRepository.updateActiveByIds(employeeStatusUpdateRequestDto.getIds(), active);
+        }
+        return employeeRepository.updateActiveByFilter(employeeStatusUpdateRequestDto.getDepartmentId(),
+                employeeStatusUpdateRequestDto.getCity(), active);
+    }
 
+    @Override
+    @Transactional
+    public EmployeeDto addSportToEmployee(int employeeId, int sportId) {
         SportDto sport = sportService.getSportById(sportId);
-        if(sport == null) {
-            throw new ResourceNotFoundException("Sport not found with ID: " + sportId);
+        try {
+            employeeSportRepository.insert(employeeId, sportId);
+        } catch (DuplicateKeyException e) {
+            throw new ResourceAlreadyExistsException("Sport with ID: " + sportId + " is already assigned to Employee with ID: " + employeeId);
+        } catch (DataIntegrityViolationException e) {
+            throw new ResourceNotFoundException("Employee not found with ID: " + employeeId);
         }
+        employeeRepository.incrementVersions(List.of(employeeId));
+        resourceVersions.employeeChanged(employeeId);
+        employeeHeadcounts.sportChanged(sportId, 1);
+        Transactions.afterCommit(() -> employeeColumnStore.sportAssigned(employeeId, sportId));
+        EmployeeDto employeeDto = employeeQueryRepository.findActiveById(employeeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + employeeId));
+        logger.info("Adding sport {} to Employee {}", sport.getName(), employeeDto.getName());
+        return employeeDto;
+    }
 
-        boolean alreadyAssigned = employee.getSports().stream()
-                .anyMatch(existingSport -> existingSport.getId() == sportId);
+    @Override
+    @Transactional
+    public List<SportAssignmentResultDto> addSportsToEmployees(SportAssignmentRequestDto sportAssignmentRequestDto) {
+        List<SportAssignmentDto> assignments = new ArrayList<>();
+        if (sportAssignmentRequestDto.getAssignments() != null) {
+            assignments.addAll(sportAssignmentRequestDto.getAssignments());
+        }
+        if (sportAssignmentRequestDto.getSportId() != null && sportAssignmentRequestDto.getEmployeeIds() != null) {
+            for (int employeeId : sportAssignmentRequestDto.getEmployeeIds()) {
+                assignments.add(new SportAssignmentDto(employeeId, sportAssignmentRequestDto.getSportId()));
+            }
+        }
+        if (assignments.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        if (alreadyAssigned) {
-            throw new ResourceAlreadyExistsException("Sport with ID: " + sportId + " is already assigned to Employee with ID: " + employeeId);
+        Set<Integer> employeeIds = new HashSet<>();
+        Set<Integer> sportIds = new HashSet<>();
+        for (SportAssignmentDto assignment : assignments) {
+            employeeIds.add(assignment.getEmployeeId());
+            sportIds.add(assignment.getSportId());
+        }
+        Set<Integer> activeEmployeeIds = new HashSet<>(employeeRepository.findActiveEmployeeIds(employeeIds));
+        Set<Integer> activeSportIds = sportService.getActiveSportIds(sportIds);
+        Set<String> assigned = new HashSet<>();
+        for (SportAssignmentDto existing : employeeSportRepository.findExisting(employeeIds, sportIds)) {
+            assigned.add(existing.getEmployeeId() + "|" + existing.getSportId());
         }
-        employee.getSports().add(SportMapper.mapToSport(sport));
 
-        Employee updatedEmployee = employeeRepository.save(employee);
-        logger.info("Adding sport {} to Employee {}", sport.getName(), employee.getName());
-        return mapToEmployeeDto(updatedEmployee);
+        List<SportAssignmentResultDto> results = new ArrayList<>();
+        List<SportAssignmentDto> toInsert = new ArrayList<>();
+        for (SportAssignmentDto assignment : assignments) {
+            SportAssignmentResultDto.Status status;
+            if (!activeEmployeeIds.contains(assignment.getEmployeeId())) {
+                status = SportAssignmentResultDto.Status.EMPLOYEE_NOT_FOUND;
+            } else if (!activeSportIds.contains(assignment.getSportId())) {
+                status = SportAssignmentResultDto.Status.SPORT_NOT_FOUND;
+            } else if (!assigned.add(assignment.getEmployeeId() + "|" + assignment.getSportId())) {
+                status = SportAssignmentResultDto.Status.ALREADY_ASSIGNED;
+            } else {
+                status = SportAssignmentResultDto.Status.ASSIGNED;
+                toInsert.add(assignment);
+            }
+            results.add(new SportAssignmentResultDto(assignment.getEmployeeId(), assignment.getSportId(), status));
+        }
+        if (!toInsert.isEmpty()) {
+            try {
+                employeeSportRepository.insertAll(toInsert);
+            } catch (DuplicateKeyException e) {
+                throw new ResourceAlreadyExistsException("Some of the sports were assigned concurrently, retry the request");
+            }
+            employeeRepository.incrementVersions(toInsert.stream()
+                    .map(SportAssignmentDto::getEmployeeId)
+                    .collect(Collectors.toSet()));
+            resourceVersions.employeesChanged();
+            toInsert.stream()
+                    .collect(Collectors.groupingBy(SportAssignmentDto::getSportId, Collectors.counting()))
+                    .forEach(employeeHeadcounts::sportChanged);
+            Transactions.afterCommit(() -> toInsert.forEach(
+                    assignment -> employeeColumnStore.sportAssigned(assignment.getEmployeeId(), assignment.getSportId())));
+        }
+        logger.info("Assigned {} of {} requested sports", toInsert.size(), assignments.size());
+        return results;
     }
 
     @Override
+    @Transactional
     public EmployeeDto removeSportFromEmployee(int employeeId, int sportId) {
-        Employee employee = employeeRepository.findById(employeeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + employeeId));
-
         SportDto sport = sportService.getSportById(sportId);
-        boolean removed = employee.getSports().removeIf(existingSport -> existingSport.getId() == sportId);
+        boolean removed = employeeSportRepository.delete(employeeId, sportId);
+        if (removed) {
+            employeeRepository.incrementVersions(List.of(employeeId));
+            resourceVersions.employeeChanged(employeeId);
+            employeeHeadcounts.sportChanged(sportId, -1);
+            Transactions.afterCommit(() -> employeeColumnStore.sportUnassigned(employeeId, sportId));
+        }
+        EmployeeDto employeeDto = employeeQueryRepository.findActiveById(employeeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with ID: " + employeeId));
 
         if (!removed) {
             throw new ResourceNotFoundException("Sport not found or not assigned to Employee with ID: " + employeeId);
         }
-
-        Employee updatedEmployee = employeeRepository.save(employee);
-        logger.info("Removing sport {} to Employee {}", sport.getName(), employee.getName());
-        return mapToEmployeeDto(updatedEmployee);
+        logger.info("Removing sport {} to Employee {}", sport.getName(), employeeDto.getName());
+        return employeeDto;
     }
-}
\ No newline at end of file
+}
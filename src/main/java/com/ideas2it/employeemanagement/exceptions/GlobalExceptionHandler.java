@@ -1,5 +1,12 @@
 package com.ideas2it.employeemanagement.exceptions;
 
+import com.ideas2it.employeemanagement.model.Department;
+import com.ideas2it.employeemanagement.model.Employee;
+import com.ideas2it.employeemanagement.model.Sport;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -9,9 +16,12 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * GlobalExceptionHandler is responsible for handling exceptions that occur throughout the application.
@@ -20,6 +30,24 @@ import java.util.Map;
  */
 @ControllerAdvice
 public class GlobalExceptionHandler {
+    private static final Logger logger = LogManager.getLogger(GlobalExceptionHandler.class);
+
+    /**
+     * Vendor error codes of a unique key violation: MySQL duplicate entry, SQL Server
+     * duplicate key in a unique index and in a unique constraint.
+     */
+    private static final Set<Integer> DUPLICATE_KEY_ERROR_CODES = Set.of(1062, 2601, 2627);
+
+    /**
+     * Standard SQL state of a unique key violation, used by H2 among others.
+     */
+    private static final String DUPLICATE_KEY_SQL_STATE = "23505";
+
+    private static final Map<String, String> DUPLICATE_KEY_MESSAGES = Map.of(
+            Employee.NAME_DEPARTMENT_KEY, "Employee already exists in the department.",
+            Employee.EMAIL_KEY, "Employee already exists with this email ID.",
+            Department.NAME_KEY, "Department already exists with this name.",
+            Sport.NAME_KEY, "Sport already exists with this name.");
 
     /**
      * Handles cases where a resource already exists.
@@ -39,6 +67,24 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorDetails, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Handles constraint violations raised by the database. Creates and updates rely on the
+     * unique keys to detect duplicates, so a unique key violation is answered like
+     * ResourceAlreadyExistsException with a 409 Conflict status; any other violation is a server error.
+     *
+     * @param req   The HttpServletRequest object that contains the request the client made to the server.
+     * @param e     The exception that was thrown.
+     * @return A ResponseEntity containing the error details and HTTP status.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Map<String, Object>> handleDataIntegrityViolation(HttpServletRequest req,
+                                                                            DataIntegrityViolationException e) {
+        if (!isDuplicateKey(e)) {
+            return handleAnyServerError(req, e);
+        }
+        return handleConflict(req, new ResourceAlreadyExistsException(duplicateKeyMessage(e)));
+    }
+
     /**
      * Handles cases where a requested resource could not be found.
      * This method intercepts ResourceNotFoundException and returns a 404 Not Found status.
@@ -94,5 +140,53 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorMap, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles partial updates carrying values a field cannot take.
+     * This method intercepts InvalidPatchException and returns a map of field errors and their respective messages.
+     *
+     * @param req   The HttpServletRequest object that contains the request the client made to the server.
+     * @param e     The exception that was thrown.
+     * @return A Map containing field names as keys and error messages as values.
+     */
+    @ExceptionHandler(InvalidPatchException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidPatch(HttpServletRequest req, InvalidPatchException e) {
+        Map<String, String> errorMap = new HashMap<>(e.getFieldErrors());
+        errorMap.put("url", String.valueOf(req.getRequestURL()));
+        errorMap.put("TimeStamp", String.valueOf(LocalDateTime.now()));
+        return new ResponseEntity<>(errorMap, HttpStatus.BAD_REQUEST);
+    }
+
+    private static boolean isDuplicateKey(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DuplicateKeyException) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException
+                    && (DUPLICATE_KEY_ERROR_CODES.contains(sqlException.getErrorCode())
+                    || DUPLICATE_KEY_SQL_STATE.equals(sqlException.getSQLState()))) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-}
\ No newline at end of file
+    /**
+     * Describes the duplicate from the name of the violated key when it is one of ours.
+     * Otherwise the message of the database, which names tables, keys and values, is only
+     * logged and the client gets a generic message.
+     */
+    private static String duplicateKeyMessage(Throwable e) {
+        Throwable rootCause = e;
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage() == null ? "" : cause.getMessage().toLowerCase(Locale.ROOT);
+            for (Map.Entry<String, String> duplicateKeyMessage : DUPLICATE_KEY_MESSAGES.entrySet()) {
+                if (message.contains(duplicateKeyMessage.getKey())) {
+                    return duplicateKeyMessage.getValue();
+                }
+            }
+            rootCause = cause;
+        }
+        logger.warn("Unique key violation without a mapped message: {}", rootCause.getMessage());
+        return "Resource already exists.";
+    }
+}
@@ -0,0 +1,22 @@
+package com.ideas2it.employeemanagement.exceptions;
+
+import java.util.Map;
+
+/**
+ * This class use for custom exceptions.
+ * Thrown when a partial update carries values the resource cannot take, with the
+ * message of every rejected field.
+ * @author kishore
+ */
+public class InvalidPatchException extends RuntimeException {
+    private final Map<String, String> fieldErrors;
+
+    public InvalidPatchException(String message, Map<String, String> fieldErrors) {
+        super(message);
+        this.fieldErrors = fieldErrors;
+    }
+
+    public Map<String, String> getFieldErrors() {
+        return fieldErrors;
+    }
+}
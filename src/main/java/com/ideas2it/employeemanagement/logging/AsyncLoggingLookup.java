@@ -0,0 +1,30 @@
+package com.ideas2it.employeemanagement.logging;
+
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.async.AsyncLoggerContextSelector;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.lookup.StrLookup;
+
+/**
+ *<p>
+ * Log4j lookup that answers {@code ${asyncLogging:immediateFlush}} with {@code false} when the
+ * async context selector is in use and {@code true} otherwise. Async loggers flush at the end
+ * of each batch from the ring buffer; synchronous loggers have no batch, so without a flush per
+ * line the last lines before a crash would be lost.
+ *</p>
+ * @author Kishore
+ */
+@Plugin(name = "asyncLogging", category = StrLookup.CATEGORY)
+public class AsyncLoggingLookup implements StrLookup {
+    private static final String IMMEDIATE_FLUSH = "immediateFlush";
+
+    @Override
+    public String lookup(String key) {
+        return IMMEDIATE_FLUSH.equals(key) ? Boolean.toString(!AsyncLoggerContextSelector.isSelected()) : null;
+    }
+
+    @Override
+    public String lookup(LogEvent event, String key) {
+        return lookup(key);
+    }
+}
@@ -0,0 +1,50 @@
+package com.ideas2it.employeemanagement.logging;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.logging.log4j.ThreadContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ *<p>
+ * Puts one in every {@code oneIn} HTTP requests in the log sample, and records the choice in
+ * the thread context under {@link SamplingFilter#SAMPLED_KEY} for {@link SamplingFilter} to
+ * read while the request is handled. Every line a sampled request logs is kept, so its
+ * request and response lines stay together.
+ *</p>
+ *<p>
+ * With {@code oneIn} at 1 every request is logged and the thread context is left alone.
+ *</p>
+ * @author Kishore
+ */
+@Component
+public class RequestLogSamplingFilter extends OncePerRequestFilter {
+    private final int oneIn;
+
+    public RequestLogSamplingFilter(@Value("${employeemanagement.log.request-sample-one-in:1}") int oneIn) {
+        this.oneIn = Math.max(1, oneIn);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (oneIn == 1) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        ThreadContext.put(SamplingFilter.SAMPLED_KEY, ThreadLocalRandom.current().nextInt(oneIn) == 0
+                ? SamplingFilter.SAMPLED : SamplingFilter.NOT_SAMPLED);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ThreadContext.remove(SamplingFilter.SAMPLED_KEY);
+        }
+    }
+}
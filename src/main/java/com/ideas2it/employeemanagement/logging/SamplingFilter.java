@@ -0,0 +1,166 @@
+package com.ideas2it.employeemanagement.logging;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.Logger;
+import org.apache.logging.log4j.core.config.Node;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.filter.AbstractFilter;
+import org.apache.logging.log4j.message.Message;
+
+/**
+ *<p>
+ * Log4j filter that drops the events at {@code level} or below from the loggers whose name
+ * matches {@code loggerPattern} while the thread serves a request that
+ * {@link RequestLogSamplingFilter} left out of the sample, so a request is logged in full or
+ * not at all. Configured context-wide, it runs on the calling thread before the message is
+ * formatted or handed to the async ring buffer, so a dropped event costs a thread context
+ * lookup and a map lookup.
+ *</p>
+ *<p>
+ * Events more severe than {@code level} are never dropped, and neither are events logged
+ * outside a request, such as at start-up or on the async export thread.
+ *</p>
+ * @author Kishore
+ */
+@Plugin(name = "SamplingFilter", category = Node.CATEGORY, elementType = Filter.ELEMENT_TYPE, printObject = true)
+public final class SamplingFilter extends AbstractFilter {
+
+    /**
+     * The thread context key holding whether the current request is in the sample,
+     * {@value #SAMPLED} or {@value #NOT_SAMPLED}.
+     */
+    public static final String SAMPLED_KEY = "logSampled";
+    public static final String SAMPLED = "true";
+    public static final String NOT_SAMPLED = "false";
+
+    private final Level level;
+    private final Pattern loggerPattern;
+    private final Map<String, Boolean> sampledLoggers = new ConcurrentHashMap<>();
+
+    private SamplingFilter(Level level, Pattern loggerPattern) {
+        super(Result.NEUTRAL, Result.DENY);
+        this.level = level;
+        this.loggerPattern = loggerPattern;
+    }
+
+    /**
+     * Creates the filter from its configuration attributes.
+     *
+     * @param level         The most severe level that is sampled, INFO unless set.
+     * @param loggerPattern The names of the loggers that are sampled, all unless set.
+     * @return The filter.
+     */
+    @PluginFactory
+    public static SamplingFilter createFilter(@PluginAttribute("level") Level level,
+                                              @PluginAttribute("loggerPattern") String loggerPattern) {
+        return new SamplingFilter(level == null ? Level.INFO : level,
+                Pattern.compile(loggerPattern == null ? ".*" : loggerPattern));
+    }
+
+    private Result filter(String loggerName, Level eventLevel, String sampled) {
+        if (!NOT_SAMPLED.equals(sampled) || eventLevel.intLevel() < level.intLevel() || !isSampled(loggerName)) {
+            return onMatch;
+        }
+        return onMismatch;
+    }
+
+    private Result filter(String loggerName, Level eventLevel) {
+        return filter(loggerName, eventLevel, ThreadContext.get(SAMPLED_KEY));
+    }
+
+    private boolean isSampled(String loggerName) {
+        Boolean sampled = sampledLoggers.get(loggerName);
+        if (sampled == null) {
+            sampled = loggerPattern.matcher(loggerName).matches();
+            sampledLoggers.put(loggerName, sampled);
+        }
+        return sampled;
+    }
+
+    @Override
+    public Result filter(LogEvent event) {
+        return filter(event.getLoggerName(), event.getLevel(), event.getContextData().getValue(SAMPLED_KEY));
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, Message msg, Throwable t) {
+        return filter(logger.getName(), level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, Object msg, Throwable t) {
+        return filter(logger.getName(), level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object... params) {
+        return filter(logger.getName(), level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0) {
+        return filter(logger.getName(), level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1) {
+        return filter(logger.getName(), level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2) {
+        return filter(logger.getName(), level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2,
+                         Object p3) {
+        return filter(logger.getName(), level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2,
+                         Object p3, Object p4) {
+        return filter(logger.getName(), level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2,
+                         Object p3, Object p4, Object p5) {
+        return filter(logger.getName(), level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2,
+                         Object p3, Object p4, Object p5, Object p6) {
+        return filter(logger.getName(), level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2,
+                         Object p3, Object p4, Object p5, Object p6, Object p7) {
+        return filter(logger.getName(), level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2,
+                         Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
+        return filter(logger.getName(), level);
+    }
+
+    @Override
+    public Result filter(Logger logger, Level level, Marker marker, String msg, Object p0, Object p1, Object p2,
+                         Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
+        return filter(logger.getName(), level);
+    }
+}
@@ -5,11 +5,11 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.DynamicUpdate;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,7 +22,11 @@ import lombok.Setter;
  * @author  Kishore
  */
 @Entity
-@Table(name = "address")
+@DynamicUpdate
+@Table(name = "address", indexes = {
+        @Index(name = "idx_address_city", columnList = "city"),
+        @Index(name = "idx_address_state_city", columnList = "state, city"),
+        @Index(name = "idx_address_zip", columnList = "zip")})
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
@@ -30,7 +34,7 @@ import lombok.Setter;
 @Setter
 public class Address {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockId(segment = BlockTableGenerator.ADDRESS_SEGMENT)
     private int id;
 
     @Column(name = "street")
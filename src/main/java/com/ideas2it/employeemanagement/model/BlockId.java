@@ -0,0 +1,27 @@
+package com.ideas2it.employeemanagement.model;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks an ID that is handed out by {@link BlockTableGenerator} from the given
+ * {@code id_block} row.
+ * @author  Kishore
+ */
+@IdGeneratorType(BlockTableGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface BlockId {
+
+    /**
+     * @return The {@code id_block} row the IDs are reserved from, one of the {@code *_SEGMENT} constants of
+     * {@link BlockTableGenerator}.
+     */
+    String segment();
+}
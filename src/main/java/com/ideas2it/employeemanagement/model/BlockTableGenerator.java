@@ -0,0 +1,68 @@
+package com.ideas2it.employeemanagement.model;
+
+import java.lang.reflect.Member;
+import java.util.Properties;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+/**
+ * Identifier generator that hands out IDs in blocks reserved from the {@code id_block} table.
+ * Each entity has its own row holding the last ID handed out. Reserving a block is one
+ * update, after which IDs are assigned from memory, so Hibernate no longer has to run each
+ * INSERT immediately to learn the key and inserts can be sent as JDBC batches.
+ * The block size is read from the {@code employeemanagement.id.block-size} setting.
+ * Works on any database with plain tables, including MySQL and SQL Server.
+ * Applied to an ID field through {@link BlockId}.
+ * @author  Kishore
+ */
+public class BlockTableGenerator extends TableGenerator {
+    private static final long serialVersionUID = 1L;
+
+    public static final String TABLE_NAME = "id_block";
+    public static final String SEGMENT_COLUMN = "entity";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final String BLOCK_SIZE_SETTING = "employeemanagement.id.block-size";
+
+    public static final String EMPLOYEE_SEGMENT = "employee";
+    public static final String ADDRESS_SEGMENT = "address";
+    public static final String DEPARTMENT_SEGMENT = "department";
+    public static final String SPORT_SEGMENT = "sport";
+
+    private static final int DEFAULT_BLOCK_SIZE = 50;
+
+    private final String segment;
+
+    /**
+     * Creates the generator of an ID field marked with {@link BlockId}.
+     *
+     * @param blockId The annotation on the field, naming its {@code id_block} row.
+     * @param idMember The ID field.
+     * @param context Where the generator is being created.
+     */
+    public BlockTableGenerator(BlockId blockId, Member idMember, CustomIdGeneratorCreationContext context) {
+        this.segment = blockId.segment();
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        Object blockSize = serviceRegistry.requireService(ConfigurationService.class)
+                .getSettings()
+                .get(BLOCK_SIZE_SETTING);
+        parameters.setProperty(TABLE_PARAM, TABLE_NAME);
+        parameters.setProperty(SEGMENT_VALUE_PARAM, segment);
+        parameters.setProperty(SEGMENT_COLUMN_PARAM, SEGMENT_COLUMN);
+        parameters.setProperty(VALUE_COLUMN_PARAM, VALUE_COLUMN);
+        parameters.setProperty(OptimizableGenerator.INCREMENT_PARAM,
+                blockSize != null ? blockSize.toString() : String.valueOf(DEFAULT_BLOCK_SIZE));
+        // With hibernate.id.generator.stored_last_used (on by default) the row holds the last ID of the
+        // newest block, and pooled-lo hands out the IDs after it; IdBlockAllocator reserves the same way.
+        parameters.setProperty(OptimizableGenerator.OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
@@ -5,11 +5,11 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,23 +24,33 @@ import java.util.Set;
  * @author  Kishore
  */
 @Entity
-@Table(name = "department")
+@Table(name = "department",
+        uniqueConstraints = @UniqueConstraint(name = Department.NAME_KEY, columnNames = "name"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Department {
+    /**
+     * Unique key on the department name, answered with 409 Conflict when a create or rename hits it.
+     */
+    public static final String NAME_KEY = "uk_department_name";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockId(segment = BlockTableGenerator.DEPARTMENT_SEGMENT)
     private int id;
 
-    @Column(name = "name", unique = true)
+    @Column(name = "name")
     private String name;
 
     @Column(name = "isDeleted")
     private boolean isDeleted;
 
-    @OneToMany(mappedBy = "department", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @Version
+    @Column(name = "version")
+    private long version;
+
+    @OneToMany(mappedBy = "department", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonManagedReference
     private Set<Employee> employees = new HashSet<>();
 }
@@ -6,15 +6,23 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import jakarta.persistence.UniqueConstraint;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
+import com.ideas2it.employeemanagement.utilities.Validator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -35,11 +43,37 @@ import java.util.Set;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@DynamicUpdate
 @Builder
-@Table(name = "employee")
+@Table(name = "employee", indexes = {
+        @Index(name = "idx_employee_dob", columnList = "dob"),
+        @Index(name = "idx_employee_birthday", columnList = "birthday")},
+        uniqueConstraints = {
+                @UniqueConstraint(name = Employee.NAME_DEPARTMENT_KEY, columnNames = {"name", "department_id"}),
+                @UniqueConstraint(name = Employee.EMAIL_KEY, columnNames = "emailId")})
+@NamedEntityGraph(name = Employee.DETAILS_GRAPH, attributeNodes = {
+        @NamedAttributeNode("department"),
+        @NamedAttributeNode("address"),
+        @NamedAttributeNode("sports")})
 public class Employee {
+    /**
+     * Fetch plan loading everything shown in an employee response in a single query.
+     */
+    public static final String DETAILS_GRAPH = "Employee.details";
+
+    /**
+     * Unique key on name and department. A create or update that would add a second employee
+     * of the same name to a department fails on it and is answered with 409 Conflict.
+     */
+    public static final String NAME_DEPARTMENT_KEY = "uk_employee_name_department";
+
+    /**
+     * Unique key on the email ID, answered with 409 Conflict like {@link #NAME_DEPARTMENT_KEY}.
+     */
+    public static final String EMAIL_KEY = "uk_employee_email";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockId(segment = BlockTableGenerator.EMPLOYEE_SEGMENT)
     private int id;
 
     @Column(name = "name")
@@ -48,26 +82,44 @@ public class Employee {
     @Column(name = "dob")
     private LocalDate dob;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    /**
+     * Month and day of {@link #dob} as {@code MMDD}, kept in its own indexed column
+     * so upcoming birthdays are found with a range scan.
+     */
+    @Column(name = "birthday")
+    private int birthday;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "department_id", nullable = false)
     @JsonBackReference
     private Department department;
 
-    @Column(name = "emailId", unique = true)
+    @Column(name = "emailId")
     private String emailId;
 
     @Column(name = "isActive")
     private boolean isActive;
 
-    @OneToOne(cascade = CascadeType.ALL)
+    @Version
+    @Column(name = "version")
+    private long version;
+
+    @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JoinColumn(name = "address_id", referencedColumnName = "id")
     private Address address;
     @JsonIgnore
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany(fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     @JoinTable(
             name = "employee_sport",
             joinColumns = @JoinColumn(name = "Employee_ID"),
-            inverseJoinColumns = @JoinColumn(name = "SPORT_ID"))
+            inverseJoinColumns = @JoinColumn(name = "SPORT_ID"),
+            uniqueConstraints = @UniqueConstraint(name = "uk_employee_sport", columnNames = {"Employee_ID", "SPORT_ID"}))
     private Set<Sport> sports = new HashSet<>();
 
+    @PrePersist
+    @PreUpdate
+    void updateBirthday() {
+        birthday = dob == null ? 0 : Validator.birthdayKey(dob);
+    }
 }
@@ -3,11 +3,11 @@ package com.ideas2it.employeemanagement.model;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -29,19 +29,29 @@ import java.util.Set;
 @Setter
 @Entity
 @Builder
-@Table(name = "SPORT")
+@Table(name = "SPORT",
+        uniqueConstraints = @UniqueConstraint(name = Sport.NAME_KEY, columnNames = "NAME"))
 public class Sport {
+    /**
+     * Unique key on the sport name, answered with 409 Conflict when a create or rename hits it.
+     */
+    public static final String NAME_KEY = "uk_sport_name";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockId(segment = BlockTableGenerator.SPORT_SEGMENT)
     private int id;
 
-    @Column(name = "NAME", unique = true)
+    @Column(name = "NAME")
     private String name;
 
     @Column(name = "IS_ACTIVE")
     private boolean isActive;
 
-    @ManyToMany(fetch = FetchType.EAGER, mappedBy = "sports")
+    @Version
+    @Column(name = "version")
+    private long version;
+
+    @ManyToMany(fetch = FetchType.LAZY, mappedBy = "sports")
     private Set<Employee> employees = new HashSet<>();
 
 }
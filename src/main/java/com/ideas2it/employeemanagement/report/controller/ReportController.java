@@ -0,0 +1,61 @@
+package com.ideas2it.employeemanagement.report.controller;
+
+import java.util.List;
+
+import com.ideas2it.employeemanagement.report.dto.AgeBucketDto;
+import com.ideas2it.employeemanagement.report.dto.SportParticipationDto;
+import com.ideas2it.employeemanagement.report.service.ReportService;
+import io.micrometer.core.annotation.Timed;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller serving workforce reports, aggregated over the active employees
+ * from the in-memory report snapshot.
+ */
+@RestController
+@Timed("employeemanagement.controller")
+@RequestMapping("api/v1/reports")
+public class ReportController {
+    @Autowired
+    private ReportService reportService;
+
+    private static final Logger logger = LogManager.getLogger(ReportController.class);
+
+    /**
+     * Counts the active employees of every department by age.
+     *
+     * @param departmentId The department to restrict the report to, if any.
+     * @param bucketSize   The width of each age bucket in years.
+     * @return One count per department and age bucket with HTTP status 200 OK.
+     */
+    @GetMapping("/ageDistribution")
+    public ResponseEntity<List<AgeBucketDto>> getAgeDistribution(@RequestParam(required = false) Integer departmentId,
+                                                                 @RequestParam(defaultValue = "10") int bucketSize) {
+        logger.info("Request for the age distribution of department: {}", departmentId);
+            List<AgeBucketDto> ageBucketDtos = reportService.getAgeDistribution(departmentId, bucketSize);
+            return new ResponseEntity<>(ageBucketDtos, HttpStatus.OK);
+    }
+
+    /**
+     * Works out which share of the active employees of every city play each sport.
+     *
+     * @param state   The state to restrict the report to, if any.
+     * @param sportId The sport to restrict the report to, if any.
+     * @return One participation rate per city and sport with HTTP status 200 OK.
+     */
+    @GetMapping("/sportParticipation")
+    public ResponseEntity<List<SportParticipationDto>> getSportParticipation(@RequestParam(required = false) String state,
+                                                                             @RequestParam(required = false) Integer sportId) {
+        logger.info("Request for the sport participation of state: {}", state);
+            List<SportParticipationDto> sportParticipationDtos = reportService.getSportParticipation(state, sportId);
+            return new ResponseEntity<>(sportParticipationDtos, HttpStatus.OK);
+    }
+}
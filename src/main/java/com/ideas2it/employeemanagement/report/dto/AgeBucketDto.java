@@ -0,0 +1,26 @@
+package com.ideas2it.employeemanagement.report.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) holding the number of active employees of a department
+ * whose age, in whole years, lies between {@code fromAge} and {@code toAge} inclusive.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AgeBucketDto {
+    private int departmentId;
+
+    private int fromAge;
+
+    private int toAge;
+
+    private long count;
+}
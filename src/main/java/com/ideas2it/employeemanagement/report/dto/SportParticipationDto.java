@@ -0,0 +1,30 @@
+package com.ideas2it.employeemanagement.report.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) holding how many of the active employees living in a city
+ * play a sport. {@code participationRate} is {@code participantCount / employeeCount}.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SportParticipationDto {
+    private String state;
+
+    private String city;
+
+    private int sportId;
+
+    private long participantCount;
+
+    private long employeeCount;
+
+    private double participationRate;
+}
@@ -0,0 +1,96 @@
+package com.ideas2it.employeemanagement.report.service;
+
+import java.util.function.Function;
+
+import com.ideas2it.employeemanagement.employee.dao.EmployeeQueryRepository;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeFactsDto;
+import com.ideas2it.employeemanagement.utilities.RebuildableSnapshot;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ *<p>
+ * Holds the {@link EmployeeColumns} snapshot the workforce reports scan, and keeps it in
+ * step with employee writes.
+ *</p>
+ *<p>
+ * Report scans hold the read lock for their whole duration, writes take the write lock for
+ * the one row they change. Writes and rebuilds follow {@link RebuildableSnapshot}.
+ *</p>
+ * @author Kishore
+ */
+@Component
+public class EmployeeColumnStore extends RebuildableSnapshot<EmployeeColumns> {
+    @Autowired
+    private EmployeeQueryRepository employeeQueryRepository;
+
+    private static final Logger logger = LogManager.getLogger(EmployeeColumnStore.class);
+
+    public EmployeeColumnStore() {
+        super(new EmployeeColumns(), "employee-column-rebuild", "Employee report snapshot", logger);
+    }
+
+    @Override
+    protected EmployeeColumns load() {
+        EmployeeColumns newColumns = new EmployeeColumns();
+        employeeQueryRepository.findActiveFacts(newColumns::put);
+        employeeQueryRepository.findActiveSportAssignments(
+                assignment -> newColumns.setSport(assignment.getEmployeeId(), assignment.getSportId(), true));
+        return newColumns;
+    }
+
+    @Override
+    protected int size(EmployeeColumns columns) {
+        return columns.liveCount;
+    }
+
+    /**
+     * Adds an active employee to the snapshot, or replaces its attributes.
+     *
+     * @param employeeFactsDto {@link EmployeeFactsDto} the employee
+     */
+    public void put(EmployeeFactsDto employeeFactsDto) {
+        write(snapshot -> snapshot.put(employeeFactsDto));
+    }
+
+    /**
+     * Removes an employee from the snapshot.
+     *
+     * @param id the ID of the employee
+     */
+    public void remove(int id) {
+        write(snapshot -> snapshot.remove(id));
+    }
+
+    /**
+     * Records that a sport was assigned to an employee.
+     *
+     * @param employeeId the ID of the employee
+     * @param sportId    the ID of the sport
+     */
+    public void sportAssigned(int employeeId, int sportId) {
+        write(snapshot -> snapshot.setSport(employeeId, sportId, true));
+    }
+
+    /**
+     * Records that a sport was removed from an employee.
+     *
+     * @param employeeId the ID of the employee
+     * @param sportId    the ID of the sport
+     */
+    public void sportUnassigned(int employeeId, int sportId) {
+        write(snapshot -> snapshot.setSport(employeeId, sportId, false));
+    }
+
+    /**
+     * Runs a report against the current snapshot, which does not change until the report returns.
+     *
+     * @param report reads the columns and builds the result
+     * @return the result of the report
+     */
+    <T> T read(Function<EmployeeColumns, T> report) {
+        return readLocked(report);
+    }
+}
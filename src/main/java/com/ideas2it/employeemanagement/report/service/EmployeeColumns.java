@@ -0,0 +1,226 @@
+package com.ideas2it.employeemanagement.report.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.ideas2it.employeemanagement.employee.dto.EmployeeFactsDto;
+
+/**
+ *<p>
+ * Columnar copy of the active employees, one primitive array per attribute. Row {@code r}
+ * of every array describes the same employee, so a scan reads only the columns it needs.
+ *</p>
+ *<p>
+ * Departments, cities and sports are dictionary encoded: each distinct value gets a dense
+ * code, which the report scans use directly as an index into their accumulators. Every sport
+ * has its own bitset with one bit per row. Rows are kept in ascending employee ID, so an
+ * employee is found by binary search. A new employee whose ID is below the last row, as
+ * happens when several writers hold their own ID blocks, is inserted at its position by
+ * shifting the rows after it. A removed employee only loses its live bit and its row is
+ * reclaimed by the next rebuild.
+ *</p>
+ * Not thread-safe, {@link EmployeeColumnStore} guards every access.
+ *
+ * @author Kishore
+ */
+final class EmployeeColumns {
+    static final int NO_DOB = Integer.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    int size;
+    int liveCount;
+    int[] ids = new int[INITIAL_CAPACITY];
+    int[] departmentCodes = new int[INITIAL_CAPACITY];
+    int[] dobEpochDays = new int[INITIAL_CAPACITY];
+    int[] cityCodes = new int[INITIAL_CAPACITY];
+    long[] live = new long[words(INITIAL_CAPACITY)];
+    long[][] sportBits = new long[0][];
+
+    final List<Integer> departmentIds = new ArrayList<>();
+    final List<String> cityStates = new ArrayList<>();
+    final List<String> cityNames = new ArrayList<>();
+    final List<Integer> sportIds = new ArrayList<>();
+
+    private final Map<Integer, Integer> departmentCodeById = new HashMap<>();
+    private final Map<String, Integer> cityCodeByKey = new HashMap<>();
+    private final Map<Integer, Integer> sportCodeById = new HashMap<>();
+
+    /**
+     * Stores an active employee, replacing its previous attributes. Sports already
+     * assigned to the employee are kept.
+     *
+     * @param employeeFactsDto the employee
+     * @return true, the employee is always stored
+     */
+    boolean put(EmployeeFactsDto employeeFactsDto) {
+        int row = rowOf(employeeFactsDto.getId());
+        if (row < 0) {
+            row = -row - 1;
+            insertRow(row);
+            ids[row] = employeeFactsDto.getId();
+        }
+        departmentCodes[row] = departmentCode(employeeFactsDto.getDepartmentId(), true);
+        dobEpochDays[row] = employeeFactsDto.getDob() == null ? NO_DOB : (int) employeeFactsDto.getDob().toEpochDay();
+        cityCodes[row] = cityCode(employeeFactsDto.getState(), employeeFactsDto.getCity());
+        if (!isLive(row)) {
+            live[row >>> 6] |= 1L << row;
+            liveCount++;
+        }
+        return true;
+    }
+
+    /**
+     * Marks an employee as removed and clears its sports.
+     *
+     * @param id the ID of the employee
+     * @return true, removing an unknown employee is not an error
+     */
+    boolean remove(int id) {
+        int row = rowOf(id);
+        if (row >= 0 && isLive(row)) {
+            live[row >>> 6] &= ~(1L << row);
+            liveCount--;
+            for (long[] bits : sportBits) {
+                bits[row >>> 6] &= ~(1L << row);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Assigns a sport to an active employee or removes it.
+     *
+     * @param employeeId the ID of the employee
+     * @param sportId    the ID of the sport
+     * @param assigned   true to assign the sport, false to remove it
+     * @return true, a change for an unknown employee is ignored
+     */
+    boolean setSport(int employeeId, int sportId, boolean assigned) {
+        int row = rowOf(employeeId);
+        if (row >= 0 && isLive(row)) {
+            int code = sportCode(sportId, true);
+            long[] bits = sportBits[code];
+            if (assigned) {
+                bits[row >>> 6] |= 1L << row;
+            } else {
+                bits[row >>> 6] &= ~(1L << row);
+            }
+        }
+        return true;
+    }
+
+    boolean isLive(int row) {
+        return (live[row >>> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * Looks up the dictionary code of a department.
+     *
+     * @param departmentId the ID of the department
+     * @param create       whether to add the department when it has no code yet
+     * @return the code, or -1 when the department is unknown and {@code create} is false
+     */
+    int departmentCode(int departmentId, boolean create) {
+        Integer code = departmentCodeById.get(departmentId);
+        if (code == null && create) {
+            code = departmentIds.size();
+            departmentIds.add(departmentId);
+            departmentCodeById.put(departmentId, code);
+        }
+        return code == null ? -1 : code;
+    }
+
+    /**
+     * Looks up the dictionary code of a sport.
+     *
+     * @param sportId the ID of the sport
+     * @param create  whether to add the sport, with an empty bitset, when it has no code yet
+     * @return the code, or -1 when the sport is unknown and {@code create} is false
+     */
+    int sportCode(int sportId, boolean create) {
+        Integer code = sportCodeById.get(sportId);
+        if (code == null && create) {
+            code = sportIds.size();
+            sportIds.add(sportId);
+            sportCodeById.put(sportId, code);
+            sportBits = Arrays.copyOf(sportBits, code + 1);
+            sportBits[code] = new long[live.length];
+        }
+        return code == null ? -1 : code;
+    }
+
+    static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private int cityCode(String state, String city) {
+        String key = normalize(state) + '\u0000' + normalize(city);
+        Integer code = cityCodeByKey.get(key);
+        if (code == null) {
+            code = cityNames.size();
+            cityStates.add(state);
+            cityNames.add(city);
+            cityCodeByKey.put(key, code);
+        }
+        return code;
+    }
+
+    private int rowOf(int id) {
+        return Arrays.binarySearch(ids, 0, size, id);
+    }
+
+    /**
+     * Opens an empty, not live row at a position, moving the rows from there on one row up.
+     * Appending, the usual case, moves nothing.
+     */
+    private void insertRow(int row) {
+        ensureCapacity(size + 1);
+        int moved = size - row;
+        if (moved > 0) {
+            System.arraycopy(ids, row, ids, row + 1, moved);
+            System.arraycopy(departmentCodes, row, departmentCodes, row + 1, moved);
+            System.arraycopy(dobEpochDays, row, dobEpochDays, row + 1, moved);
+            System.arraycopy(cityCodes, row, cityCodes, row + 1, moved);
+            shiftBits(live, row, size);
+            for (long[] bits : sportBits) {
+                shiftBits(bits, row, size);
+            }
+        }
+        size++;
+    }
+
+    /**
+     * Moves the bits of rows {@code row} to {@code size - 1} one row up and clears the bit of {@code row}.
+     */
+    private static void shiftBits(long[] bits, int row, int size) {
+        int firstWord = row >>> 6;
+        for (int word = size >>> 6; word > firstWord; word--) {
+            bits[word] = (bits[word] << 1) | (bits[word - 1] >>> 63);
+        }
+        long below = (1L << row) - 1;
+        bits[firstWord] = (bits[firstWord] & below) | ((bits[firstWord] & ~below) << 1);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, newCapacity);
+        departmentCodes = Arrays.copyOf(departmentCodes, newCapacity);
+        dobEpochDays = Arrays.copyOf(dobEpochDays, newCapacity);
+        cityCodes = Arrays.copyOf(cityCodes, newCapacity);
+        live = Arrays.copyOf(live, words(newCapacity));
+        for (int code = 0; code < sportBits.length; code++) {
+            sportBits[code] = Arrays.copyOf(sportBits[code], live.length);
+        }
+    }
+
+    private static int words(int rows) {
+        return (rows + 63) >>> 6;
+    }
+}
@@ -0,0 +1,33 @@
+package com.ideas2it.employeemanagement.report.service;
+
+import java.util.List;
+
+import com.ideas2it.employeemanagement.report.dto.AgeBucketDto;
+import com.ideas2it.employeemanagement.report.dto.SportParticipationDto;
+
+/**
+ *<p>
+ * Interface for ReportService to compute workforce aggregates over the active employees.
+ *</p>
+ * @author  Kishore
+ */
+public interface ReportService {
+
+    /**
+     * Counts the active employees of every department by age, in buckets of equal width.
+     *
+     * @param departmentId the department to restrict the report to, or null for every department
+     * @param bucketSize   the width of each age bucket in years
+     * @return one entry per department and non-empty bucket, ordered by department ID and age
+     */
+    List<AgeBucketDto> getAgeDistribution(Integer departmentId, int bucketSize);
+
+    /**
+     * Works out, for every city, which share of its active employees play each sport.
+     *
+     * @param state   the state to restrict the report to, or null for every state
+     * @param sportId the sport to restrict the report to, or null for every sport
+     * @return one entry per city and sport with at least one participant, ordered by state, city and sport ID
+     */
+    List<SportParticipationDto> getSportParticipation(String state, Integer sportId);
+}
@@ -0,0 +1,219 @@
+package com.ideas2it.employeemanagement.report.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.ideas2it.employeemanagement.report.dto.AgeBucketDto;
+import com.ideas2it.employeemanagement.report.dto.SportParticipationDto;
+import com.ideas2it.employeemanagement.utilities.DayClock;
+import com.ideas2it.employeemanagement.utilities.Validator;
+import io.micrometer.core.annotation.Timed;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * <p>
+ * Implementation of ReportService that answers every report with a single scan of the
+ * {@link EmployeeColumns} snapshot. The rows are split into ranges scanned in parallel on
+ * the common fork-join pool; each range counts into its own array of accumulators indexed
+ * by dictionary code, and the arrays are summed as the ranges join.
+ * </p>
+ * @author  Kishore
+ */
+@Service
+@Timed("employeemanagement.service")
+public class ReportServiceImpl implements ReportService {
+    /**
+     * Rows scanned by one fork-join task before it stops splitting. A multiple of 64,
+     * so every task covers whole words of the bitsets.
+     */
+    public static final int SCAN_THRESHOLD = 1 << 14;
+
+    private static final Comparator<String> NAME_ORDER = Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER);
+
+    @Autowired
+    private EmployeeColumnStore employeeColumnStore;
+
+    private static final Logger logger = LogManager.getLogger(ReportServiceImpl.class);
+
+    @Override
+    public List<AgeBucketDto> getAgeDistribution(Integer departmentId, int bucketSize) {
+        int width = Validator.validateAgeBucketSize(bucketSize);
+        int bucketCount = (Validator.MAX_AGE + width) / width;
+        LocalDate today = DayClock.today();
+        int[] cutoffs = new int[bucketCount];
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            cutoffs[bucket] = (int) today.minusYears((long) bucket * width).toEpochDay();
+        }
+        List<AgeBucketDto> ageBuckets = employeeColumnStore.read(columns -> {
+            int onlyDepartment = departmentId == null ? -1 : columns.departmentCode(departmentId, false);
+            if (departmentId != null && onlyDepartment < 0) {
+                return new ArrayList<>();
+            }
+            int[] departmentCodes = columns.departmentCodes;
+            int[] dobEpochDays = columns.dobEpochDays;
+            long[] live = columns.live;
+            long[] counts = scan(columns.size, columns.departmentIds.size() * bucketCount, (from, to, accumulators) -> {
+                for (int row = from; row < to; row++) {
+                    int dob = dobEpochDays[row];
+                    if ((live[row >>> 6] & (1L << row)) == 0 || dob == EmployeeColumns.NO_DOB || dob > cutoffs[0]) {
+                        continue;
+                    }
+                    int department = departmentCodes[row];
+                    if (onlyDepartment < 0 || department == onlyDepartment) {
+                        accumulators[department * bucketCount + bucketOf(cutoffs, dob)]++;
+                    }
+                }
+            });
+            List<AgeBucketDto> result = new ArrayList<>();
+            for (int department = 0; department < columns.departmentIds.size(); department++) {
+                for (int bucket = 0; bucket < bucketCount; bucket++) {
+                    long count = counts[department * bucketCount + bucket];
+                    if (count > 0) {
+                        result.add(new AgeBucketDto(columns.departmentIds.get(department),
+                                bucket * width, bucket * width + width - 1, count));
+                    }
+                }
+            }
+            return result;
+        });
+        ageBuckets.sort(Comparator.comparingInt(AgeBucketDto::getDepartmentId)
+                .thenComparingInt(AgeBucketDto::getFromAge));
+        logger.info("Computed age distribution with {} buckets of {} years", ageBuckets.size(), width);
+        return ageBuckets;
+    }
+
+    @Override
+    public List<SportParticipationDto> getSportParticipation(String state, Integer sportId) {
+        String normalizedState = state == null ? null : EmployeeColumns.normalize(state);
+        List<SportParticipationDto> participation = employeeColumnStore.read(columns -> {
+            int onlySport = sportId == null ? -1 : columns.sportCode(sportId, false);
+            if (sportId != null && onlySport < 0) {
+                return new ArrayList<>();
+            }
+            int cityCount = columns.cityNames.size();
+            int sportCount = columns.sportIds.size();
+            int stride = sportCount + 1;
+            boolean[] included = new boolean[cityCount];
+            for (int city = 0; city < cityCount; city++) {
+                included[city] = normalizedState == null
+                        || EmployeeColumns.normalize(columns.cityStates.get(city)).equals(normalizedState);
+            }
+            int[] cityCodes = columns.cityCodes;
+            long[] live = columns.live;
+            long[][] sportBits = columns.sportBits;
+            long[] counts = scan(columns.size, cityCount * stride, (from, to, accumulators) -> {
+                for (int row = from; row < to; row++) {
+                    if ((live[row >>> 6] & (1L << row)) != 0 && included[cityCodes[row]]) {
+                        accumulators[cityCodes[row] * stride]++;
+                    }
+                }
+                for (int sport = 0; sport < sportCount; sport++) {
+                    if (onlySport >= 0 && sport != onlySport) {
+                        continue;
+                    }
+                    long[] bits = sportBits[sport];
+                    for (int word = from >>> 6; word < (to + 63) >>> 6; word++) {
+                        long players = bits[word];
+                        while (players != 0) {
+                            int city = cityCodes[(word << 6) + Long.numberOfTrailingZeros(players)];
+                            players &= players - 1;
+                            if (included[city]) {
+                                accumulators[city * stride + 1 + sport]++;
+                            }
+                        }
+                    }
+                }
+            });
+            List<SportParticipationDto> result = new ArrayList<>();
+            for (int city = 0; city < cityCount; city++) {
+                long employeeCount = counts[city * stride];
+                for (int sport = 0; sport < sportCount && employeeCount > 0; sport++) {
+                    long participantCount = counts[city * stride + 1 + sport];
+                    if (participantCount > 0) {
+                        result.add(new SportParticipationDto(columns.cityStates.get(city), columns.cityNames.get(city),
+                                columns.sportIds.get(sport), participantCount, employeeCount,
+                                (double) participantCount / employeeCount));
+                    }
+                }
+            }
+            return result;
+        });
+        participation.sort(Comparator.comparing(SportParticipationDto::getState, NAME_ORDER)
+                .thenComparing(SportParticipationDto::getCity, NAME_ORDER)
+                .thenComparingInt(SportParticipationDto::getSportId));
+        logger.info("Computed sport participation for {} city and sport pairs", participation.size());
+        return participation;
+    }
+
+    /**
+     * Finds the age bucket of a date of birth: the last bucket whose cutoff, the latest date
+     * of birth old enough for the bucket, is not before it.
+     */
+    private static int bucketOf(int[] cutoffs, int dob) {
+        int low = 0;
+        int high = cutoffs.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (cutoffs[mid] >= dob) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private static long[] scan(int rows, int width, RangeAccumulator accumulator) {
+        if (rows == 0 || width == 0) {
+            return new long[width];
+        }
+        return ForkJoinPool.commonPool().invoke(new RangeScan(accumulator, width, 0, rows));
+    }
+
+    /**
+     * Counts the rows of one range into an array of accumulators.
+     */
+    @FunctionalInterface
+    private interface RangeAccumulator {
+        void accumulate(int from, int to, long[] accumulators);
+    }
+
+    private static final class RangeScan extends RecursiveTask<long[]> {
+        private final transient RangeAccumulator accumulator;
+        private final int width;
+        private final int from;
+        private final int to;
+
+        private RangeScan(RangeAccumulator accumulator, int width, int from, int to) {
+            this.accumulator = accumulator;
+            this.width = width;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= SCAN_THRESHOLD) {
+                long[] accumulators = new long[width];
+                accumulator.accumulate(from, to, accumulators);
+                return accumulators;
+            }
+            int middle = ((from + to) >>> 1) & ~63;
+            RangeScan left = new RangeScan(accumulator, width, from, middle);
+            left.fork();
+            long[] accumulators = new RangeScan(accumulator, width, middle, to).compute();
+            long[] leftAccumulators = left.join();
+            for (int i = 0; i < width; i++) {
+                accumulators[i] += leftAccumulators[i];
+            }
+            return accumulators;
+        }
+    }
+}
@@ -5,10 +5,13 @@ import java.util.List;
 import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
 import com.ideas2it.employeemanagement.sport.dto.SportDto;
 import com.ideas2it.employeemanagement.sport.service.SportService;
+import com.ideas2it.employeemanagement.utilities.ResourceVersions;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,11 +22,15 @@ import org.springframework.web.bind.annotation.*;
  * and manage their associated employees.
  */
 @RestController
+@Timed("employeemanagement.controller")
 @RequestMapping("api/v1/sports")
 public class SportController {
     @Autowired
     private SportService sportService;
 
+    @Autowired
+    private ResourceVersions resourceVersions;
+
     private static final Logger logger = LogManager.getLogger(SportController.class);
 
     /**
@@ -55,28 +62,38 @@ public class SportController {
     }
 
     /**
-     * Retrieves a list of all active sports.
+     * Retrieves one page of active sports ordered by ID.
+     * The ID of the last sport in the page is the cursor for the next page.
      *
-     * @return A list of sport DTOs with HTTP status 200 OK.
+     * @param after The last sport ID of the previous page, 0 for the first page.
+     * @param limit The maximum number of sports to return.
+     * @param ifNoneMatch The ETag of the page the client already holds, if any.
+     * @return A list of sport DTOs with HTTP status 200 OK, or 304 Not Modified without a body.
      */
     @GetMapping
-    public ResponseEntity<List<SportDto>> getAllSports() {
-        logger.info("Retrieving list of all sports");
-            List<SportDto> sportDtos = sportService.getAllSports();
+    public ResponseEntity<List<SportDto>> getAllSports(@RequestParam(defaultValue = "0") int after,
+                                                       @RequestParam(defaultValue = "50") int limit,
+                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        logger.info("Retrieving list of sports after ID: {} with limit: {}", after, limit);
+            String eTag = resourceVersions.getSportsETag(after, limit);
+            if (ResourceVersions.matches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+            List<SportDto> sportDtos = sportService.getAllSports(after, limit);
             logger.info("Retrieved {} sports", sportDtos.size());
-            return new ResponseEntity<>(sportDtos, HttpStatus.OK);
+            return ResponseEntity.ok().eTag(eTag).body(sportDtos);
     }
 
     /**
      * Retrieves a sport by ID.
      *
      * @param id The ID of the sport.
-     * @return The sport DTO with HTTP status 200 OK.
+     * @return The sport DTO with its number of active employees and HTTP status 200 OK.
      */
     @GetMapping("/{id}")
     public ResponseEntity<SportDto> getSportById(@PathVariable int id) {
         logger.info("Request to retrieve sport with ID: {}", id);
-            SportDto sportDto = sportService.getSportById(id);
+            SportDto sportDto = sportService.getSportWithEmployeeCount(id);
             logger.info("Retrieved sport with ID: {}", id);
             return new ResponseEntity<>(sportDto, HttpStatus.OK);
     }
@@ -109,4 +126,16 @@ public class SportController {
             logger.info("Retrieved {} employees for sport with ID: {}", employeeDtos.size(), sportId);
             return new ResponseEntity<>(employeeDtos, HttpStatus.OK);
     }
+
+    /**
+     * Counts the active employees playing the sport without loading them.
+     *
+     * @param sportId The ID of the sport.
+     * @return The number of active employees with HTTP status 200 OK.
+     */
+    @GetMapping("/{sportId}/employees/count")
+    public ResponseEntity<Long> getActiveEmployeeCount(@PathVariable int sportId) {
+            long count = sportService.getActiveEmployeeCount(sportId);
+            return new ResponseEntity<>(count, HttpStatus.OK);
+    }
 }
@@ -1,7 +1,15 @@
 package com.ideas2it.employeemanagement.sport.dao;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import com.ideas2it.employeemanagement.model.Sport;
+import com.ideas2it.employeemanagement.sport.dto.SportDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Repository interface for managing Sport entities.
@@ -10,5 +18,34 @@ import org.springframework.data.repository.CrudRepository;
  */
 public interface SportRepository extends CrudRepository<Sport, Integer> {
 
-    boolean existsByName(String name);
+    /**
+     * Retrieves the next page of active sports after the given cursor,
+     * selected straight into DTOs without loading the entities.
+     *
+     * @param after    the last sport ID of the previous page, 0 for the first page
+     * @param pageable the page size to fetch
+     * @return the active sports with an ID greater than {@code after}
+     */
+    @Query("SELECT new com.ideas2it.employeemanagement.sport.dto.SportDto(s.id, s.name) "
+            + "FROM Sport s WHERE s.isActive = true AND s.id > :after ORDER BY s.id")
+    List<SportDto> findActiveSportsAfter(@Param("after") int after, Pageable pageable);
+
+    /**
+     * Retrieves an active sport, selected straight into a DTO.
+     *
+     * @param id the ID of the sport
+     * @return the sport, or empty when it does not exist or is deleted
+     */
+    @Query("SELECT new com.ideas2it.employeemanagement.sport.dto.SportDto(s.id, s.name) "
+            + "FROM Sport s WHERE s.isActive = true AND s.id = :id")
+    Optional<SportDto> findActiveSportById(@Param("id") int id);
+
+    /**
+     * Retrieves which of the given sport IDs belong to sports that are active.
+     *
+     * @param ids the sport IDs to check
+     * @return the subset of {@code ids} that are active sports
+     */
+    @Query("SELECT s.id FROM Sport s WHERE s.isActive = true AND s.id IN :ids")
+    List<Integer> findActiveSportIds(@Param("ids") Collection<Integer> ids);
 }
@@ -5,6 +5,7 @@ import com.ideas2it.employeemanagement.sport.dto.SportDto;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  *<p>
@@ -24,11 +25,13 @@ public interface SportService {
     SportDto addSport(SportDto sportDto);
 
     /**
-     * Retrieves all active sport.
+     * Retrieves one page of active sports ordered by ID.
      *
+     * @param after the last sport ID of the previous page, 0 for the first page
+     * @param limit the maximum number of sports to return
      * @return a list of active sport entities
      */
-    List<SportDto> getAllSports();
+    List<SportDto> getAllSports(int after, int limit);
 
     /**
      * Retrieves a sport by their ID.
@@ -38,6 +41,31 @@ public interface SportService {
      */
     SportDto getSportById(int id);
 
+    /**
+     * Retrieves a sport by ID together with its number of active employees.
+     * Always reads the sport itself, so the cached lookup used by employee writes is not shared.
+     *
+     * @param id the ID of the sport to be retrieved
+     * @return the sport with its headcount
+     */
+    SportDto getSportWithEmployeeCount(int id);
+
+    /**
+     * Reads the number of active employees playing the sport from the in-process headcounts.
+     *
+     * @param sportId the ID of the sport
+     * @return the number of active employees playing the sport
+     */
+    long getActiveEmployeeCount(int sportId);
+
+    /**
+     * Resolves which of the given sport IDs are active, in a single lookup.
+     *
+     * @param ids the sport IDs to resolve
+     * @return the IDs of the sports that exist and are active
+     */
+    Set<Integer> getActiveSportIds(Set<Integer> ids);
+
     /**
      * Updates an existing sport.
      *
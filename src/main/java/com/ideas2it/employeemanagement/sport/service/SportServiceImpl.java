@@ -1,20 +1,26 @@
 package com.ideas2it.employeemanagement.sport.service;
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import com.ideas2it.employeemanagement.employee.dao.EmployeeQueryRepository;
 import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
-import com.ideas2it.employeemanagement.employee.mapper.EmployeeMapper;
-import com.ideas2it.employeemanagement.exceptions.ResourceAlreadyExistsException;
+import com.ideas2it.employeemanagement.employee.service.EmployeeHeadcounts;
 import com.ideas2it.employeemanagement.exceptions.ResourceNotFoundException;
-import com.ideas2it.employeemanagement.model.Employee;
 import com.ideas2it.employeemanagement.model.Sport;
 import com.ideas2it.employeemanagement.sport.dao.SportRepository;
 import com.ideas2it.employeemanagement.sport.dto.SportDto;
 import com.ideas2it.employeemanagement.sport.mapper.SportMapper;
+import com.ideas2it.employeemanagement.utilities.ResourceVersions;
+import com.ideas2it.employeemanagement.utilities.Validator;
+import io.micrometer.core.annotation.Timed;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 /**
@@ -24,10 +30,26 @@ import org.springframework.stereotype.Service;
  * @author  Kishore
  */
 @Service
+@Timed("employeemanagement.service")
 public class SportServiceImpl implements SportService {
+    /**
+     * Active sports by ID. Read on every employee write, so lookups are served
+     * from here and entries are evicted whenever the sport changes.
+     */
+    public static final String SPORT_CACHE = "sports";
+
     @Autowired
     private SportRepository sportRepository;
 
+    @Autowired
+    private ResourceVersions resourceVersions;
+
+    @Autowired
+    private EmployeeQueryRepository employeeQueryRepository;
+
+    @Autowired
+    private EmployeeHeadcounts employeeHeadcounts;
+
     private static final Logger logger = LogManager.getLogger(SportServiceImpl.class);
     public void logMessage(String message) {
         logger.info(message);
@@ -35,42 +57,70 @@ public class SportServiceImpl implements SportService {
 
     @Override
     public SportDto addSport(SportDto sportDto) {
-        if (sportRepository.existsByName(sportDto.getName())) {
-            logger.error("Sport already exists with name: {}", sportDto.getName());
-            throw new ResourceAlreadyExistsException("Sport already exists with name: " + sportDto.getName());
-        }
         Sport sport = SportMapper.mapToSport(sportDto);
         Sport createdSport = sportRepository.save(sport);
+        resourceVersions.sportsChanged();
         logger.info("Adding sport with name: {}", sportDto.getName());
         return SportMapper.mapToSportDto(createdSport);
     }
 
     @Override
-    public List<SportDto> getAllSports() {
-        Iterable<Sport> sports = sportRepository.findAll();
-        List<SportDto> sportDtos = new ArrayList<>();
-        for (Sport sport : sports) {
-            if (sport.isActive()) {
-                sportDtos.add(SportMapper.mapToSportDto(sport));
-            }
+    public List<SportDto> getAllSports(int after, int limit) {
+        List<SportDto> sportDtos = sportRepository.findActiveSportsAfter(
+                after, PageRequest.of(0, Validator.validateLimit(limit)));
+        for (SportDto sportDto : sportDtos) {
+            sportDto.setActiveEmployeeCount(employeeHeadcounts.getSportCount(sportDto.getId()));
         }
         logger.info("Retrieving list of all active sports");
         return sportDtos;
     }
 
     @Override
+    @Cacheable(cacheNames = SPORT_CACHE, key = "#id")
     public SportDto getSportById(int id) {
-        Sport sport = sportRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Sport not found with ID: " + id));
-        if (!sport.isActive()) {
-            logger.error("Sport is deleted with ID: {}", id);
-            throw new ResourceNotFoundException("Sport is deleted with ID: " + id);
-        }
+        SportDto sportDto = sportRepository.findActiveSportById(id)
+                .orElseThrow(() -> {
+                    if (!sportRepository.existsById(id)) {
+                        return new ResourceNotFoundException("Sport not found with ID: " + id);
+                    }
+                    logger.error("Sport is deleted with ID: {}", id);
+                    return new ResourceNotFoundException("Sport is deleted with ID: " + id);
+                });
         logger.info("Retrieving sport with ID: {}", id);
-        return SportMapper.mapToSportDto(sport);
+        return sportDto;
+    }
+
+    @Override
+    public SportDto getSportWithEmployeeCount(int id) {
+        SportDto sportDto = sportRepository.findActiveSportById(id)
+                .orElseThrow(() -> {
+                    if (!sportRepository.existsById(id)) {
+                        return new ResourceNotFoundException("Sport not found with ID: " + id);
+                    }
+                    return new ResourceNotFoundException("Sport is deleted with ID: " + id);
+                });
+        sportDto.setActiveEmployeeCount(employeeHeadcounts.getSportCount(id));
+        return sportDto;
+    }
+
+    @Override
+    public long getActiveEmployeeCount(int sportId) {
+        if (!sportRepository.existsById(sportId)) {
+            throw new ResourceNotFoundException("Sport not found with ID: " + sportId);
+        }
+        return employeeHeadcounts.getSportCount(sportId);
+    }
+
+    @Override
+    public Set<Integer> getActiveSportIds(Set<Integer> ids) {
+        if (ids.isEmpty()) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(sportRepository.findActiveSportIds(ids));
     }
 
     @Override
+    @CacheEvict(cacheNames = SPORT_CACHE, key = "#id")
     public SportDto updateSport(int id, SportDto sportDto) {
         Sport existingSport = sportRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Sport not found with ID: " + id));
@@ -80,11 +130,13 @@ public class SportServiceImpl implements SportService {
         }
         existingSport.setName(sportDto.getName());
         Sport updatedSport = sportRepository.save(existingSport);
+        resourceVersions.sportsChanged();
         logger.info("Updated sport with name: {}", sportDto.getName());
         return SportMapper.mapToSportDto(updatedSport);
     }
 
     @Override
+    @CacheEvict(cacheNames = SPORT_CACHE, key = "#id")
     public void deleteSport(int id) {
         Sport existingSport = sportRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Sport not found with ID: " + id));
@@ -95,21 +147,17 @@ public class SportServiceImpl implements SportService {
 
         existingSport.setActive(false);
         sportRepository.save(existingSport);
+        resourceVersions.sportsChanged();
         logger.info("Sport is deleted with name: {}", existingSport.getName());
     }
 
     @Override
     public List<EmployeeDto> getEmployeesBySportId(int sportId) {
-        Sport sport = sportRepository.findById(sportId)
-                .orElseThrow(() -> new ResourceNotFoundException("Sport not found with ID: " + sportId));
-
-        List<EmployeeDto> employeeDtos = new ArrayList<>();
-        for (Employee employee : sport.getEmployees()) {
-            if (employee.isActive()) {
-                employeeDtos.add(EmployeeMapper.mapToEmployeeDto(employee));
-            }
+        if (!sportRepository.existsById(sportId)) {
+            throw new ResourceNotFoundException("Sport not found with ID: " + sportId);
         }
-        logger.info("Retrieving list of all active employees in sport with name: {}", sport.getName());
+        List<EmployeeDto> employeeDtos = employeeQueryRepository.findActiveBySportId(sportId);
+        logger.info("Retrieving list of all active employees in sport with ID: {}", sportId);
         return employeeDtos;
     }
 
@@ -0,0 +1,20 @@
+package com.ideas2it.employeemanagement.statements;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Routes the application's DataSource through {@link StatementCountingDataSource}. Tests that
+ * count statements without the full application import this configuration.
+ *
+ * @author Kishore
+ */
+@Configuration(proxyBeanMethods = false)
+public class StatementCountConfiguration {
+
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return StatementCountingDataSource.postProcessor();
+    }
+}
@@ -0,0 +1,127 @@
+package com.ideas2it.employeemanagement.statements;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ *<p>
+ * Counts the JDBC statements each HTTP request executes and the time spent executing them,
+ * and logs a warning for every request that runs more statements than the configured
+ * threshold, the usual sign of an N+1 select.
+ *</p>
+ *<p>
+ * When response headers are enabled, outside production, the count and the time in
+ * milliseconds are returned as {@value #COUNT_HEADER} and {@value #TIME_HEADER}. Headers go
+ * out with the first byte of the body, so statements run while the body is written, such as
+ * lazy loads during serialization, are only in the log. Only the thread handling the
+ * request is counted; the export streamed on an async thread is not.
+ *</p>
+ * @author Kishore
+ */
+@Component
+public class StatementCountFilter extends OncePerRequestFilter {
+    public static final String COUNT_HEADER = "X-Statement-Count";
+    public static final String TIME_HEADER = "X-Statement-Time-Ms";
+
+    private static final Logger logger = LogManager.getLogger(StatementCountFilter.class);
+
+    private final boolean responseHeaders;
+    private final int warnThreshold;
+
+    public StatementCountFilter(@Value("${employeemanagement.statements.response-headers:false}") boolean responseHeaders,
+                                @Value("${employeemanagement.statements.warn-threshold:25}") int warnThreshold) {
+        this.responseHeaders = responseHeaders;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementCounts.Tally tally = StatementCounts.start();
+        try {
+            if (responseHeaders) {
+                CountingHeadersResponse countingHeadersResponse = new CountingHeadersResponse(response, tally);
+                filterChain.doFilter(request, countingHeadersResponse);
+                countingHeadersResponse.addCountHeaders();
+            } else {
+                filterChain.doFilter(request, response);
+            }
+        } finally {
+            StatementCounts.stop();
+            if (tally.getCount() > warnThreshold) {
+                logger.warn("{} {} executed {} statements in {} ms, over the threshold of {}",
+                        request.getMethod(), request.getRequestURI(), tally.getCount(), tally.getMillis(), warnThreshold);
+            }
+        }
+    }
+
+    /**
+     * Adds the count headers just before the response is committed, by which time the
+     * handler has returned.
+     */
+    private static final class CountingHeadersResponse extends HttpServletResponseWrapper {
+        private final StatementCounts.Tally tally;
+        private boolean headersAdded;
+
+        private CountingHeadersResponse(HttpServletResponse response, StatementCounts.Tally tally) {
+            super(response);
+            this.tally = tally;
+        }
+
+        private void addCountHeaders() {
+            if (!headersAdded && !isCommitted()) {
+                setHeader(COUNT_HEADER, Integer.toString(tally.getCount()));
+                setHeader(TIME_HEADER, Long.toString(tally.getMillis()));
+            }
+            headersAdded = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addCountHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addCountHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addCountHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addCountHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addCountHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addCountHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
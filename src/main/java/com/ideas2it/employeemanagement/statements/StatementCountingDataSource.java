@@ -0,0 +1,42 @@
+package com.ideas2it.employeemanagement.statements;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ *<p>
+ * Wraps the connection pool so that every execute call on a statement is timed and recorded
+ * in the {@link StatementCounts} tally of the calling thread. A batch counts as one statement,
+ * as it is one round trip to the database.
+ *</p>
+ * @author Kishore
+ */
+public class StatementCountingDataSource extends StatementInterceptingDataSource {
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource, execution -> {
+            long start = System.nanoTime();
+            try {
+                return execution.proceed();
+            } finally {
+                StatementCounts.record(System.nanoTime() - start);
+            }
+        });
+    }
+
+    /**
+     * Wraps the application's DataSource bean when it is created.
+     *
+     * @return The post processor to register with the application context.
+     */
+    public static BeanPostProcessor postProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)
+                        ? new StatementCountingDataSource(dataSource) : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.ideas2it.employeemanagement.statements;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ *<p>
+ * Tallies the JDBC statements executed on the current thread between {@link #start()} and
+ * {@link #stop()}, together with the time spent executing them. Statements run while no
+ * tally is open on the thread, such as index rebuilds and scheduled jobs, are not counted.
+ *</p>
+ * @author Kishore
+ */
+public final class StatementCounts {
+    private static final ThreadLocal<Tally> CURRENT = new ThreadLocal<>();
+
+    private StatementCounts() {
+    }
+
+    /**
+     * Opens a new tally on the current thread, replacing any tally already open.
+     *
+     * @return The tally that the statements of this thread are now counted into.
+     */
+    public static Tally start() {
+        Tally tally = new Tally();
+        CURRENT.set(tally);
+        return tally;
+    }
+
+    /**
+     * Closes the tally of the current thread.
+     *
+     * @return The closed tally, or null if none was open.
+     */
+    public static Tally stop() {
+        Tally tally = CURRENT.get();
+        CURRENT.remove();
+        return tally;
+    }
+
+    static void record(long nanos) {
+        Tally tally = CURRENT.get();
+        if (tally != null) {
+            tally.count++;
+            tally.nanos += nanos;
+        }
+    }
+
+    /**
+     * The statements counted on one thread. Only that thread updates it.
+     */
+    public static final class Tally {
+        private int count;
+        private long nanos;
+
+        private Tally() {
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public long getMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(nanos);
+        }
+    }
+}
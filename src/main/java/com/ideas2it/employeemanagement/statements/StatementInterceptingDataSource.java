@@ -0,0 +1,99 @@
+package com.ideas2it.employeemanagement.statements;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ *<p>
+ * Wraps a DataSource so that every execute call on a statement, including a batch, runs
+ * through an {@link Interceptor}. Connections and the statements they create are proxied;
+ * every other call goes straight to the target.
+ *</p>
+ * @author Kishore
+ */
+public class StatementInterceptingDataSource extends DelegatingDataSource {
+    private final Interceptor interceptor;
+
+    /**
+     * @param targetDataSource The DataSource to wrap.
+     * @param interceptor      Runs around every execute call.
+     */
+    public StatementInterceptingDataSource(DataSource targetDataSource, Interceptor interceptor) {
+        super(targetDataSource);
+        this.interceptor = interceptor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return intercepted(Connection.class, super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return intercepted(Connection.class, super.getConnection(username, password));
+    }
+
+    private <T> T intercepted(Class<T> type, T target) {
+        InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> {
+                if (target instanceof Statement && method.getName().startsWith("execute")) {
+                    yield interceptor.intercept(() -> invoke(target, method, args));
+                }
+                Object result = invoke(target, method, args);
+                if (target instanceof Connection && result instanceof CallableStatement callableStatement) {
+                    yield intercepted(CallableStatement.class, callableStatement);
+                }
+                if (target instanceof Connection && result instanceof PreparedStatement preparedStatement) {
+                    yield intercepted(PreparedStatement.class, preparedStatement);
+                }
+                if (target instanceof Connection && result instanceof Statement statement) {
+                    yield intercepted(Statement.class, statement);
+                }
+                yield result;
+            }
+        };
+        return type.cast(Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Runs around one execute call on a statement.
+     */
+    @FunctionalInterface
+    public interface Interceptor {
+
+        /**
+         * @param execution Runs the statement and returns its result.
+         * @return The result to hand back to the caller, normally that of the execution.
+         */
+        Object intercept(Execution execution) throws Throwable;
+    }
+
+    /**
+     * The execute call being intercepted.
+     */
+    @FunctionalInterface
+    public interface Execution {
+
+        Object proceed() throws Throwable;
+    }
+}
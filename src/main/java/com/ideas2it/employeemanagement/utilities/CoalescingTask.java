@@ -0,0 +1,65 @@
+package com.ideas2it.employeemanagement.utilities;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.logging.log4j.Logger;
+
+/**
+ *<p>
+ * Runs a task on its own background thread when asked to. Requests made while a run
+ * is already waiting to start are merged into it, so a burst of bulk writes costs one
+ * rebuild instead of one per write.
+ *</p>
+ * @author Kishore
+ */
+public class CoalescingTask {
+    private final Runnable task;
+    private final Logger logger;
+    private final String failureMessage;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final ExecutorService executor;
+
+    /**
+     * Creates the task and its thread, which starts on the first request.
+     *
+     * @param threadName     The name of the background thread.
+     * @param task           The work to run.
+     * @param logger         Where a failed run is logged.
+     * @param failureMessage The message logged when a run fails.
+     */
+    public CoalescingTask(String threadName, Runnable task, Logger logger, String failureMessage) {
+        this.task = task;
+        this.logger = logger;
+        this.failureMessage = failureMessage;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules a run unless one is already waiting to start.
+     */
+    public void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                scheduled.set(false);
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    logger.error(failureMessage, e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Stops the background thread, abandoning a run that has not started.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,44 @@
+package com.ideas2it.employeemanagement.utilities;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ *<p>
+ * Today's date, computed once per day instead of once per call.
+ *</p>
+ *<p>
+ * Mapping a page of employees asks for today's date once per row; {@link LocalDate#now()}
+ * reads the clock, resolves the zone and allocates every time. Here the date is kept
+ * with the instant the next day starts, so all calls but the first of a day are a
+ * field read and a comparison with {@link System#currentTimeMillis()}.
+ *</p>
+ * @author Kishore
+ */
+public class DayClock {
+    private static volatile Day current = new Day(LocalDate.now());
+
+    /**
+     * Returns today's date in the system default time zone.
+     *
+     * @return The current date.
+     */
+    public static LocalDate today() {
+        Day day = current;
+        if (System.currentTimeMillis() >= day.nextDayMillis) {
+            day = new Day(LocalDate.now());
+            current = day;
+        }
+        return day.date;
+    }
+
+    private static final class Day {
+        private final LocalDate date;
+        private final long nextDayMillis;
+
+        private Day(LocalDate date) {
+            this.date = date;
+            this.nextDayMillis = date.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+    }
+}
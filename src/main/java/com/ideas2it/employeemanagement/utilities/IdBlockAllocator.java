@@ -0,0 +1,52 @@
+package com.ideas2it.employeemanagement.utilities;
+
+import com.ideas2it.employeemanagement.model.BlockTableGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ *<p>
+ * Reserves ranges of IDs from the same {@code id_block} rows used by {@link BlockTableGenerator},
+ * for JDBC writes that insert rows without going through Hibernate. Like Hibernate, it leaves
+ * the last reserved ID in the row, so the next block of either starts right after it.
+ *</p>
+ * @author Kishore
+ */
+@Component
+public class IdBlockAllocator {
+    private static final String RESERVE_BLOCK = "UPDATE " + BlockTableGenerator.TABLE_NAME
+            + " SET " + BlockTableGenerator.VALUE_COLUMN + " = " + BlockTableGenerator.VALUE_COLUMN + " + ?"
+            + " WHERE " + BlockTableGenerator.SEGMENT_COLUMN + " = ?";
+
+    private static final String SELECT_LAST = "SELECT " + BlockTableGenerator.VALUE_COLUMN
+            + " FROM " + BlockTableGenerator.TABLE_NAME
+            + " WHERE " + BlockTableGenerator.SEGMENT_COLUMN + " = ?";
+
+    private static final String INSERT_SEGMENT = "INSERT INTO " + BlockTableGenerator.TABLE_NAME
+            + " (" + BlockTableGenerator.SEGMENT_COLUMN + ", " + BlockTableGenerator.VALUE_COLUMN + ") VALUES (?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Reserves {@code count} consecutive IDs for the given segment.
+     * Runs in its own transaction so the row lock is released straight away;
+     * IDs from a rolled back caller are simply skipped.
+     *
+     * @param segment The generator segment, one per entity.
+     * @param count   The number of IDs to reserve.
+     * @return The first reserved ID.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int reserve(String segment, int count) {
+        if (jdbcTemplate.update(RESERVE_BLOCK, count, segment) == 0) {
+            jdbcTemplate.update(INSERT_SEGMENT, segment, (long) count);
+            return 1;
+        }
+        Long last = jdbcTemplate.queryForObject(SELECT_LAST, Long.class, segment);
+        return (int) (last - count + 1);
+    }
+}
@@ -0,0 +1,194 @@
+package com.ideas2it.employeemanagement.utilities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ *<p>
+ * Base for the in-process copies of employee data, such as the search index, that are
+ * loaded from the database once the application has started and then kept in step with
+ * committed writes.
+ *</p>
+ *<p>
+ * Single-employee writes are applied to the current snapshot under the write lock, after
+ * the transaction commits. Bulk writes schedule a background rebuild, which loads a new
+ * snapshot without holding the lock; writes made meanwhile are applied to the old snapshot
+ * and replayed onto the new one before it replaces the old one.
+ *</p>
+ * @param <S> The type of the snapshot.
+ * @author Kishore
+ */
+public abstract class RebuildableSnapshot<S> {
+    private final Logger logger;
+    private final String description;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Predicate<S>> pendingWrites = new ArrayList<>();
+    private final CoalescingTask rebuildTask;
+    private volatile S snapshot;
+    private boolean rebuilding;
+
+    /**
+     * @param initial     The empty snapshot used until the first rebuild.
+     * @param threadName  The name of the background rebuild thread.
+     * @param description What the snapshot holds, for log messages.
+     * @param logger      The logger of the subclass.
+     */
+    protected RebuildableSnapshot(S initial, String threadName, String description, Logger logger) {
+        this.snapshot = initial;
+        this.description = description;
+        this.logger = logger;
+        this.rebuildTask = new CoalescingTask(threadName, this::rebuild, logger, description + " rebuild failed");
+    }
+
+    /**
+     * Loads a new snapshot from the database.
+     *
+     * @return The snapshot holding every active employee.
+     */
+    protected abstract S load();
+
+    /**
+     * Counts the employees in a snapshot, for the log line written after a rebuild.
+     *
+     * @param snapshot The snapshot.
+     * @return The number of employees it holds.
+     */
+    protected abstract int size(S snapshot);
+
+    /**
+     * Tells whether the snapshot is kept at all. Disabled snapshots never load or write.
+     *
+     * @return true unless overridden.
+     */
+    protected boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Loads every active employee once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!isEnabled()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            pendingWrites.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        S newSnapshot;
+        try {
+            newSnapshot = load();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+                pendingWrites.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        replace(newSnapshot);
+        logger.info("{} built with {} employees", description, size(newSnapshot));
+    }
+
+    /**
+     * Schedules a rebuild in the background. Requests made while one is already
+     * waiting to run are merged into it.
+     */
+    public void rebuildAsync() {
+        if (isEnabled()) {
+            rebuildTask.schedule();
+        }
+    }
+
+    /**
+     * Replaces the snapshot, replaying the writes made while the new one was loading.
+     * When a replayed write cannot be applied, another rebuild is scheduled so the
+     * snapshot does not stay without it.
+     *
+     * @param newSnapshot The snapshot to serve from now on.
+     */
+    protected void replace(S newSnapshot) {
+        int droppedWrites = 0;
+        lock.writeLock().lock();
+        try {
+            snapshot = newSnapshot;
+            rebuilding = false;
+            for (Predicate<S> write : pendingWrites) {
+                if (!write.test(newSnapshot)) {
+                    droppedWrites++;
+                }
+            }
+            pendingWrites.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (droppedWrites > 0) {
+            logger.warn("{} could not replay {} writes, rebuilding again", description, droppedWrites);
+            rebuildAsync();
+        }
+    }
+
+    /**
+     * Applies a write to the current snapshot, and remembers it for replay when a rebuild is loading.
+     *
+     * @param write Changes the snapshot and tells whether it could be applied.
+     * @return The result of the write, false when it was not applied.
+     */
+    protected boolean write(Predicate<S> write) {
+        if (!isEnabled()) {
+            return true;
+        }
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                pendingWrites.add(write);
+            }
+            return write.test(snapshot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reads the current snapshot while holding the read lock, so no write changes it until the read returns.
+     *
+     * @param read Reads the snapshot.
+     * @return The result of the read.
+     */
+    protected <T> T readLocked(Function<S, T> read) {
+        lock.readLock().lock();
+        try {
+            return read.apply(snapshot);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the current snapshot without locking, for snapshots built from concurrent collections.
+     *
+     * @return The current snapshot.
+     */
+    protected S snapshot() {
+        return snapshot;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuildTask.shutdown();
+    }
+}
@@ -0,0 +1,218 @@
+package com.ideas2it.employeemanagement.utilities;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ *<p>
+ * Keeps the versions behind the ETags of employee, department and sport responses,
+ * so a matching {@code If-None-Match} is answered with 304 without a database query.
+ *</p>
+ *<p>
+ * List endpoints use one counter per collection, bumped after every committed write.
+ * A single employee uses its row version, remembered here from the last time it was read.
+ * Employee tags also carry today's date, since every employee carries an age computed from it.
+ * Every tag also carries the start time of this instance, so counters that restart from
+ * zero never produce a tag a client saw before. The state is per instance: with more than
+ * one instance behind a load balancer, clients simply revalidate when they switch instance.
+ *</p>
+ * @author Kishore
+ */
+@Component
+public class ResourceVersions {
+    public static final String EMPLOYEES = "employees";
+    public static final String DEPARTMENTS = "departments";
+    public static final String SPORTS = "sports";
+    public static final String HEADCOUNTS = "headcounts";
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<String, AtomicLong> collectionVersions = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Cache<Integer, Long> employeeVersions;
+    private Supplier<LocalDate> today = DayClock::today;
+
+    public ResourceVersions(@Value("${employeemanagement.etag.employee-cache-size:100000}") long employeeCacheSize) {
+        employeeVersions = Caffeine.newBuilder()
+                .maximumSize(employeeCacheSize)
+                .build();
+        collectionVersions.put(EMPLOYEES, new AtomicLong());
+        collectionVersions.put(DEPARTMENTS, new AtomicLong());
+        collectionVersions.put(SPORTS, new AtomicLong());
+        collectionVersions.put(HEADCOUNTS, new AtomicLong());
+    }
+
+    /**
+     * Builds the ETag of a page of employees. Department and sport names are part of
+     * every employee, so their collections are included as well, and so is today's date
+     * the ages are computed from.
+     *
+     * @param after the cursor of the page
+     * @param limit the size of the page
+     * @return the strong ETag of the page
+     */
+    public String getEmployeesETag(int after, int limit) {
+        return tag(EMPLOYEES, version(EMPLOYEES), version(DEPARTMENTS), version(SPORTS), today(), after, limit);
+    }
+
+    /**
+     * Builds the ETag of a page of departments. Every department carries its headcount,
+     * so the headcount version is included as well.
+     *
+     * @param after the cursor of the page
+     * @param limit the size of the page
+     * @return the strong ETag of the page
+     */
+    public String getDepartmentsETag(int after, int limit) {
+        return tag(DEPARTMENTS, version(DEPARTMENTS), version(HEADCOUNTS), after, limit);
+    }
+
+    /**
+     * Builds the ETag of a page of sports. Every sport carries its headcount,
+     * so the headcount version is included as well.
+     *
+     * @param after the cursor of the page
+     * @param limit the size of the page
+     * @return the strong ETag of the page
+     */
+    public String getSportsETag(int after, int limit) {
+        return tag(SPORTS, version(SPORTS), version(HEADCOUNTS), after, limit);
+    }
+
+    /**
+     * Builds the ETag of an employee from its remembered row version.
+     *
+     * @param id the ID of the employee
+     * @return the strong ETag, or null when the employee has not been read since it last changed
+     */
+    public String getEmployeeETag(int id) {
+        Long version = employeeVersions.getIfPresent(id);
+        return version == null ? null : employeeTag(id, version);
+    }
+
+    /**
+     * Marks the start of an employee read. Pass the result to
+     * {@link #recordEmployeeVersion(int, long, long)} once the row has been loaded.
+     *
+     * @return a stamp that changes whenever a write invalidates employee versions
+     */
+    public long beginEmployeeRead() {
+        return invalidations.get();
+    }
+
+    /**
+     * Remembers the row version of an employee that was just read and builds its ETag.
+     * The version is only kept when no write was committed while it was being read.
+     *
+     * @param id        the ID of the employee
+     * @param version   the row version that was read
+     * @param readStamp the stamp returned by {@link #beginEmployeeRead()} before the read
+     * @return the strong ETag of the employee
+     */
+    public String recordEmployeeVersion(int id, long version, long readStamp) {
+        employeeVersions.asMap().compute(id,
+                (key, current) -> invalidations.get() == readStamp ? Long.valueOf(version) : current);
+        return employeeTag(id, version);
+    }
+
+    /**
+     * Invalidates one employee and the employee lists once the current transaction commits.
+     *
+     * @param id the ID of the employee that changed
+     */
+    public void employeeChanged(int id) {
+        Transactions.afterCommit(() -> {
+            invalidations.incrementAndGet();
+            employeeVersions.asMap().compute(id, (key, current) -> null);
+            version(EMPLOYEES, true);
+        });
+    }
+
+    /**
+     * Invalidates every employee and the employee lists once the current transaction commits.
+     * Used by bulk writes that do not know which rows they touched.
+     */
+    public void employeesChanged() {
+        Transactions.afterCommit(() -> {
+            invalidations.incrementAndGet();
+            employeeVersions.invalidateAll();
+            version(EMPLOYEES, true);
+        });
+    }
+
+    /**
+     * Invalidates the department lists, and every employee tag that embeds department names,
+     * once the current transaction commits.
+     */
+    public void departmentsChanged() {
+        Transactions.afterCommit(() -> version(DEPARTMENTS, true));
+    }
+
+    /**
+     * Invalidates the sport lists, and every employee tag that embeds sport names,
+     * once the current transaction commits.
+     */
+    public void sportsChanged() {
+        Transactions.afterCommit(() -> version(SPORTS, true));
+    }
+
+    /**
+     * Invalidates the department and sport lists after a headcount changed. Called by the
+     * headcount counters once the change is applied, which is already after commit.
+     */
+    public void headcountsChanged() {
+        version(HEADCOUNTS, true);
+    }
+
+    /**
+     * Checks an {@code If-None-Match} header against the current ETag.
+     *
+     * @param ifNoneMatch the header value, may be null
+     * @param eTag        the current ETag, may be null when it is not known
+     * @return true if the client already holds the current representation
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(eTag) || value.equals("W/" + eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String employeeTag(int id, long version) {
+        return tag(EMPLOYEES + "/" + id, version, version(DEPARTMENTS), version(SPORTS), today());
+    }
+
+    private long today() {
+        return today.get().toEpochDay();
+    }
+
+    private long version(String collection) {
+        return version(collection, false);
+    }
+
+    private long version(String collection, boolean increment) {
+        AtomicLong counter = collectionVersions.get(collection);
+        return increment ? counter.incrementAndGet() : counter.get();
+    }
+
+    private String tag(String resource, Object... parts) {
+        StringBuilder tag = new StringBuilder("\"").append(resource).append('-').append(epoch);
+        for (Object part : parts) {
+            tag.append('-').append(part);
+        }
+        return tag.append('"').toString();
+    }
+}
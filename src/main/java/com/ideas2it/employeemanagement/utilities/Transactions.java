@@ -0,0 +1,32 @@
+package com.ideas2it.employeemanagement.utilities;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ *<p>
+ * Helpers for keeping in-process state in step with committed database state.
+ *</p>
+ * @author Kishore
+ */
+public class Transactions {
+
+    /**
+     * Runs an action once the current transaction has committed, or straight away
+     * when there is no transaction. Rolled back writes never run the action.
+     *
+     * @param action The action to run.
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.ideas2it.employeemanagement.utilities;
 
 import java.time.LocalDate;
-import java.time.Period;
 
 /*
  *<p>
@@ -11,6 +10,21 @@ import java.time.Period;
  */
 public class Validator {
 
+    /**
+     * Largest page size a client may request from a list endpoint.
+     */
+    public static final int MAX_PAGE_LIMIT = 500;
+
+    /**
+     * Widest window, in days, of the upcoming birthdays query.
+     */
+    public static final int MAX_BIRTHDAY_DAYS = 366;
+
+    /**
+     * Highest age, in years, that the age reports group employees into.
+     */
+    public static final int MAX_AGE = 150;
+
     /**
      * Calculates the age based on the provided date of birth (DOB).
      *
@@ -18,7 +32,61 @@ public class Validator {
      * @return The age in years.
      */
     public static int calculateAge(LocalDate dob) {
-        return Period.between(dob, LocalDate.now()).getYears();
+        return calculateAge(dob, DayClock.today());
+    }
+
+    /**
+     * Calculates the age on a given day, in whole years as {@link java.time.Period#between} counts them,
+     * without allocating.
+     *
+     * @param dob The date of birth as a LocalDate.
+     * @param today The day to calculate the age on.
+     * @return The age in years.
+     */
+    public static int calculateAge(LocalDate dob, LocalDate today) {
+        int age = today.getYear() - dob.getYear();
+        return birthdayKey(today) < birthdayKey(dob) ? age - 1 : age;
+    }
+
+    /**
+     * Encodes the month and day of a date as {@code MMDD}, e.g. 1231 for 31 December.
+     * Birthdays compare and range in calendar order without depending on the year or on leap days.
+     *
+     * @param date The date, usually a date of birth.
+     * @return The month and day as one number.
+     */
+    public static int birthdayKey(LocalDate date) {
+        return date.getMonthValue() * 100 + date.getDayOfMonth();
+    }
+
+    /**
+     * Restricts a requested birthday window to between 0 and {@link #MAX_BIRTHDAY_DAYS} days.
+     *
+     * @param days The number of days requested by the client.
+     * @return The number of days to use.
+     */
+    public static int validateBirthdayDays(int days) {
+        return Math.max(0, Math.min(days, MAX_BIRTHDAY_DAYS));
+    }
+
+    /**
+     * Restricts a requested age bucket width to between 1 and {@link #MAX_AGE} years.
+     *
+     * @param bucketSize The bucket width requested by the client, in years.
+     * @return The bucket width to use.
+     */
+    public static int validateAgeBucketSize(int bucketSize) {
+        return Math.max(1, Math.min(bucketSize, MAX_AGE));
+    }
+
+    /**
+     * Restricts a requested page size to the range supported by the list endpoints.
+     *
+     * @param limit The page size requested by the client.
+     * @return The page size to use, between 1 and {@link #MAX_PAGE_LIMIT}.
+     */
+    public static int validateLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_LIMIT));
     }
 
 }
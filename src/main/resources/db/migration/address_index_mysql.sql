@@ -0,0 +1,7 @@
+-- Adds the address indexes behind the city, state and zip prefix employee filters
+-- and the per-city and per-state counts to an existing MySQL database.
+-- ddl-auto=update does not create indexes on tables that already exist.
+
+CREATE INDEX idx_address_city ON address (city);
+CREATE INDEX idx_address_state_city ON address (state, city);
+CREATE INDEX idx_address_zip ON address (zip);
@@ -0,0 +1,9 @@
+-- Adds the indexed birthday column (month and day of dob as MMDD) and the dob index
+-- behind the age range and upcoming birthday queries to an existing MySQL database.
+-- Run once with the application stopped.
+
+ALTER TABLE employee ADD COLUMN birthday INT NOT NULL DEFAULT 0;
+UPDATE employee SET birthday = MONTH(dob) * 100 + DAY(dob) WHERE dob IS NOT NULL;
+
+CREATE INDEX idx_employee_dob ON employee (dob);
+CREATE INDEX idx_employee_birthday ON employee (birthday);
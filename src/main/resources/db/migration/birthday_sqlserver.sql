@@ -0,0 +1,10 @@
+-- Adds the indexed birthday column (month and day of dob as MMDD) and the dob index
+-- behind the age range and upcoming birthday queries to an existing SQL Server database.
+-- Run once with the application stopped.
+
+ALTER TABLE employee ADD birthday INT NOT NULL CONSTRAINT df_employee_birthday DEFAULT 0;
+GO
+UPDATE employee SET birthday = MONTH(dob) * 100 + DAY(dob) WHERE dob IS NOT NULL;
+
+CREATE INDEX idx_employee_dob ON employee (dob);
+CREATE INDEX idx_employee_birthday ON employee (birthday);
@@ -0,0 +1,9 @@
+-- Gives the unique keys on department and sport names the names GlobalExceptionHandler maps
+-- to a 409 message, on an existing MySQL database. The keys created earlier from
+-- @Column(unique = true) carry generated names; they are listed by:
+--   SELECT table_name, constraint_name FROM information_schema.table_constraints
+--   WHERE table_schema = DATABASE() AND constraint_type = 'UNIQUE' AND table_name IN ('department', 'sport');
+-- and each is dropped with ALTER TABLE <table_name> DROP INDEX <constraint_name>; before running this.
+
+ALTER TABLE department ADD CONSTRAINT uk_department_name UNIQUE (name);
+ALTER TABLE sport ADD CONSTRAINT uk_sport_name UNIQUE (name);
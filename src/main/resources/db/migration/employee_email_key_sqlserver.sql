@@ -0,0 +1,9 @@
+-- Gives the unique key on employee email IDs the name GlobalExceptionHandler maps to a
+-- 409 message, on an existing SQL Server database. The key created earlier from
+-- @Column(unique = true) carries a generated name; it is listed by:
+--   SELECT constraint_name FROM information_schema.table_constraints
+--   WHERE constraint_type = 'UNIQUE' AND table_name = 'employee'
+--   AND constraint_name <> 'uk_employee_name_department';
+-- and dropped with ALTER TABLE employee DROP CONSTRAINT <constraint_name>; before running this.
+
+ALTER TABLE employee ADD CONSTRAINT uk_employee_email UNIQUE (email_id);
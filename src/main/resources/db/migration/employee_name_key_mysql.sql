@@ -0,0 +1,6 @@
+-- Adds the unique key on employee name and department that detects duplicate employees
+-- on create and update to an existing MySQL database.
+-- Existing duplicates have to be renamed or removed first; they are listed by:
+--   SELECT name, department_id, COUNT(*) FROM employee GROUP BY name, department_id HAVING COUNT(*) > 1;
+
+ALTER TABLE employee ADD CONSTRAINT uk_employee_name_department UNIQUE (name, department_id);
@@ -0,0 +1,10 @@
+-- Gives an existing MySQL employee_sport table the composite primary key that
+-- EmployeeSportRepository relies on to reject duplicate assignments.
+-- Run once with the application stopped. Duplicate rows are removed first.
+
+CREATE TABLE employee_sport_dedup AS SELECT DISTINCT employee_id, sport_id FROM employee_sport;
+DELETE FROM employee_sport;
+INSERT INTO employee_sport (employee_id, sport_id) SELECT employee_id, sport_id FROM employee_sport_dedup;
+DROP TABLE employee_sport_dedup;
+
+ALTER TABLE employee_sport ADD PRIMARY KEY (employee_id, sport_id);
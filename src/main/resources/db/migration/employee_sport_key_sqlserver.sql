@@ -0,0 +1,13 @@
+-- Gives an existing SQL Server employee_sport table the composite primary key that
+-- EmployeeSportRepository relies on to reject duplicate assignments.
+-- Run once with the application stopped. Duplicate rows are removed first.
+
+WITH numbered AS (
+    SELECT ROW_NUMBER() OVER (PARTITION BY employee_id, sport_id ORDER BY employee_id) AS row_num
+    FROM employee_sport
+)
+DELETE FROM numbered WHERE row_num > 1;
+
+ALTER TABLE employee_sport ALTER COLUMN employee_id INT NOT NULL;
+ALTER TABLE employee_sport ALTER COLUMN sport_id INT NOT NULL;
+ALTER TABLE employee_sport ADD CONSTRAINT pk_employee_sport PRIMARY KEY (employee_id, sport_id);
@@ -0,0 +1,16 @@
+-- Moves an existing MySQL database from AUTO_INCREMENT keys to the id_block table
+-- read by BlockTableGenerator. Run once with the application stopped, before starting
+-- the release that uses block IDs. Each row holds the last ID handed out for one entity.
+
+CREATE TABLE IF NOT EXISTS id_block (
+    entity VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val BIGINT
+);
+
+INSERT INTO id_block (entity, next_val) SELECT 'employee', COALESCE(MAX(id), 0) FROM employee;
+INSERT INTO id_block (entity, next_val) SELECT 'address', COALESCE(MAX(id), 0) FROM address;
+INSERT INTO id_block (entity, next_val) SELECT 'department', COALESCE(MAX(id), 0) FROM department;
+INSERT INTO id_block (entity, next_val) SELECT 'sport', COALESCE(MAX(id), 0) FROM sport;
+
+-- AUTO_INCREMENT can stay on the id columns: MySQL stores explicit IDs as given
+-- and only generates one when the column is left out of the INSERT.
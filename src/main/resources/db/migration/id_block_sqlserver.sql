@@ -0,0 +1,23 @@
+-- Moves an existing SQL Server database from IDENTITY keys to the id_block table
+-- read by BlockTableGenerator. Run once with the application stopped, before starting
+-- the release that uses block IDs. Each row holds the last ID handed out for one entity.
+
+IF OBJECT_ID('id_block', 'U') IS NULL
+    CREATE TABLE id_block (
+        entity VARCHAR(255) NOT NULL PRIMARY KEY,
+        next_val BIGINT
+    );
+
+INSERT INTO id_block (entity, next_val) SELECT 'employee', COALESCE(MAX(id), 0) FROM employee;
+INSERT INTO id_block (entity, next_val) SELECT 'address', COALESCE(MAX(id), 0) FROM address;
+INSERT INTO id_block (entity, next_val) SELECT 'department', COALESCE(MAX(id), 0) FROM department;
+INSERT INTO id_block (entity, next_val) SELECT 'sport', COALESCE(MAX(id), 0) FROM sport;
+
+-- SQL Server rejects explicit values for an IDENTITY column and the property cannot be
+-- dropped in place. For each of employee, address, department and sport:
+--   1. create <table>_new with the same columns, declaring id as plain INT NOT NULL PRIMARY KEY;
+--   2. INSERT INTO <table>_new SELECT * FROM <table>;
+--   3. drop the foreign keys that reference <table>, drop <table>, EXEC sp_rename '<table>_new', '<table>';
+--   4. recreate the foreign keys (employee.department_id, employee.address_id,
+--      employee_sport.employee_id, employee_sport.sport_id).
+-- Alternatively, start from an empty schema and let spring.jpa.hibernate.ddl-auto create it.
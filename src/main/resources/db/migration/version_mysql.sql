@@ -0,0 +1,6 @@
+-- Adds the row version columns read by @Version on Employee, Department and Sport
+-- to an existing MySQL database. Existing rows start at version 0.
+
+ALTER TABLE employee ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE department ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE sport ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
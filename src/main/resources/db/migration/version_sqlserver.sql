@@ -0,0 +1,6 @@
+-- Adds the row version columns read by @Version on Employee, Department and Sport
+-- to an existing SQL Server database. Existing rows start at version 0.
+
+ALTER TABLE employee ADD version BIGINT NOT NULL CONSTRAINT df_employee_version DEFAULT 0;
+ALTER TABLE department ADD version BIGINT NOT NULL CONSTRAINT df_department_version DEFAULT 0;
+ALTER TABLE sport ADD version BIGINT NOT NULL CONSTRAINT df_sport_version DEFAULT 0;
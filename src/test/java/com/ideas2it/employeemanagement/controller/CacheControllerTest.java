@@ -0,0 +1,50 @@
+package com.ideas2it.employeemanagement.controller;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ideas2it.employeemanagement.cache.controller.CacheController;
+import com.ideas2it.employeemanagement.cache.dto.CacheStatsDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class CacheControllerTest {
+    @Spy
+    private CaffeineCacheManager cacheManager = new CaffeineCacheManager("departments");
+
+    @InjectMocks
+    private CacheController cacheController;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.setCaffeine(Caffeine.newBuilder().recordStats());
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void getCacheStats_ReturnsHitsAndMisses() {
+        Cache departments = cacheManager.getCache("departments");
+        departments.get(1);
+        departments.put(1, "IT");
+        departments.get(1);
+        ResponseEntity<List<CacheStatsDto>> response = cacheController.getCacheStats();
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        CacheStatsDto stats = response.getBody().get(0);
+        assertEquals("departments", stats.getName());
+        assertEquals(1, stats.getSize());
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+    }
+}
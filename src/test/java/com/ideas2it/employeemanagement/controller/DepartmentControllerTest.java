@@ -3,12 +3,14 @@ package com.ideas2it.employeemanagement.controller;
 import com.ideas2it.employeemanagement.department.controller.DepartmentController;
 import com.ideas2it.employeemanagement.department.dto.DepartmentDto;
 import com.ideas2it.employeemanagement.department.service.DepartmentService;
+import com.ideas2it.employeemanagement.utilities.ResourceVersions;
 import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -24,6 +26,9 @@ public class DepartmentControllerTest {
     @Mock
     private DepartmentService departmentService;
 
+    @Spy
+    private ResourceVersions resourceVersions = new ResourceVersions(1000);
+
     @InjectMocks
     private DepartmentController departmentController;
 
@@ -59,23 +64,46 @@ public class DepartmentControllerTest {
                 DepartmentDto.builder().id(1).name("HR").build(),
                 DepartmentDto.builder().id(2).name("Finance").build()
         );
-        when(departmentService.getAllDepartments()).thenReturn(departmentDtos);
-        ResponseEntity<List<DepartmentDto>> response = departmentController.getAllDepartments();
+        when(departmentService.getAllDepartments(0, 50)).thenReturn(departmentDtos);
+        ResponseEntity<List<DepartmentDto>> response = departmentController.getAllDepartments(0, 50, null);
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(departmentDtos, response.getBody());
-        verify(departmentService, times(1)).getAllDepartments();
+        verify(departmentService, times(1)).getAllDepartments(0, 50);
+    }
+
+    @Test
+    void getAllDepartments_MatchingETag_ReturnsNotModifiedWithoutLoading() {
+        when(departmentService.getAllDepartments(0, 50)).thenReturn(List.of());
+        String eTag = departmentController.getAllDepartments(0, 50, null).getHeaders().getETag();
+        ResponseEntity<List<DepartmentDto>> response = departmentController.getAllDepartments(0, 50, eTag);
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        verify(departmentService, times(1)).getAllDepartments(0, 50);
+
+        resourceVersions.departmentsChanged();
+        assertEquals(HttpStatus.OK, departmentController.getAllDepartments(0, 50, eTag).getStatusCode());
     }
 
     @Test
     void getDepartmentById_ValidId_ReturnsDepartmentDto() {
         DepartmentDto departmentDto = DepartmentDto.builder().id(1).name("HR").build();
-        when(departmentService.getDepartmentById(1)).thenReturn(departmentDto);
+        departmentDto.setActiveEmployeeCount(3L);
+        when(departmentService.getDepartmentWithEmployeeCount(1)).thenReturn(departmentDto);
         ResponseEntity<DepartmentDto> response = departmentController.getDepartmentById(1);
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(departmentDto, response.getBody());
-        verify(departmentService, times(1)).getDepartmentById(1);
+        assertEquals(3L, response.getBody().getActiveEmployeeCount());
+        verify(departmentService, times(1)).getDepartmentWithEmployeeCount(1);
+    }
+
+    @Test
+    void getActiveEmployeeCount_ValidId_ReturnsCount() {
+        when(departmentService.getActiveEmployeeCount(1)).thenReturn(12L);
+        ResponseEntity<Long> response = departmentController.getActiveEmployeeCount(1);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(12L, response.getBody());
+        verify(departmentService, times(1)).getActiveEmployeeCount(1);
     }
 
     @Test
@@ -1,20 +1,40 @@
 package com.ideas2it.employeemanagement.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.ideas2it.employeemanagement.department.service.DepartmentService;
 import com.ideas2it.employeemanagement.employee.controller.EmployeeController;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeAddressFilterDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeAgeFilterDto;
 import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeImportResultDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeSearchDto;
+import com.ideas2it.employeemanagement.employee.dto.LocationCountDto;
+import com.ideas2it.employeemanagement.employee.dto.SportAssignmentRequestDto;
+import com.ideas2it.employeemanagement.employee.dto.SportAssignmentResultDto;
 import com.ideas2it.employeemanagement.employee.service.EmployeeService;
 import com.ideas2it.employeemanagement.sport.service.SportService;
+import com.ideas2it.employeemanagement.utilities.ResourceVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -30,6 +50,12 @@ public class EmployeeControllerTest {
     @Mock
     private SportService sportService;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private ResourceVersions resourceVersions = new ResourceVersions(1000);
+
     @InjectMocks
     private EmployeeController employeeController;
 
@@ -52,25 +78,155 @@ public class EmployeeControllerTest {
         verify(employeeService, times(1)).addEmployee(any(EmployeeDto.class));
     }
 
+    @Test
+    void testImportEmployeesFromCsv() {
+        EmployeeImportResultDto importResult = EmployeeImportResultDto.builder()
+                .totalCount(1)
+                .importedCount(1)
+                .failures(List.of())
+                .build();
+        when(employeeService.importEmployees(anyList(), anyMap())).thenReturn(importResult);
+        String csv = "name,dob,emailId,departmentID,street,city,state,zip\n"
+                + "John,1990-01-01,john@example.com,1,\"12, Main St\",Chennai,Tamil Nadu,600001\n";
+        ResponseEntity<EmployeeImportResultDto> response = employeeController.importEmployeesFromCsv(csv);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(importResult, response.getBody());
+        verify(employeeService, times(1)).importEmployees(argThat(employeeDtos ->
+                employeeDtos.size() == 1 && "12, Main St".equals(employeeDtos.get(0).getStreet())),
+                argThat(Map::isEmpty));
+    }
+
+    @Test
+    void testImportEmployeesFromCsv_UnparseableDepartmentId_RowRejected() {
+        EmployeeImportResultDto importResult = EmployeeImportResultDto.builder()
+                .totalCount(2)
+                .importedCount(1)
+                .failures(List.of())
+                .build();
+        when(employeeService.importEmployees(anyList(), anyMap())).thenReturn(importResult);
+        String csv = "name,dob,emailId,departmentID,street,city,state,zip\n"
+                + "John,1990-01-01,john@example.com,1,Main St,Chennai,Tamil Nadu,600001\n"
+                + "Jane,1991-02-02,jane@example.com,Sales,Main St,Chennai,Tamil Nadu,600001\n";
+        employeeController.importEmployeesFromCsv(csv);
+        verify(employeeService, times(1)).importEmployees(argThat(employeeDtos -> employeeDtos.size() == 2),
+                eq(Map.of(1, "Invalid department ID: Sales")));
+    }
+
     @Test
     void testGetAllEmployees() {
         List<EmployeeDto> employeeList = Arrays.asList(employeeDto);
-        when(employeeService.getAllEmployees()).thenReturn(employeeList);
-        ResponseEntity<List<EmployeeDto>> response = employeeController.getAllEmployees();
+        when(employeeService.getAllEmployees(0, 50)).thenReturn(employeeList);
+        ResponseEntity<List<EmployeeDto>> response = employeeController.getAllEmployees(0, 50, null);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(employeeList, response.getBody());
-        verify(employeeService, times(1)).getAllEmployees();
+        verify(employeeService, times(1)).getAllEmployees(0, 50);
+    }
+
+    @Test
+    void testExportEmployees() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<EmployeeDto> consumer = invocation.getArgument(0);
+            consumer.accept(employeeDto);
+            consumer.accept(employeeDto);
+            return 2;
+        }).when(employeeService).exportEmployees(any());
+        ReflectionTestUtils.setField(employeeController, "exportTimeoutMs", 1800000L);
+        AsyncWebRequest asyncWebRequest = mock(AsyncWebRequest.class);
+        ResponseEntity<StreamingResponseBody> response = employeeController.exportEmployees(asyncWebRequest);
+        verify(asyncWebRequest).setTimeout(1800000L);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        response.getBody().writeTo(outputStream);
+        String[] lines = outputStream.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(1, objectMapper.readTree(lines[0]).get("id").asInt());
+        verify(employeeService, times(1)).exportEmployees(any());
+    }
+
+    @Test
+    void testGetEmployeesByAddress() {
+        EmployeeAddressFilterDto filter = EmployeeAddressFilterDto.builder().city("Chennai").build();
+        when(employeeService.getEmployeesByAddress(filter, 0, 50)).thenReturn(Arrays.asList(employeeDto));
+        ResponseEntity<List<EmployeeDto>> response = employeeController.getEmployeesByAddress(filter, 0, 50);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+    }
+
+    @Test
+    void testGetEmployeesByAge() {
+        EmployeeAgeFilterDto filter = EmployeeAgeFilterDto.builder().minAge(20).maxAge(30).build();
+        when(employeeService.getEmployeesByAge(filter, 0, 50)).thenReturn(Arrays.asList(employeeDto));
+        ResponseEntity<List<EmployeeDto>> response = employeeController.getEmployeesByAge(filter, 0, 50);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+    }
+
+    @Test
+    void testGetUpcomingBirthdays() {
+        when(employeeService.getUpcomingBirthdays(30, 50)).thenReturn(Arrays.asList(employeeDto));
+        ResponseEntity<List<EmployeeDto>> response = employeeController.getUpcomingBirthdays(30, 50);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(employeeDto, response.getBody().get(0));
+    }
+
+    @Test
+    void testGetEmployeeCountsByCity() {
+        List<LocationCountDto> counts = List.of(new LocationCountDto("Tamil Nadu", "Chennai", 3));
+        when(employeeService.getEmployeeCountsByCity(null)).thenReturn(counts);
+        ResponseEntity<List<LocationCountDto>> response = employeeController.getEmployeeCountsByCity(null);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(counts, response.getBody());
+    }
+
+    @Test
+    void testSearchEmployees() {
+        List<EmployeeSearchDto> matches = List.of(new EmployeeSearchDto(1, "John", "john@example.com"));
+        when(employeeService.searchEmployees("jo", 10)).thenReturn(matches);
+        ResponseEntity<List<EmployeeSearchDto>> response = employeeController.searchEmployees("jo", 10);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(matches, response.getBody());
     }
 
     @Test
     void testGetEmployeeById() {
         when(employeeService.getEmployeeById(eq(1))).thenReturn(employeeDto);
-        ResponseEntity<EmployeeDto> response = employeeController.getEmployeeById(1);
+        ResponseEntity<EmployeeDto> response = employeeController.getEmployeeById(1, null);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(employeeDto, response.getBody());
         verify(employeeService, times(1)).getEmployeeById(1);
     }
 
+    @Test
+    void testGetEmployeeById_MatchingETag_ReturnsNotModifiedWithoutLoading() {
+        when(employeeService.getEmployeeById(eq(1))).thenReturn(employeeDto);
+        String eTag = employeeController.getEmployeeById(1, null).getHeaders().getETag();
+        ResponseEntity<EmployeeDto> response = employeeController.getEmployeeById(1, eTag);
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        verify(employeeService, times(1)).getEmployeeById(1);
+
+        resourceVersions.employeeChanged(1);
+        assertEquals(HttpStatus.OK, employeeController.getEmployeeById(1, eTag).getStatusCode());
+        verify(employeeService, times(2)).getEmployeeById(1);
+    }
+
+    @Test
+    void testGetEmployees_ETagFromYesterday_ReturnsOkWithAgesOfToday() {
+        when(employeeService.getEmployeeById(eq(1))).thenReturn(employeeDto);
+        when(employeeService.getAllEmployees(0, 10)).thenReturn(List.of(employeeDto));
+        AtomicReference<LocalDate> today = new AtomicReference<>(LocalDate.of(2024, 3, 14));
+        ReflectionTestUtils.setField(resourceVersions, "today", (Supplier<LocalDate>) today::get);
+        String employeeETag = employeeController.getEmployeeById(1, null).getHeaders().getETag();
+        String pageETag = employeeController.getAllEmployees(0, 10, null).getHeaders().getETag();
+        assertEquals(HttpStatus.NOT_MODIFIED, employeeController.getEmployeeById(1, employeeETag).getStatusCode());
+        assertEquals(HttpStatus.NOT_MODIFIED, employeeController.getAllEmployees(0, 10, pageETag).getStatusCode());
+
+        today.set(LocalDate.of(2024, 3, 15));
+        assertEquals(HttpStatus.OK, employeeController.getEmployeeById(1, employeeETag).getStatusCode());
+        assertEquals(HttpStatus.OK, employeeController.getAllEmployees(0, 10, pageETag).getStatusCode());
+        verify(employeeService, times(2)).getEmployeeById(1);
+        verify(employeeService, times(2)).getAllEmployees(0, 10);
+    }
+
     @Test
     void testUpdateEmployee() {
         when(employeeService.updateEmployee(eq(1), any(EmployeeDto.class))).thenReturn(employeeDto);
@@ -80,6 +236,16 @@ public class EmployeeControllerTest {
         verify(employeeService, times(1)).updateEmployee(eq(1), any(EmployeeDto.class));
     }
 
+    @Test
+    void testPatchEmployee() {
+        ObjectNode mergePatch = new ObjectMapper().createObjectNode().put("city", "Chennai");
+        when(employeeService.patchEmployee(1, mergePatch)).thenReturn(employeeDto);
+        ResponseEntity<EmployeeDto> response = employeeController.patchEmployee(1, mergePatch);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(employeeDto, response.getBody());
+        verify(employeeService, times(1)).patchEmployee(1, mergePatch);
+    }
+
     @Test
     void testDeleteEmployee() {
         doNothing().when(employeeService).deleteEmployee(eq(1));
@@ -97,6 +263,22 @@ public class EmployeeControllerTest {
         verify(employeeService, times(1)).addSportToEmployee(eq(1), eq(2));
     }
 
+    @Test
+    void testAddSportsToEmployees() {
+        SportAssignmentRequestDto request = SportAssignmentRequestDto.builder()
+                .sportId(2)
+                .employeeIds(List.of(1, 3))
+                .build();
+        List<SportAssignmentResultDto> results = List.of(
+                new SportAssignmentResultDto(1, 2, SportAssignmentResultDto.Status.ASSIGNED),
+                new SportAssignmentResultDto(3, 2, SportAssignmentResultDto.Status.EMPLOYEE_NOT_FOUND));
+        when(employeeService.addSportsToEmployees(request)).thenReturn(results);
+        ResponseEntity<List<SportAssignmentResultDto>> response = employeeController.addSportsToEmployees(request);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(results, response.getBody());
+        verify(employeeService, times(1)).addSportsToEmployees(request);
+    }
+
     @Test
     void testRemoveSportFromEmployee() {
         when(employeeService.removeSportFromEmployee(eq(1), eq(2))).thenReturn(employeeDto);
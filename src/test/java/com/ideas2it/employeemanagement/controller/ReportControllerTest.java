@@ -0,0 +1,52 @@
+package com.ideas2it.employeemanagement.controller;
+
+import com.ideas2it.employeemanagement.report.controller.ReportController;
+import com.ideas2it.employeemanagement.report.dto.AgeBucketDto;
+import com.ideas2it.employeemanagement.report.dto.SportParticipationDto;
+import com.ideas2it.employeemanagement.report.service.ReportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+public class ReportControllerTest {
+    @Mock
+    private ReportService reportService;
+
+    @InjectMocks
+    private ReportController reportController;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void getAgeDistribution_ReturnsBuckets() {
+        List<AgeBucketDto> ageBucketDtos = List.of(new AgeBucketDto(1, 20, 29, 4));
+        when(reportService.getAgeDistribution(1, 10)).thenReturn(ageBucketDtos);
+        ResponseEntity<List<AgeBucketDto>> response = reportController.getAgeDistribution(1, 10);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(ageBucketDtos, response.getBody());
+        verify(reportService, times(1)).getAgeDistribution(1, 10);
+    }
+
+    @Test
+    void getSportParticipation_ReturnsRates() {
+        List<SportParticipationDto> sportParticipationDtos = List.of(
+                new SportParticipationDto("Tamil Nadu", "Chennai", 2, 1, 4, 0.25));
+        when(reportService.getSportParticipation("Tamil Nadu", null)).thenReturn(sportParticipationDtos);
+        ResponseEntity<List<SportParticipationDto>> response = reportController.getSportParticipation("Tamil Nadu", null);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(sportParticipationDtos, response.getBody());
+        verify(reportService, times(1)).getSportParticipation("Tamil Nadu", null);
+    }
+}
@@ -4,11 +4,13 @@ import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
 import com.ideas2it.employeemanagement.sport.controller.SportController;
 import com.ideas2it.employeemanagement.sport.dto.SportDto;
 import com.ideas2it.employeemanagement.sport.service.SportService;
+import com.ideas2it.employeemanagement.utilities.ResourceVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -24,6 +26,9 @@ public class SportControllerTest {
     @Mock
     private SportService sportService;
 
+    @Spy
+    private ResourceVersions resourceVersions = new ResourceVersions(1000);
+
     @InjectMocks
     private SportController sportController;
 
@@ -58,23 +63,46 @@ public class SportControllerTest {
                 SportDto.builder().id(1).name("Basketball").build(),
                 SportDto.builder().id(2).name("Football").build()
         );
-        when(sportService.getAllSports()).thenReturn(sportDtos);
-        ResponseEntity<List<SportDto>> response = sportController.getAllSports();
+        when(sportService.getAllSports(0, 50)).thenReturn(sportDtos);
+        ResponseEntity<List<SportDto>> response = sportController.getAllSports(0, 50, null);
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(sportDtos, response.getBody());
-        verify(sportService, times(1)).getAllSports();
+        verify(sportService, times(1)).getAllSports(0, 50);
+    }
+
+    @Test
+    void getAllSports_MatchingETag_ReturnsNotModifiedWithoutLoading() {
+        when(sportService.getAllSports(0, 50)).thenReturn(List.of());
+        String eTag = sportController.getAllSports(0, 50, null).getHeaders().getETag();
+        ResponseEntity<List<SportDto>> response = sportController.getAllSports(0, 50, eTag);
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        verify(sportService, times(1)).getAllSports(0, 50);
+
+        resourceVersions.sportsChanged();
+        assertEquals(HttpStatus.OK, sportController.getAllSports(0, 50, eTag).getStatusCode());
     }
 
     @Test
     void getSportById_ValidId_ReturnsSportDto() {
         SportDto sportDto = SportDto.builder().id(1).name("Basketball").build();
-        when(sportService.getSportById(1)).thenReturn(sportDto);
+        sportDto.setActiveEmployeeCount(3L);
+        when(sportService.getSportWithEmployeeCount(1)).thenReturn(sportDto);
         ResponseEntity<SportDto> response = sportController.getSportById(1);
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(sportDto, response.getBody());
-        verify(sportService, times(1)).getSportById(1);
+        assertEquals(3L, response.getBody().getActiveEmployeeCount());
+        verify(sportService, times(1)).getSportWithEmployeeCount(1);
+    }
+
+    @Test
+    void getActiveEmployeeCount_ValidId_ReturnsCount() {
+        when(sportService.getActiveEmployeeCount(1)).thenReturn(12L);
+        ResponseEntity<Long> response = sportController.getActiveEmployeeCount(1);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(12L, response.getBody());
+        verify(sportService, times(1)).getActiveEmployeeCount(1);
     }
 
     @Test
@@ -0,0 +1,127 @@
+package com.ideas2it.employeemanagement.dao;
+
+import com.ideas2it.employeemanagement.department.dao.DepartmentRepository;
+import com.ideas2it.employeemanagement.employee.dao.EmployeeRepository;
+import com.ideas2it.employeemanagement.model.Address;
+import com.ideas2it.employeemanagement.model.Department;
+import com.ideas2it.employeemanagement.model.Employee;
+import com.ideas2it.employeemanagement.model.Sport;
+import com.ideas2it.employeemanagement.sport.dao.SportRepository;
+import com.ideas2it.employeemanagement.statements.StatementBudget;
+import com.ideas2it.employeemanagement.statements.StatementCountConfiguration;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the SQL statements each use case issues, so a mapping change that
+ * brings back eager loading or N+1 selects fails here instead of in production.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(StatementCountConfiguration.class)
+@StatementBudget(1)
+public class FetchPlanTest {
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private SportRepository sportRepository;
+
+    private Statistics statistics;
+    private Department department;
+    private Sport sport;
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        department = testEntityManager.persist(Department.builder()
+                .name("IT")
+                .employees(new HashSet<>())
+                .build());
+        sport = testEntityManager.persist(Sport.builder()
+                .name("Chess")
+                .isActive(true)
+                .employees(new HashSet<>())
+                .build());
+        employee = testEntityManager.persist(Employee.builder()
+                .name("Santhosh")
+                .dob(LocalDate.of(1990, 1, 1))
+                .emailId("santhosh@example.com")
+                .isActive(true)
+                .department(department)
+                .address(Address.builder()
+                        .street("12th Main St")
+                        .city("Tambaram")
+                        .state("Tamil Nadu")
+                        .zip("123456")
+                        .build())
+                .sports(new HashSet<>(Set.of(sport)))
+                .build());
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findWithDetailsById_LoadsEmployeeResponseInOneStatement() {
+        Employee loaded = employeeRepository.findWithDetailsById(employee.getId()).orElseThrow();
+        assertEquals("IT", loaded.getDepartment().getName());
+        assertEquals("Tambaram", loaded.getAddress().getCity());
+        assertEquals(1, loaded.getSports().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findById_Employee_LoadsNoAssociations() {
+        Employee loaded = employeeRepository.findById(employee.getId()).orElseThrow();
+        assertFalse(Hibernate.isInitialized(loaded.getDepartment()));
+        assertFalse(Hibernate.isInitialized(loaded.getSports()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findById_Department_LoadsNoEmployees() {
+        Department loaded = departmentRepository.findById(department.getId()).orElseThrow();
+        assertFalse(Hibernate.isInitialized(loaded.getEmployees()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findById_Sport_LoadsNoEmployees() {
+        Sport loaded = sportRepository.findById(sport.getId()).orElseThrow();
+        assertFalse(Hibernate.isInitialized(loaded.getEmployees()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findActiveDepartmentsAfter_SelectsDtosInOneStatement() {
+        assertEquals(1, departmentRepository.findActiveDepartmentsAfter(0, PageRequest.of(0, 50)).size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,99 @@
+package com.ideas2it.employeemanagement.exceptions;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class GlobalExceptionHandlerTest {
+    private final GlobalExceptionHandler globalExceptionHandler = new GlobalExceptionHandler();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/employees");
+
+    @Test
+    void handleDataIntegrityViolation_EmployeeNameKey_ReturnsConflict() {
+        SQLException sqlException = new SQLException(
+                "Duplicate entry 'Santhosh-1' for key 'employee.uk_employee_name_department'", "23000", 1062);
+        DataIntegrityViolationException e = new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sqlException,
+                        "employee.uk_employee_name_department"));
+        ResponseEntity<Map<String, Object>> response = globalExceptionHandler.handleDataIntegrityViolation(request, e);
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("Employee already exists in the department.", response.getBody().get("details"));
+    }
+
+    @Test
+    void handleDataIntegrityViolation_DepartmentNameKey_ReturnsConflict() {
+        SQLException sqlException = new SQLException(
+                "Duplicate entry 'IT' for key 'department.uk_department_name'", "23000", 1062);
+        DataIntegrityViolationException e = new DataIntegrityViolationException("could not execute statement", sqlException);
+        ResponseEntity<Map<String, Object>> response = globalExceptionHandler.handleDataIntegrityViolation(request, e);
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("Department already exists with this name.", response.getBody().get("details"));
+    }
+
+    @Test
+    void handleDataIntegrityViolation_SportNameKey_ReturnsConflict() {
+        SQLException sqlException = new SQLException(
+                "Unique index or primary key violation: \"PUBLIC.UK_SPORT_NAME_INDEX_4 ON PUBLIC.SPORT(NAME)\"",
+                "23505", 23505);
+        DataIntegrityViolationException e = new DataIntegrityViolationException("could not execute statement", sqlException);
+        ResponseEntity<Map<String, Object>> response = globalExceptionHandler.handleDataIntegrityViolation(request, e);
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("Sport already exists with this name.", response.getBody().get("details"));
+    }
+
+    @Test
+    void handleDataIntegrityViolation_EmailKey_ReturnsConflict() {
+        SQLException sqlException = new SQLException(
+                "Violation of UNIQUE KEY constraint 'uk_employee_email'. Cannot insert duplicate key in object "
+                        + "'dbo.employee'. The duplicate key value is (x@y.com).", "23000", 2627);
+        DataIntegrityViolationException e = new DataIntegrityViolationException("could not execute statement", sqlException);
+        ResponseEntity<Map<String, Object>> response = globalExceptionHandler.handleDataIntegrityViolation(request, e);
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("Employee already exists with this email ID.", response.getBody().get("details"));
+    }
+
+    @Test
+    void handleDataIntegrityViolation_OtherUniqueKey_ReturnsConflictWithoutDatabaseMessage() {
+        SQLException sqlException = new SQLException(
+                "Duplicate entry 'x@y.com' for key 'employee.UK_9ppxhm5ev1k4u1ay4nnwnqy4h'", "23000", 1062);
+        DataIntegrityViolationException e = new DataIntegrityViolationException("could not execute statement", sqlException);
+        ResponseEntity<Map<String, Object>> response = globalExceptionHandler.handleDataIntegrityViolation(request, e);
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("Resource already exists.", response.getBody().get("details"));
+        assertFalse(response.getBody().toString().contains(sqlException.getMessage()));
+        assertFalse(response.getBody().toString().contains("x@y.com"));
+    }
+
+    @Test
+    void handleDataIntegrityViolation_DuplicateKeyException_ReturnsConflict() {
+        ResponseEntity<Map<String, Object>> response = globalExceptionHandler.handleDataIntegrityViolation(
+                request, new DuplicateKeyException("Duplicate entry"));
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
+    @Test
+    void handleDataIntegrityViolation_ForeignKey_ReturnsServerError() {
+        SQLException sqlException = new SQLException("Cannot add or update a child row", "23000", 1452);
+        DataIntegrityViolationException e = new DataIntegrityViolationException("could not execute statement", sqlException);
+        ResponseEntity<Map<String, Object>> response = globalExceptionHandler.handleDataIntegrityViolation(request, e);
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+
+    @Test
+    void handleInvalidPatch_ReturnsBadRequestWithFieldErrors() {
+        ResponseEntity<Map<String, String>> response = globalExceptionHandler.handleInvalidPatch(
+                request, new InvalidPatchException("Invalid patch", Map.of("name", "Name is Required")));
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Name is Required", response.getBody().get("name"));
+    }
+}
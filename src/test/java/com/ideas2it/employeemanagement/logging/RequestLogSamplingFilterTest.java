@@ -0,0 +1,39 @@
+package com.ideas2it.employeemanagement.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.servlet.FilterChain;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestLogSamplingFilterTest {
+    private final List<String> flags = new ArrayList<>();
+    private final FilterChain recordFlag = (request, response) -> flags.add(ThreadContext.get(SamplingFilter.SAMPLED_KEY));
+
+    @Test
+    void doFilter_OneInTen_SamplesAboutATenthOfRequests() throws Exception {
+        RequestLogSamplingFilter requestLogSamplingFilter = new RequestLogSamplingFilter(10);
+        for (int i = 0; i < 10_000; i++) {
+            requestLogSamplingFilter.doFilter(new MockHttpServletRequest("GET", "/api/v1/employees/1"),
+                    new MockHttpServletResponse(), recordFlag);
+        }
+        long sampled = flags.stream().filter(SamplingFilter.SAMPLED::equals).count();
+        long notSampled = flags.stream().filter(SamplingFilter.NOT_SAMPLED::equals).count();
+        assertTrue(sampled > 800 && sampled < 1_200, "sampled " + sampled);
+        assertEquals(10_000, sampled + notSampled);
+        assertNull(ThreadContext.get(SamplingFilter.SAMPLED_KEY));
+    }
+
+    @Test
+    void doFilter_OneInOne_LeavesThreadContextAlone() throws Exception {
+        new RequestLogSamplingFilter(1).doFilter(new MockHttpServletRequest("GET", "/api/v1/employees/1"),
+                new MockHttpServletResponse(), recordFlag);
+        assertEquals(1, flags.size());
+        assertNull(flags.get(0));
+    }
+}
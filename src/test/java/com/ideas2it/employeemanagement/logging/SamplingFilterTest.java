@@ -0,0 +1,61 @@
+package com.ideas2it.employeemanagement.logging;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.ContextDataFactory;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.util.StringMap;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SamplingFilterTest {
+    private static final String CONTROLLER = "com.ideas2it.employeemanagement.employee.controller.EmployeeController";
+    private static final String PATTERN = "com\\.ideas2it\\.employeemanagement\\..*(Controller|ServiceImpl)";
+
+    private final SamplingFilter samplingFilter = SamplingFilter.createFilter(Level.INFO, PATTERN);
+
+    @Test
+    void filter_RequestNotSampled_Dropped() {
+        assertEquals(Filter.Result.DENY,
+                samplingFilter.filter(event(CONTROLLER, Level.INFO, SamplingFilter.NOT_SAMPLED)));
+        assertEquals(Filter.Result.DENY,
+                samplingFilter.filter(event(CONTROLLER, Level.DEBUG, SamplingFilter.NOT_SAMPLED)));
+    }
+
+    @Test
+    void filter_RequestSampled_Kept() {
+        assertEquals(Filter.Result.NEUTRAL,
+                samplingFilter.filter(event(CONTROLLER, Level.INFO, SamplingFilter.SAMPLED)));
+    }
+
+    @Test
+    void filter_OutsideRequest_Kept() {
+        assertEquals(Filter.Result.NEUTRAL, samplingFilter.filter(event(CONTROLLER, Level.INFO, null)));
+    }
+
+    @Test
+    void filter_MoreSevereThanLevel_AlwaysKept() {
+        assertEquals(Filter.Result.NEUTRAL,
+                samplingFilter.filter(event(CONTROLLER, Level.WARN, SamplingFilter.NOT_SAMPLED)));
+    }
+
+    @Test
+    void filter_OtherLogger_AlwaysKept() {
+        assertEquals(Filter.Result.NEUTRAL, samplingFilter.filter(event(
+                "com.ideas2it.employeemanagement.EmployeemanagementApplication", Level.INFO, SamplingFilter.NOT_SAMPLED)));
+    }
+
+    private static LogEvent event(String loggerName, Level level, String sampled) {
+        StringMap contextData = ContextDataFactory.createContextData();
+        if (sampled != null) {
+            contextData.putValue(SamplingFilter.SAMPLED_KEY, sampled);
+        }
+        return Log4jLogEvent.newBuilder()
+                .setLoggerName(loggerName)
+                .setLevel(level)
+                .setContextData(contextData)
+                .build();
+    }
+}
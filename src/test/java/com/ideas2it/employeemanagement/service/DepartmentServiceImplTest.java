@@ -4,11 +4,13 @@ import com.ideas2it.employeemanagement.department.dao.DepartmentRepository;
 import com.ideas2it.employeemanagement.department.dto.DepartmentDto;
 import com.ideas2it.employeemanagement.department.mapper.DepartmentMapper;
 import com.ideas2it.employeemanagement.department.service.DepartmentServiceImpl;
+import com.ideas2it.employeemanagement.employee.dao.EmployeeQueryRepository;
 import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
-import com.ideas2it.employeemanagement.exceptions.ResourceAlreadyExistsException;
+import com.ideas2it.employeemanagement.employee.service.EmployeeHeadcounts;
 import com.ideas2it.employeemanagement.exceptions.ResourceNotFoundException;
 import com.ideas2it.employeemanagement.model.Department;
 import com.ideas2it.employeemanagement.model.Employee;
+import com.ideas2it.employeemanagement.utilities.ResourceVersions;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +18,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -31,6 +35,15 @@ public class DepartmentServiceImplTest {
     @Mock
     private DepartmentRepository departmentRepository;
 
+    @Mock
+    private EmployeeQueryRepository employeeQueryRepository;
+
+    @Mock
+    private ResourceVersions resourceVersions;
+
+    @Mock
+    private EmployeeHeadcounts employeeHeadcounts;
+
     @InjectMocks
     private DepartmentServiceImpl departmentServiceImpl;
 
@@ -60,7 +73,6 @@ public class DepartmentServiceImplTest {
 
     @Test
     void addDepartment_ValidDepartment_ReturnsSportDto() {
-        when(departmentRepository.existsByName(departmentDto.getName())).thenReturn(false);
         when(departmentRepository.save(any(Department.class))).thenReturn(department);
         DepartmentDto createdDepartment = departmentServiceImpl.addDepartment(departmentDto);
         assertNotNull(createdDepartment);
@@ -68,9 +80,10 @@ public class DepartmentServiceImplTest {
     }
 
     @Test
-    void addDepartment_DepartmentAlreadyExists_ThrowsException() {
-        when(departmentRepository.existsByName(departmentDto.getName())).thenReturn(true);
-        assertThrows(ResourceAlreadyExistsException.class, () -> departmentServiceImpl.addDepartment(departmentDto));
+    void addDepartment_DuplicateName_ConstraintViolationPropagated() {
+        when(departmentRepository.save(any(Department.class))).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+        assertThrows(DataIntegrityViolationException.class, () -> departmentServiceImpl.addDepartment(departmentDto));
+        verify(resourceVersions, never()).departmentsChanged();
     }
 
     @Test
@@ -85,15 +98,11 @@ public class DepartmentServiceImplTest {
                 .name("IT")
                 .build();
 
-        Department inactiveDepartment = Department.builder()
-                .id(3)
-                .name("Non-IT")
-                .isDeleted(true)
-                .build();
-
-        List<Department> departments = Arrays.asList(activeDepartment1, activeDepartment2, inactiveDepartment);
-        when(departmentRepository.findAll()).thenReturn(departments);
-        List<DepartmentDto> departmentDtos = departmentServiceImpl.getAllDepartments();
+        List<DepartmentDto> departments = Arrays.asList(DepartmentMapper.mapToDepartmentDto(activeDepartment1),
+                DepartmentMapper.mapToDepartmentDto(activeDepartment2));
+        when(departmentRepository.findActiveDepartmentsAfter(0, PageRequest.of(0, 50))).thenReturn(departments);
+        when(employeeHeadcounts.getDepartmentCount(1)).thenReturn(4L);
+        List<DepartmentDto> departmentDtos = departmentServiceImpl.getAllDepartments(0, 50);
         assertEquals(2, departmentDtos.size());
         DepartmentDto expectedDepartmentDto1 = DepartmentMapper.mapToDepartmentDto(activeDepartment1);
         DepartmentDto actualDepartmentDto1 = departmentDtos.get(0);
@@ -103,11 +112,13 @@ public class DepartmentServiceImplTest {
         assertEquals(expectedDepartmentDto1.getName(), actualDepartmentDto1.getName());
         assertEquals(expectedDepartmentDto2.getId(), actualDepartmentDto2.getId());
         assertEquals(expectedDepartmentDto2.getName(), actualDepartmentDto2.getName());
+        assertEquals(4L, actualDepartmentDto1.getActiveEmployeeCount());
+        assertEquals(0L, actualDepartmentDto2.getActiveEmployeeCount());
     }
 
     @Test
     void getDepartmentById_ValidId_ReturnsDepartmentDto() {
-        when(departmentRepository.findById(1)).thenReturn(Optional.of(department));
+        when(departmentRepository.findActiveDepartmentById(1)).thenReturn(Optional.of(departmentDto));
         DepartmentDto foundDepartment = departmentServiceImpl.getDepartmentById(1);
         assertNotNull(foundDepartment);
         assertEquals(departmentDto.getName(), foundDepartment.getName());
@@ -115,10 +126,34 @@ public class DepartmentServiceImplTest {
 
     @Test
     void getDepartmentById_InvalidId_ThrowsException() {
-        when(departmentRepository.findById(1)).thenReturn(Optional.empty());
+        when(departmentRepository.findActiveDepartmentById(1)).thenReturn(Optional.empty());
+        when(departmentRepository.existsById(1)).thenReturn(false);
         assertThrows(ResourceNotFoundException.class, () -> departmentServiceImpl.getDepartmentById(1));
     }
 
+    @Test
+    void getDepartmentWithEmployeeCount_ValidId_ReturnsDepartmentWithCount() {
+        when(departmentRepository.findActiveDepartmentById(1)).thenReturn(Optional.of(departmentDto));
+        when(employeeHeadcounts.getDepartmentCount(1)).thenReturn(7L);
+        DepartmentDto foundDepartment = departmentServiceImpl.getDepartmentWithEmployeeCount(1);
+        assertEquals(departmentDto.getName(), foundDepartment.getName());
+        assertEquals(7L, foundDepartment.getActiveEmployeeCount());
+    }
+
+    @Test
+    void getActiveEmployeeCount_ValidId_ReadsHeadcount() {
+        when(departmentRepository.existsById(1)).thenReturn(true);
+        when(employeeHeadcounts.getDepartmentCount(1)).thenReturn(7L);
+        assertEquals(7L, departmentServiceImpl.getActiveEmployeeCount(1));
+        verifyNoInteractions(employeeQueryRepository);
+    }
+
+    @Test
+    void getActiveEmployeeCount_InvalidId_ThrowsException() {
+        when(departmentRepository.existsById(1)).thenReturn(false);
+        assertThrows(ResourceNotFoundException.class, () -> departmentServiceImpl.getActiveEmployeeCount(1));
+    }
+
     @Test
     void deleteDepartment_ValidId_DeletesDepartment() {
         when(departmentRepository.findById(1)).thenReturn(Optional.of(department));
@@ -176,40 +211,26 @@ public class DepartmentServiceImplTest {
 
     @Test
     void getEmployeesByDepartmentId_ValidId_ReturnsEmployeeDtos() {
-
-        Department department = Department.builder()
-                .id(1)
-                .name("IT")
-                .build();
-
-        Employee activeEmployee = Employee.builder()
+        EmployeeDto activeEmployeeDto = EmployeeDto.builder()
                 .id(1)
                 .name("kishore")
-                .isActive(true)
-                .dob(LocalDate.of(1992, 2, 2))
-                .department(department)
-                .build();
-
-        Employee inactiveEmployee = Employee.builder()
-                .id(2)
-                .name("John")
                 .dob(LocalDate.of(1992, 2, 2))
-                .isActive(false)
-                .department(department)
+                .departmentID(department.getId())
                 .build();
 
-        department.setEmployees(new HashSet<>(Arrays.asList(activeEmployee, inactiveEmployee)));
-        when(departmentRepository.findById(department.getId())).thenReturn(Optional.of(department));
+        when(departmentRepository.existsById(department.getId())).thenReturn(true);
+        when(employeeQueryRepository.findActiveByDepartmentId(department.getId())).thenReturn(List.of(activeEmployeeDto));
         List<EmployeeDto> employeeDtos = departmentServiceImpl.getEmployeesByDepartmentId(department.getId());
         assertNotNull(employeeDtos);
         assertEquals(1, employeeDtos.size());
-        assertEquals(activeEmployee.getId(), employeeDtos.get(0).getId());
+        assertEquals(activeEmployeeDto.getId(), employeeDtos.get(0).getId());
         assertEquals(department.getId(), employeeDtos.get(0).getDepartmentID());
     }
 
     @Test
     void getEmployeesByDepartmentId_DepartmentNotFound_ThrowsException() {
-        when(departmentRepository.findById(department.getId())).thenReturn(Optional.empty());
+        when(departmentRepository.existsById(department.getId())).thenReturn(false);
         assertThrows(ResourceNotFoundException.class, () -> departmentServiceImpl.getEmployeesByDepartmentId(department.getId()));
+        verify(employeeQueryRepository, never()).findActiveByDepartmentId(anyInt());
     }
 }
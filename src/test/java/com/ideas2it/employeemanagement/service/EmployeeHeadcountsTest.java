@@ -0,0 +1,78 @@
+package com.ideas2it.employeemanagement.service;
+
+import com.ideas2it.employeemanagement.employee.dao.EmployeeQueryRepository;
+import com.ideas2it.employeemanagement.employee.service.EmployeeHeadcounts;
+import com.ideas2it.employeemanagement.utilities.ResourceVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeHeadcountsTest {
+    @Mock
+    private EmployeeQueryRepository employeeQueryRepository;
+
+    @Mock
+    private ResourceVersions resourceVersions;
+
+    @InjectMocks
+    private EmployeeHeadcounts employeeHeadcounts;
+
+    @BeforeEach
+    void setUp() {
+        when(employeeQueryRepository.countActiveByDepartment()).thenReturn(Map.of(1, 3L, 2, 1L));
+        when(employeeQueryRepository.countActiveBySport()).thenReturn(Map.of(5, 2L));
+        employeeHeadcounts.reconcile();
+    }
+
+    @Test
+    void reconcile_SeedsCountsFromDatabase() {
+        assertEquals(3, employeeHeadcounts.getDepartmentCount(1));
+        assertEquals(1, employeeHeadcounts.getDepartmentCount(2));
+        assertEquals(2, employeeHeadcounts.getSportCount(5));
+        assertEquals(0, employeeHeadcounts.getSportCount(6));
+    }
+
+    @Test
+    void departmentChanged_WithoutTransaction_AppliedImmediately() {
+        clearInvocations(resourceVersions);
+        employeeHeadcounts.departmentChanged(1, -1);
+        employeeHeadcounts.departmentChanged(3, 1);
+        assertEquals(2, employeeHeadcounts.getDepartmentCount(1));
+        assertEquals(1, employeeHeadcounts.getDepartmentCount(3));
+        verify(resourceVersions, times(2)).headcountsChanged();
+    }
+
+    @Test
+    void sportChanged_WithoutTransaction_AppliedImmediately() {
+        employeeHeadcounts.sportChanged(5, 2);
+        assertEquals(4, employeeHeadcounts.getSportCount(5));
+    }
+
+    @Test
+    void reconcile_Drift_CorrectedToDatabaseCounts() {
+        employeeHeadcounts.departmentChanged(1, 5);
+        employeeHeadcounts.sportChanged(7, 1);
+        when(employeeQueryRepository.countActiveByDepartment()).thenReturn(Map.of(1, 3L));
+        when(employeeQueryRepository.countActiveBySport()).thenReturn(Map.of(5, 2L));
+        employeeHeadcounts.reconcile();
+        assertEquals(3, employeeHeadcounts.getDepartmentCount(1));
+        assertEquals(0, employeeHeadcounts.getDepartmentCount(2));
+        assertEquals(0, employeeHeadcounts.getSportCount(7));
+    }
+
+    @Test
+    void reconcile_NoDrift_VersionUnchanged() {
+        clearInvocations(resourceVersions);
+        employeeHeadcounts.reconcile();
+        verifyNoInteractions(resourceVersions);
+    }
+}
@@ -0,0 +1,79 @@
+package com.ideas2it.employeemanagement.service;
+
+import com.ideas2it.employeemanagement.employee.dto.EmployeeLocationDto;
+import com.ideas2it.employeemanagement.employee.dto.LocationCountDto;
+import com.ideas2it.employeemanagement.employee.service.EmployeeLocationIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeLocationIndexTest {
+    private EmployeeLocationIndex employeeLocationIndex;
+
+    @BeforeEach
+    void setUp() {
+        employeeLocationIndex = new EmployeeLocationIndex(true);
+        employeeLocationIndex.put(new EmployeeLocationDto(1, "Tamil Nadu", "Chennai"));
+        employeeLocationIndex.put(new EmployeeLocationDto(4, "Tamil Nadu", "chennai"));
+        employeeLocationIndex.put(new EmployeeLocationDto(2, "Tamil Nadu", "Madurai"));
+        employeeLocationIndex.put(new EmployeeLocationDto(3, "Karnataka", "Bengaluru"));
+        employeeLocationIndex.put(new EmployeeLocationDto(5, "Kerala", "Chennai"));
+    }
+
+    @Test
+    void findIds_CityInAnyState_MergedInIdOrder() {
+        assertEquals(List.of(1, 4, 5), employeeLocationIndex.findIds("CHENNAI", null, 0, 10));
+    }
+
+    @Test
+    void findIds_CityAndState_ReadsFromCursor() {
+        assertEquals(List.of(4), employeeLocationIndex.findIds("Chennai", "tamil nadu", 1, 10));
+    }
+
+    @Test
+    void findIds_StopsAtLimit() {
+        assertEquals(List.of(1, 4), employeeLocationIndex.findIds("Chennai", null, 0, 2));
+    }
+
+    @Test
+    void countByCity_WithinState() {
+        List<LocationCountDto> counts = employeeLocationIndex.countByCity("Tamil Nadu");
+        assertEquals(2, counts.size());
+        assertEquals("Chennai", counts.get(0).getCity());
+        assertEquals(2, counts.get(0).getCount());
+        assertEquals("Madurai", counts.get(1).getCity());
+    }
+
+    @Test
+    void countByState_OrderedByState() {
+        List<LocationCountDto> counts = employeeLocationIndex.countByState();
+        assertEquals(List.of("Karnataka", "Kerala", "Tamil Nadu"),
+                counts.stream().map(LocationCountDto::getState).toList());
+        assertEquals(3, counts.get(2).getCount());
+        assertNull(counts.get(2).getCity());
+    }
+
+    @Test
+    void put_MovedEmployee_CountedInNewCityOnly() {
+        employeeLocationIndex.put(new EmployeeLocationDto(2, "Karnataka", "Bengaluru"));
+        assertEquals(List.of(2, 3), employeeLocationIndex.findIds("Bengaluru", "Karnataka", 0, 10));
+        assertEquals(1, employeeLocationIndex.countByCity("Tamil Nadu").size());
+    }
+
+    @Test
+    void remove_Employee_NoLongerFoundOrCounted() {
+        employeeLocationIndex.remove(3);
+        assertTrue(employeeLocationIndex.findIds("Bengaluru", null, 0, 10).isEmpty());
+        assertEquals(2, employeeLocationIndex.countByState().size());
+    }
+
+    @Test
+    void put_Disabled_IndexStaysEmpty() {
+        EmployeeLocationIndex disabledIndex = new EmployeeLocationIndex(false);
+        disabledIndex.put(new EmployeeLocationDto(1, "Tamil Nadu", "Chennai"));
+        assertTrue(disabledIndex.countByState().isEmpty());
+    }
+}
@@ -0,0 +1,94 @@
+package com.ideas2it.employeemanagement.service;
+
+import com.ideas2it.employeemanagement.employee.dao.EmployeeQueryRepository;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeSearchDto;
+import com.ideas2it.employeemanagement.employee.service.EmployeeSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeSearchIndexTest {
+    @Mock
+    private EmployeeQueryRepository employeeQueryRepository;
+
+    @InjectMocks
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        employeeSearchIndex.replaceAll(List.of(
+                new EmployeeSearchDto(1, "Santhosh Kumar", "santhosh@example.com"),
+                new EmployeeSearchDto(2, "Kishore", "kishore@example.com"),
+                new EmployeeSearchDto(3, "Sandeep", "sk@example.com")));
+    }
+
+    @Test
+    void search_NamePrefix_IgnoresCase() {
+        List<EmployeeSearchDto> results = employeeSearchIndex.search("SAN", 10);
+        assertEquals(List.of(3, 1), results.stream().map(EmployeeSearchDto::getId).toList());
+    }
+
+    @Test
+    void search_LaterWordOfName_Matches() {
+        List<EmployeeSearchDto> results = employeeSearchIndex.search("ku", 10);
+        assertEquals(1, results.size());
+        assertEquals(1, results.get(0).getId());
+    }
+
+    @Test
+    void search_EmployeeMatchingSeveralTerms_ReturnedOnce() {
+        List<EmployeeSearchDto> results = employeeSearchIndex.search("k", 10);
+        assertEquals(List.of(2, 1), results.stream().map(EmployeeSearchDto::getId).toList());
+    }
+
+    @Test
+    void search_StopsAtLimit() {
+        assertEquals(1, employeeSearchIndex.search("s", 1).size());
+    }
+
+    @Test
+    void search_BlankQuery_ReturnsNothing() {
+        assertTrue(employeeSearchIndex.search("  ", 10).isEmpty());
+    }
+
+    @Test
+    void put_RenamedEmployee_OldTermsRemoved() {
+        employeeSearchIndex.put(new EmployeeSearchDto(2, "Arun", "arun@example.com"));
+        assertTrue(employeeSearchIndex.search("kis", 10).isEmpty());
+        assertEquals(2, employeeSearchIndex.search("aru", 10).get(0).getId());
+        assertEquals(3, employeeSearchIndex.size());
+    }
+
+    @Test
+    void remove_Employee_NoLongerFound() {
+        employeeSearchIndex.remove(1);
+        assertTrue(employeeSearchIndex.search("santhosh", 10).isEmpty());
+        assertEquals(2, employeeSearchIndex.size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuild_WriteDuringLoad_KeptAfterSwap() {
+        doAnswer(invocation -> {
+            Consumer<EmployeeSearchDto> consumer = invocation.getArgument(0);
+            consumer.accept(new EmployeeSearchDto(1, "Santhosh Kumar", "santhosh@example.com"));
+            employeeSearchIndex.put(new EmployeeSearchDto(4, "Priya", "priya@example.com"));
+            return null;
+        }).when(employeeQueryRepository).findActiveSearchEntries(any(Consumer.class));
+        employeeSearchIndex.rebuild();
+        assertEquals(2, employeeSearchIndex.size());
+        assertEquals(4, employeeSearchIndex.search("pri", 10).get(0).getId());
+        assertTrue(employeeSearchIndex.search("kis", 10).isEmpty());
+    }
+}
@@ -1,30 +1,59 @@
 package com.ideas2it.employeemanagement.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ideas2it.employeemanagement.department.dto.DepartmentDto;
 import com.ideas2it.employeemanagement.department.mapper.DepartmentMapper;
 import com.ideas2it.employeemanagement.department.service.DepartmentService;
+import com.ideas2it.employeemanagement.employee.dao.EmployeeBatchRepository;
+import com.ideas2it.employeemanagement.employee.dao.EmployeeQueryRepository;
 import com.ideas2it.employeemanagement.employee.dao.EmployeeRepository;
+import com.ideas2it.employeemanagement.employee.dao.EmployeeSportRepository;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeAddressFilterDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeAgeFilterDto;
 import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeImportResultDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeSearchDto;
+import com.ideas2it.employeemanagement.employee.dto.EmployeeStatusUpdateRequestDto;
+import com.ideas2it.employeemanagement.employee.dto.LocationCountDto;
+import com.ideas2it.employeemanagement.employee.dto.SportAssignmentDto;
+import com.ideas2it.employeemanagement.employee.dto.SportAssignmentRequestDto;
+import com.ideas2it.employeemanagement.employee.dto.SportAssignmentResultDto;
+import com.ideas2it.employeemanagement.employee.service.EmployeeHeadcounts;
+import com.ideas2it.employeemanagement.employee.service.EmployeeLocationIndex;
+import com.ideas2it.employeemanagement.employee.service.EmployeeSearchIndex;
 import com.ideas2it.employeemanagement.employee.service.EmployeeServiceImpl;
+import com.ideas2it.employeemanagement.exceptions.InvalidPatchException;
 import com.ideas2it.employeemanagement.exceptions.ResourceAlreadyExistsException;
 import com.ideas2it.employeemanagement.exceptions.ResourceNotFoundException;
 import com.ideas2it.employeemanagement.model.Address;
 import com.ideas2it.employeemanagement.model.Employee;
+import com.ideas2it.employeemanagement.report.service.EmployeeColumnStore;
 import com.ideas2it.employeemanagement.sport.dto.SportDto;
-import com.ideas2it.employeemanagement.sport.mapper.SportMapper;
 import com.ideas2it.employeemanagement.sport.service.SportService;
+import com.ideas2it.employeemanagement.utilities.DayClock;
+import com.ideas2it.employeemanagement.utilities.ResourceVersions;
+import com.ideas2it.employeemanagement.utilities.Validator;
+import jakarta.validation.ConstraintViolation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -41,6 +70,36 @@ public class EmployeeServiceImplTest {
     @Mock
     private DepartmentService departmentService;
 
+    @Mock
+    private EmployeeBatchRepository employeeBatchRepository;
+
+    @Mock
+    private EmployeeQueryRepository employeeQueryRepository;
+
+    @Mock
+    private EmployeeSportRepository employeeSportRepository;
+
+    @Mock
+    private jakarta.validation.Validator beanValidator;
+
+    @Mock
+    private ResourceVersions resourceVersions;
+
+    @Mock
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    @Mock
+    private EmployeeLocationIndex employeeLocationIndex;
+
+    @Mock
+    private EmployeeHeadcounts employeeHeadcounts;
+
+    @Mock
+    private EmployeeColumnStore employeeColumnStore;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -87,8 +146,6 @@ public class EmployeeServiceImplTest {
 
     @Test
     void addEmployee_Success() {
-        when(employeeRepository.existsByNameAndDepartmentId(employeeDto.getName(), employeeDto.getDepartmentID()))
-                .thenReturn(false);
         when(departmentService.getDepartmentById(employeeDto.getDepartmentID()))
                 .thenReturn(departmentDto);
         when(employeeRepository.save(any(Employee.class)))
@@ -99,34 +156,93 @@ public class EmployeeServiceImplTest {
         assertEquals(employeeDto.getName(), result.getName());
         assertEquals(employeeDto.getDepartmentID(), result.getDepartmentID());
         verify(employeeRepository, times(1)).save(any(Employee.class));
+        verify(employeeHeadcounts, times(1)).departmentChanged(employeeDto.getDepartmentID(), 1);
     }
 
     @Test
-    void addEmployee_AlreadyExists() {
-        when(employeeRepository.existsByNameAndDepartmentId(employeeDto.getName(), employeeDto.getDepartmentID()))
-                .thenReturn(true);
+    void importEmployees_DuplicateRow_ReportedAndOthersImported() {
+        EmployeeDto duplicateDto = EmployeeDto.builder()
+                .name("Santhosh")
+                .dob(LocalDate.of(1991, 1, 1))
+                .emailId("santhosh2@example.com")
+                .departmentID(departmentDto.getId())
+                .build();
+        when(beanValidator.validate(any(EmployeeDto.class))).thenReturn(Set.of());
+        when(departmentService.getActiveDepartmentIds(Set.of(departmentDto.getId())))
+                .thenReturn(Set.of(departmentDto.getId()));
+        when(employeeRepository.findExistingByNamesOrEmailIds(any(), any())).thenReturn(List.of());
+
+        EmployeeImportResultDto result = employeeService.importEmployees(List.of(employeeDto, duplicateDto));
+        assertEquals(2, result.getTotalCount());
+        assertEquals(1, result.getImportedCount());
+        assertEquals(1, result.getFailures().size());
+        assertEquals(2, result.getFailures().get(0).getRow());
+        verify(employeeBatchRepository, times(1)).insertEmployees(List.of(employeeDto));
+    }
 
-        assertThrows(ResourceAlreadyExistsException.class, () -> employeeService.addEmployee(employeeDto));
-        verify(employeeRepository, never()).save(any(Employee.class));
+    @Test
+    void importEmployees_UnknownDepartment_NothingInserted() {
+        when(beanValidator.validate(any(EmployeeDto.class))).thenReturn(Set.of());
+        when(departmentService.getActiveDepartmentIds(Set.of(departmentDto.getId()))).thenReturn(Set.of());
+        when(employeeRepository.findExistingByNamesOrEmailIds(any(), any())).thenReturn(List.of());
+
+        EmployeeImportResultDto result = employeeService.importEmployees(List.of(employeeDto));
+        assertEquals(0, result.getImportedCount());
+        assertEquals(1, result.getFailures().size());
+        verify(employeeBatchRepository, never()).insertEmployees(any());
     }
 
     @Test
-    void getAllEmployees_ReturnsActiveEmployees() {
-        Employee inactiveEmployee = Employee.builder()
-                .id(2)
-                .name("Dinesh")
-                .isActive(false)
+    void importEmployees_RejectedRow_ReportedWithoutValidation() {
+        EmployeeDto unparseableDto = EmployeeDto.builder()
+                .name("Santhosh")
+                .dob(LocalDate.of(1991, 1, 1))
+                .emailId("santhosh2@example.com")
                 .build();
+        when(beanValidator.validate(any(EmployeeDto.class))).thenReturn(Set.of());
+        when(departmentService.getActiveDepartmentIds(Set.of(departmentDto.getId())))
+                .thenReturn(Set.of(departmentDto.getId()));
+        when(employeeRepository.findExistingByNamesOrEmailIds(any(), any())).thenReturn(List.of());
+
+        EmployeeImportResultDto result = employeeService.importEmployees(List.of(employeeDto, unparseableDto),
+                Map.of(1, "Invalid department ID: Sales"));
+        assertEquals(1, result.getImportedCount());
+        assertEquals(1, result.getFailures().size());
+        assertEquals(2, result.getFailures().get(0).getRow());
+        assertEquals("Invalid department ID: Sales", result.getFailures().get(0).getMessage());
+        verify(beanValidator, never()).validate(unparseableDto);
+        verify(employeeBatchRepository, times(1)).insertEmployees(List.of(employeeDto));
+    }
 
-        when(employeeRepository.findAll()).thenReturn(Arrays.asList(employee, inactiveEmployee));
-        List<EmployeeDto> result = employeeService.getAllEmployees();
+    @Test
+    void getAllEmployees_ReturnsActiveEmployees() {
+        when(employeeQueryRepository.findActiveAfter(0, 50)).thenReturn(Arrays.asList(employeeDto));
+        List<EmployeeDto> result = employeeService.getAllEmployees(0, 50);
         assertEquals(1, result.size());
         assertEquals(employeeDto.getName(), result.get(0).getName());
     }
 
+    @Test
+    void getAllEmployees_LimitAboveMaximum_IsClamped() {
+        when(employeeQueryRepository.findActiveAfter(1, Validator.MAX_PAGE_LIMIT)).thenReturn(List.of());
+        List<EmployeeDto> result = employeeService.getAllEmployees(1, Validator.MAX_PAGE_LIMIT + 1);
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void exportEmployees_ReadsPagesUntilAShortOne() {
+        when(employeeQueryRepository.findActiveAfter(0, 1000)).thenReturn(Collections.nCopies(1000, employeeDto));
+        when(employeeQueryRepository.findActiveAfter(employeeDto.getId(), 1000)).thenReturn(List.of(employeeDto));
+        List<EmployeeDto> exported = new ArrayList<>();
+        int exportedCount = employeeService.exportEmployees(exported::add);
+        assertEquals(1001, exportedCount);
+        assertEquals(1001, exported.size());
+        verify(employeeQueryRepository, times(2)).findActiveAfter(anyInt(), eq(1000));
+    }
+
     @Test
     void getEmployeeById_ValidId_ReturnsEmployee() {
-        when(employeeRepository.findById(employeeDto.getId())).thenReturn(Optional.of(employee));
+        when(employeeQueryRepository.findActiveById(employeeDto.getId())).thenReturn(Optional.of(employeeDto));
         EmployeeDto result = employeeService.getEmployeeById(employeeDto.getId());
         assertNotNull(result);
         assertEquals(employeeDto.getName(), result.getName());
@@ -134,17 +250,85 @@ public class EmployeeServiceImplTest {
 
     @Test
     void getEmployeeById_InvalidId_ThrowsException() {
-        when(employeeRepository.findById(employeeDto.getId())).thenReturn(Optional.empty());
+        when(employeeQueryRepository.findActiveById(employeeDto.getId())).thenReturn(Optional.empty());
+        when(employeeRepository.existsById(employeeDto.getId())).thenReturn(false);
         assertThrows(ResourceNotFoundException.class, () -> employeeService.getEmployeeById(employeeDto.getId()));
     }
 
     @Test
     void getEmployeeById_InactiveEmployee_ThrowsException() {
-        employee.setActive(false);
-        when(employeeRepository.findById(employeeDto.getId())).thenReturn(Optional.of(employee));
+        when(employeeQueryRepository.findActiveById(employeeDto.getId())).thenReturn(Optional.empty());
+        when(employeeRepository.existsById(employeeDto.getId())).thenReturn(true);
         assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployeeById(employeeDto.getId()));
     }
 
+    @Test
+    void searchEmployees_LimitAboveMaximum_IsClampedAndServedFromIndex() {
+        List<EmployeeSearchDto> matches = List.of(new EmployeeSearchDto(1, "Santhosh", "santhosh@example.com"));
+        when(employeeSearchIndex.search("san", Validator.MAX_PAGE_LIMIT)).thenReturn(matches);
+        assertEquals(matches, employeeService.searchEmployees("san", Validator.MAX_PAGE_LIMIT + 1));
+        verifyNoInteractions(employeeQueryRepository);
+    }
+
+    @Test
+    void getEmployeesByAddress_IndexDisabled_QueriesDatabase() {
+        EmployeeAddressFilterDto filter = EmployeeAddressFilterDto.builder().zipPrefix("6000").build();
+        when(employeeQueryRepository.findActiveByAddress(filter, 0, 50)).thenReturn(List.of(employeeDto));
+        assertEquals(List.of(employeeDto), employeeService.getEmployeesByAddress(filter, 0, 50));
+        verify(employeeLocationIndex, never()).findIds(any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void getEmployeesByAddress_IndexEnabled_LoadsIdsFromIndex() {
+        EmployeeAddressFilterDto filter = EmployeeAddressFilterDto.builder().city("Chennai").build();
+        when(employeeLocationIndex.isEnabled()).thenReturn(true);
+        when(employeeLocationIndex.findIds("Chennai", null, 10, 50)).thenReturn(List.of(11, 12));
+        when(employeeQueryRepository.findActiveByIds(List.of(11, 12))).thenReturn(List.of(employeeDto));
+        assertEquals(List.of(employeeDto), employeeService.getEmployeesByAddress(filter, 10, 50));
+        verify(employeeQueryRepository, never()).findActiveByAddress(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void getEmployeesByAge_TranslatesAgesIntoDobRange() {
+        LocalDate today = DayClock.today();
+        EmployeeAgeFilterDto filter = EmployeeAgeFilterDto.builder().minAge(25).maxAge(30).build();
+        when(employeeQueryRepository.findActiveByDobRange(today.minusYears(31), today.minusYears(25), 0, 50))
+                .thenReturn(List.of(employeeDto));
+        assertEquals(List.of(employeeDto), employeeService.getEmployeesByAge(filter, 0, 50));
+    }
+
+    @Test
+    void getUpcomingBirthdays_QueriesBirthdayRangeFromToday() {
+        LocalDate today = DayClock.today();
+        when(employeeQueryRepository.findActiveByBirthdayRange(Validator.birthdayKey(today),
+                Validator.birthdayKey(today.plusDays(7)), 50)).thenReturn(List.of(employeeDto));
+        assertEquals(List.of(employeeDto), employeeService.getUpcomingBirthdays(7, 50));
+    }
+
+    @Test
+    void getUpcomingBirthdays_WholeYear_CoversEveryDay() {
+        LocalDate today = DayClock.today();
+        when(employeeQueryRepository.findActiveByBirthdayRange(Validator.birthdayKey(today),
+                Validator.birthdayKey(today.minusDays(1)), 50)).thenReturn(List.of(employeeDto));
+        assertEquals(List.of(employeeDto), employeeService.getUpcomingBirthdays(1000, 50));
+    }
+
+    @Test
+    void getEmployeeCountsByCity_IndexDisabled_QueriesDatabase() {
+        List<LocationCountDto> counts = List.of(new LocationCountDto("Tamil Nadu", "Chennai", 2));
+        when(employeeQueryRepository.countActiveByCity("Tamil Nadu")).thenReturn(counts);
+        assertEquals(counts, employeeService.getEmployeeCountsByCity("Tamil Nadu"));
+    }
+
+    @Test
+    void getEmployeeCountsByState_IndexEnabled_ServedFromIndex() {
+        List<LocationCountDto> counts = List.of(new LocationCountDto("Tamil Nadu", null, 2));
+        when(employeeLocationIndex.isEnabled()).thenReturn(true);
+        when(employeeLocationIndex.countByState()).thenReturn(counts);
+        assertEquals(counts, employeeService.getEmployeeCountsByState());
+        verifyNoInteractions(employeeQueryRepository);
+    }
+
     @Test
     void updateEmployee_ValidId_ReturnsUpdatedEmployee() {
         when(employeeRepository.findById(employeeDto.getId())).thenReturn(Optional.of(employee));
@@ -156,6 +340,27 @@ public class EmployeeServiceImplTest {
         verify(employeeRepository, times(1)).save(any(Employee.class));
     }
 
+    @Test
+    void updateEmployee_DepartmentChanged_MovesHeadcount() {
+        DepartmentDto newDepartmentDto = DepartmentDto.builder().id(2).name("HR").build();
+        employeeDto.setDepartmentID(2);
+        Employee transferredEmployee = Employee.builder()
+                .id(1)
+                .name("Santhosh")
+                .dob(LocalDate.of(1990, 1, 1))
+                .emailId("santhosh@example.com")
+                .isActive(true)
+                .department(DepartmentMapper.mapToDepartment(newDepartmentDto))
+                .sports(new HashSet<>())
+                .build();
+        when(employeeRepository.findById(employeeDto.getId())).thenReturn(Optional.of(employee));
+        when(departmentService.getDepartmentById(2)).thenReturn(newDepartmentDto);
+        when(employeeRepository.save(any(Employee.class))).thenReturn(transferredEmployee);
+        employeeService.updateEmployee(employeeDto.getId(), employeeDto);
+        verify(employeeHeadcounts, times(1)).departmentChanged(1, -1);
+        verify(employeeHeadcounts, times(1)).departmentChanged(2, 1);
+    }
+
     @Test
     void updateEmployee_InvalidId_ThrowsException() {
         when(employeeRepository.findById(employeeDto.getId())).thenReturn(Optional.empty());
@@ -169,79 +374,221 @@ public class EmployeeServiceImplTest {
         when(employeeRepository.findById(employeeDto.getId())).thenReturn(Optional.of(employee));
         assertThrows(ResourceNotFoundException.class, () -> employeeService.updateEmployee(employeeDto.getId(), employeeDto));
     }
+
     @Test
-    void deleteEmployee_ValidId_DeactivatesEmployee() {
+    void updateEmployee_ValidId_UpdatesAddressInPlace() {
+        Address address = employee.getAddress();
+        employeeDto.setCity("Chennai");
         when(employeeRepository.findById(employeeDto.getId())).thenReturn(Optional.of(employee));
+        when(departmentService.getDepartmentById(employeeDto.getDepartmentID())).thenReturn(departmentDto);
+        when(employeeRepository.save(employee)).thenReturn(employee);
+        employeeService.updateEmployee(employeeDto.getId(), employeeDto);
+        assertSame(address, employee.getAddress());
+        assertEquals("Chennai", address.getCity());
+    }
+
+    @Test
+    void patchEmployee_OnlySuppliedFieldsChanged() throws Exception {
+        Address address = employee.getAddress();
+        JsonNode mergePatch = objectMapper.readTree("{\"city\": \"Chennai\", \"emailId\": \"santhosh@ideas2it.com\"}");
+        when(employeeRepository.findById(1)).thenReturn(Optional.of(employee));
+        when(employeeRepository.save(employee)).thenReturn(employee);
+        EmployeeDto result = employeeService.patchEmployee(1, mergePatch);
+        assertSame(address, employee.getAddress());
+        assertEquals("Chennai", address.getCity());
+        assertEquals("12th Main St", result.getStreet());
+        assertEquals("santhosh@ideas2it.com", employee.getEmailId());
+        assertEquals("Santhosh", employee.getName());
+        verify(beanValidator, times(1)).validateProperty(any(EmployeeDto.class), eq("city"));
+        verify(beanValidator, times(1)).validateProperty(any(EmployeeDto.class), eq("emailId"));
+        verifyNoInteractions(departmentService, employeeHeadcounts);
+        verify(resourceVersions, times(1)).employeeChanged(1);
+    }
+
+    @Test
+    void patchEmployee_DepartmentChanged_MovesHeadcount() throws Exception {
+        DepartmentDto newDepartmentDto = DepartmentDto.builder().id(2).name("HR").build();
+        JsonNode mergePatch = objectMapper.readTree("{\"departmentID\": 2}");
+        when(employeeRepository.findById(1)).thenReturn(Optional.of(employee));
+        when(departmentService.getDepartmentById(2)).thenReturn(newDepartmentDto);
+        when(employeeRepository.save(employee)).thenReturn(employee);
+        employeeService.patchEmployee(1, mergePatch);
+        assertEquals(2, employee.getDepartment().getId());
+        verify(employeeHeadcounts, times(1)).departmentChanged(1, -1);
+        verify(employeeHeadcounts, times(1)).departmentChanged(2, 1);
+    }
+
+    @Test
+    void patchEmployee_InvalidValue_ThrowsInvalidPatch() throws Exception {
+        @SuppressWarnings("unchecked")
+        ConstraintViolation<EmployeeDto> violation = mock(ConstraintViolation.class);
+        when(violation.getMessage()).thenReturn("Name is Required");
+        JsonNode mergePatch = objectMapper.readTree("{\"name\": null}");
+        when(employeeRepository.findById(1)).thenReturn(Optional.of(employee));
+        when(beanValidator.validateProperty(any(EmployeeDto.class), eq("name"))).thenReturn(Set.of(violation));
+        InvalidPatchException e = assertThrows(InvalidPatchException.class,
+                () -> employeeService.patchEmployee(1, mergePatch));
+        assertEquals("Name is Required", e.getFieldErrors().get("name"));
+        assertEquals("Santhosh", employee.getName());
+        verify(employeeRepository, never()).save(any(Employee.class));
+    }
+
+    @Test
+    void patchEmployee_MalformedValue_ThrowsInvalidPatch() throws Exception {
+        JsonNode mergePatch = objectMapper.readTree("{\"dob\": \"yesterday\"}");
+        when(employeeRepository.findById(1)).thenReturn(Optional.of(employee));
+        InvalidPatchException e = assertThrows(InvalidPatchException.class,
+                () -> employeeService.patchEmployee(1, mergePatch));
+        assertTrue(e.getFieldErrors().containsKey("dob"));
+    }
+
+    @Test
+    void patchEmployee_InactiveEmployee_ThrowsException() throws Exception {
+        employee.setActive(false);
+        JsonNode mergePatch = objectMapper.readTree("{\"city\": \"Chennai\"}");
+        when(employeeRepository.findById(1)).thenReturn(Optional.of(employee));
+        assertThrows(ResourceNotFoundException.class, () -> employeeService.patchEmployee(1, mergePatch));
+    }
+
+    @Test
+    void deleteEmployee_ValidId_DeactivatesEmployee() {
+        when(employeeRepository.updateActiveByIds(List.of(employeeDto.getId()), false)).thenReturn(1);
+        when(employeeRepository.findDepartmentIdById(employeeDto.getId())).thenReturn(Optional.of(1));
+        when(employeeSportRepository.findSportIds(employeeDto.getId())).thenReturn(List.of(2, 3));
+        employeeService.deleteEmployee(employeeDto.getId());
+        verify(employeeRepository, never()).save(any(Employee.class));
+        verify(employeeSearchIndex, times(1)).remove(employeeDto.getId());
+        verify(employeeLocationIndex, times(1)).remove(employeeDto.getId());
+        verify(employeeHeadcounts, times(1)).departmentChanged(1, -1);
+        verify(employeeHeadcounts, times(1)).sportChanged(2, -1);
+        verify(employeeHeadcounts, times(1)).sportChanged(3, -1);
+        verify(employeeColumnStore, times(1)).remove(employeeDto.getId());
+    }
+
+    @Test
+    void deleteEmployee_AlreadyInactive_HeadcountsUnchanged() {
+        when(employeeRepository.updateActiveByIds(List.of(employeeDto.getId()), false)).thenReturn(0);
+        when(employeeRepository.existsById(employeeDto.getId())).thenReturn(true);
         employeeService.deleteEmployee(employeeDto.getId());
-        assertFalse(employee.isActive());
-        verify(employeeRepository, times(1)).save(employee);
+        verifyNoInteractions(employeeHeadcounts);
     }
 
     @Test
     void deleteEmployee_InvalidId_ThrowsException() {
-        when(employeeRepository.findById(employeeDto.getId())).thenReturn(Optional.empty());
+        when(employeeRepository.updateActiveByIds(List.of(employeeDto.getId()), false)).thenReturn(0);
+        when(employeeRepository.existsById(employeeDto.getId())).thenReturn(false);
         assertThrows(ResourceNotFoundException.class, () -> employeeService.deleteEmployee(employeeDto.getId()));
         verify(employeeRepository, never()).save(any(Employee.class));
     }
 
+    @Test
+    void deactivateEmployees_ByIds_ReturnsAffectedCount() {
+        EmployeeStatusUpdateRequestDto request = EmployeeStatusUpdateRequestDto.builder().ids(List.of(1, 2, 3)).build();
+        when(employeeRepository.updateActiveByIds(List.of(1, 2, 3), false)).thenReturn(2);
+        assertEquals(2, employeeService.deactivateEmployees(request).getAffectedCount());
+        verify(employeeRepository, never()).updateActiveByFilter(any(), any(), anyBoolean());
+    }
+
+    @Test
+    void reactivateEmployees_ByDepartmentAndCity_ReturnsAffectedCount() {
+        EmployeeStatusUpdateRequestDto request = EmployeeStatusUpdateRequestDto.builder()
+                .departmentId(1)
+                .city("Tambaram")
+                .build();
+        when(employeeRepository.updateActiveByFilter(1, "Tambaram", true)).thenReturn(5);
+        assertEquals(5, employeeService.reactivateEmployees(request).getAffectedCount());
+    }
+
     @Test
     void addSportToEmployee_ValidEmployeeAndSport_AddsSport() {
         SportDto sportDto = SportDto.builder().id(1).name("Basketball").build();
-        when(employeeRepository.findById(employeeDto.getId())).thenReturn(Optional.of(employee));
         when(sportService.getSportById(sportDto.getId())).thenReturn(sportDto);
-        when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
+        when(employeeQueryRepository.findActiveById(employeeDto.getId())).thenReturn(Optional.of(employeeDto));
         EmployeeDto result = employeeService.addSportToEmployee(employeeDto.getId(), sportDto.getId());
         assertNotNull(result);
-        verify(employeeRepository, times(1)).save(any(Employee.class));
+        verify(employeeSportRepository, times(1)).insert(employeeDto.getId(), sportDto.getId());
+        verify(employeeRepository, never()).save(any(Employee.class));
+        verify(employeeHeadcounts, times(1)).sportChanged(sportDto.getId(), 1);
+        verify(employeeColumnStore, times(1)).sportAssigned(employeeDto.getId(), sportDto.getId());
     }
 
     @Test
     void addSportToEmployee_AlreadyAssigned_ThrowsException() {
         SportDto sportDto = SportDto.builder().id(1).name("Basketball").build();
-        employee.getSports().add(SportMapper.mapToSport(sportDto));
-        when(employeeRepository.findById(employeeDto.getId())).thenReturn(Optional.of(employee));
         when(sportService.getSportById(sportDto.getId())).thenReturn(sportDto);
+        doThrow(new DuplicateKeyException("uk_employee_sport"))
+                .when(employeeSportRepository).insert(employeeDto.getId(), sportDto.getId());
         assertThrows(ResourceAlreadyExistsException.class, () -> employeeService.addSportToEmployee(employeeDto.getId(), sportDto.getId()));
-        verify(employeeRepository, never()).save(any(Employee.class));
     }
 
     @Test
     void addSportToEmployee_InvalidEmployee_ThrowsException() {
-        when(employeeRepository.findById(employeeDto.getId())).thenReturn(Optional.empty());
+        SportDto sportDto = SportDto.builder().id(1).name("Basketball").build();
+        when(sportService.getSportById(sportDto.getId())).thenReturn(sportDto);
+        doThrow(new DataIntegrityViolationException("fk_employee"))
+                .when(employeeSportRepository).insert(employeeDto.getId(), sportDto.getId());
         assertThrows(ResourceNotFoundException.class, () -> employeeService.addSportToEmployee(employeeDto.getId(), 1));
-        verify(employeeRepository, never()).save(any(Employee.class));
     }
+
+    @Test
+    void addSportsToEmployees_MixedPairs_ReportsEachOutcomeAndInsertsNewOnesOnce() {
+        SportAssignmentRequestDto request = SportAssignmentRequestDto.builder()
+                .assignments(List.of(new SportAssignmentDto(1, 1), new SportAssignmentDto(1, 1),
+                        new SportAssignmentDto(2, 1), new SportAssignmentDto(1, 9)))
+                .sportId(2)
+                .employeeIds(List.of(1))
+                .build();
+        when(employeeRepository.findActiveEmployeeIds(Set.of(1, 2))).thenReturn(List.of(1));
+        when(sportService.getActiveSportIds(Set.of(1, 2, 9))).thenReturn(Set.of(1, 2));
+        when(employeeSportRepository.findExisting(Set.of(1, 2), Set.of(1, 2, 9)))
+                .thenReturn(List.of(new SportAssignmentDto(1, 2)));
+
+        List<SportAssignmentResultDto> results = employeeService.addSportsToEmployees(request);
+
+        assertEquals(5, results.size());
+        assertEquals(SportAssignmentResultDto.Status.ASSIGNED, results.get(0).getStatus());
+        assertEquals(SportAssignmentResultDto.Status.ALREADY_ASSIGNED, results.get(1).getStatus());
+        assertEquals(SportAssignmentResultDto.Status.EMPLOYEE_NOT_FOUND, results.get(2).getStatus());
+        assertEquals(SportAssignmentResultDto.Status.SPORT_NOT_FOUND, results.get(3).getStatus());
+        assertEquals(SportAssignmentResultDto.Status.ALREADY_ASSIGNED, results.get(4).getStatus());
+        verify(employeeSportRepository, times(1)).insertAll(argThat(pairs -> pairs.size() == 1
+                && pairs.get(0).getEmployeeId() == 1 && pairs.get(0).getSportId() == 1));
+        verify(employeeHeadcounts, times(1)).sportChanged(1, 1L);
+        verify(employeeColumnStore, times(1)).sportAssigned(1, 1);
+    }
+
+    @Test
+    void addSportsToEmployees_EmptyRequest_QueriesNothing() {
+        List<SportAssignmentResultDto> results = employeeService.addSportsToEmployees(new SportAssignmentRequestDto());
+        assertTrue(results.isEmpty());
+        verifyNoInteractions(employeeRepository, sportService, employeeSportRepository);
+    }
+
     @Test
     void removeSportFromEmployee_ValidEmployeeAndSport_RemovesSport() {
         SportDto sportDto = SportDto.builder().id(1).name("Basketball").build();
-        employee.getSports().add(SportMapper.mapToSport(sportDto));
-        when(employeeRepository.findById(employeeDto.getId())).thenReturn(Optional.of(employee));
         when(sportService.getSportById(sportDto.getId())).thenReturn(sportDto);
-        when(employeeRepository.save(any(Employee.class))).thenReturn(employee);
+        when(employeeSportRepository.delete(employeeDto.getId(), sportDto.getId())).thenReturn(true);
+        when(employeeQueryRepository.findActiveById(employeeDto.getId())).thenReturn(Optional.of(employeeDto));
         EmployeeDto result = employeeService.removeSportFromEmployee(employeeDto.getId(), sportDto.getId());
         assertNotNull(result);
-        assertTrue(employee.getSports().isEmpty());
-        verify(employeeRepository, times(1)).save(employee);
+        verify(employeeRepository, never()).save(any(Employee.class));
     }
 
     @Test
     void removeSportFromEmployee_InvalidEmployee_ThrowsException() {
-        when(employeeRepository.findById(employeeDto.getId())).thenReturn(Optional.empty());
+        SportDto sportDto = SportDto.builder().id(1).name("Basketball").build();
+        when(sportService.getSportById(sportDto.getId())).thenReturn(sportDto);
+        when(employeeQueryRepository.findActiveById(employeeDto.getId())).thenReturn(Optional.empty());
         assertThrows(ResourceNotFoundException.class, () -> employeeService.removeSportFromEmployee(employeeDto.getId(), 1));
-        verify(employeeRepository, never()).save(any(Employee.class));
     }
 
     @Test
     void removeSportFromEmployee_SportNotAssigned_ThrowsException() {
         SportDto sportDto = SportDto.builder().id(1).name("Basketball").build();
-        when(employeeRepository.findById(employeeDto.getId())).thenReturn(Optional.of(employee));
         when(sportService.getSportById(sportDto.getId())).thenReturn(sportDto);
+        when(employeeSportRepository.delete(employeeDto.getId(), sportDto.getId())).thenReturn(false);
+        when(employeeQueryRepository.findActiveById(employeeDto.getId())).thenReturn(Optional.of(employeeDto));
         assertThrows(ResourceNotFoundException.class, () -> employeeService.removeSportFromEmployee(employeeDto.getId(), sportDto.getId()));
-        verify(employeeRepository, never()).save(any(Employee.class));
     }
 }
-
-
-
-
-
@@ -0,0 +1,135 @@
+package com.ideas2it.employeemanagement.service;
+
+import com.ideas2it.employeemanagement.employee.dto.EmployeeFactsDto;
+import com.ideas2it.employeemanagement.report.dto.AgeBucketDto;
+import com.ideas2it.employeemanagement.report.dto.SportParticipationDto;
+import com.ideas2it.employeemanagement.report.service.EmployeeColumnStore;
+import com.ideas2it.employeemanagement.report.service.ReportServiceImpl;
+import com.ideas2it.employeemanagement.utilities.DayClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ReportServiceImplTest {
+    @Spy
+    private EmployeeColumnStore employeeColumnStore = new EmployeeColumnStore();
+
+    @InjectMocks
+    private ReportServiceImpl reportService;
+
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        today = DayClock.today();
+        employeeColumnStore.put(new EmployeeFactsDto(1, 10, today.minusYears(25), "Tamil Nadu", "Chennai"));
+        employeeColumnStore.put(new EmployeeFactsDto(2, 10, today.minusYears(31), "Tamil Nadu", "chennai"));
+        employeeColumnStore.put(new EmployeeFactsDto(3, 20, today.minusYears(29), "Tamil Nadu", "Madurai"));
+        employeeColumnStore.put(new EmployeeFactsDto(4, 20, today.minusYears(30).plusDays(1), "Karnataka", "Bengaluru"));
+        employeeColumnStore.sportAssigned(1, 7);
+        employeeColumnStore.sportAssigned(2, 7);
+        employeeColumnStore.sportAssigned(2, 8);
+        employeeColumnStore.sportAssigned(4, 8);
+    }
+
+    @Test
+    void getAgeDistribution_GroupsByDepartmentAndBucket() {
+        List<AgeBucketDto> ageBuckets = reportService.getAgeDistribution(null, 10);
+        assertEquals(3, ageBuckets.size());
+        assertBucket(ageBuckets.get(0), 10, 20, 1);
+        assertBucket(ageBuckets.get(1), 10, 30, 1);
+        assertBucket(ageBuckets.get(2), 20, 20, 2);
+        assertEquals(29, ageBuckets.get(2).getToAge());
+    }
+
+    @Test
+    void getAgeDistribution_SingleDepartment() {
+        List<AgeBucketDto> ageBuckets = reportService.getAgeDistribution(20, 5);
+        assertEquals(1, ageBuckets.size());
+        assertBucket(ageBuckets.get(0), 20, 25, 2);
+    }
+
+    @Test
+    void getAgeDistribution_UnknownDepartment_ReturnsNothing() {
+        assertTrue(reportService.getAgeDistribution(99, 10).isEmpty());
+    }
+
+    @Test
+    void getSportParticipation_RatePerCity() {
+        List<SportParticipationDto> participation = reportService.getSportParticipation("tamil nadu", null);
+        assertEquals(2, participation.size());
+        assertEquals("Chennai", participation.get(0).getCity());
+        assertEquals(7, participation.get(0).getSportId());
+        assertEquals(2, participation.get(0).getParticipantCount());
+        assertEquals(2, participation.get(0).getEmployeeCount());
+        assertEquals(1.0, participation.get(0).getParticipationRate());
+        assertEquals(8, participation.get(1).getSportId());
+        assertEquals(0.5, participation.get(1).getParticipationRate());
+    }
+
+    @Test
+    void getSportParticipation_RemovedEmployee_NoLongerCounted() {
+        employeeColumnStore.remove(2);
+        List<SportParticipationDto> participation = reportService.getSportParticipation(null, 8);
+        assertEquals(1, participation.size());
+        assertEquals("Bengaluru", participation.get(0).getCity());
+    }
+
+    @Test
+    void getSportParticipation_SportUnassigned_NoLongerCounted() {
+        employeeColumnStore.sportUnassigned(1, 7);
+        List<SportParticipationDto> participation = reportService.getSportParticipation(null, 7);
+        assertEquals(1, participation.get(0).getParticipantCount());
+        assertEquals(0.5, participation.get(0).getParticipationRate());
+    }
+
+    @Test
+    void getSportParticipation_ManyRows_ParallelScanCountsEveryRow() {
+        for (int id = 100; id < 100 + 3 * ReportServiceImpl.SCAN_THRESHOLD; id++) {
+            employeeColumnStore.put(new EmployeeFactsDto(id, 30, today.minusYears(40), "Kerala", "Kochi"));
+            if (id % 3 == 0) {
+                employeeColumnStore.sportAssigned(id, 9);
+            }
+        }
+        List<SportParticipationDto> participation = reportService.getSportParticipation("Kerala", 9);
+        assertEquals(ReportServiceImpl.SCAN_THRESHOLD, participation.get(0).getParticipantCount());
+        assertEquals(3L * ReportServiceImpl.SCAN_THRESHOLD, participation.get(0).getEmployeeCount());
+    }
+
+    @Test
+    void getSportParticipation_EmployeeBelowLastId_InsertedWithoutRebuild() {
+        for (int id = 100; id < 300; id++) {
+            employeeColumnStore.put(new EmployeeFactsDto(id, 30, today.minusYears(40), "Kerala", "Kochi"));
+            if (id % 2 == 0) {
+                employeeColumnStore.sportAssigned(id, 9);
+            }
+        }
+        employeeColumnStore.put(new EmployeeFactsDto(50, 30, today.minusYears(40), "Kerala", "Kochi"));
+        employeeColumnStore.sportAssigned(50, 9);
+        employeeColumnStore.remove(100);
+        employeeColumnStore.sportUnassigned(298, 9);
+
+        List<SportParticipationDto> kerala = reportService.getSportParticipation("Kerala", 9);
+        assertEquals(99, kerala.get(0).getParticipantCount());
+        assertEquals(200, kerala.get(0).getEmployeeCount());
+        assertEquals(2, reportService.getSportParticipation("Tamil Nadu", 7).get(0).getParticipantCount());
+        verify(employeeColumnStore, never()).rebuildAsync();
+    }
+
+    private static void assertBucket(AgeBucketDto ageBucket, int departmentId, int fromAge, long count) {
+        assertEquals(departmentId, ageBucket.getDepartmentId());
+        assertEquals(fromAge, ageBucket.getFromAge());
+        assertEquals(count, ageBucket.getCount());
+    }
+}
@@ -1,8 +1,9 @@
 package com.ideas2it.employeemanagement.service;
 
+import com.ideas2it.employeemanagement.employee.dao.EmployeeQueryRepository;
+import com.ideas2it.employeemanagement.employee.service.EmployeeHeadcounts;
 import com.ideas2it.employeemanagement.employee.dto.EmployeeDto;
 import com.ideas2it.employeemanagement.employee.mapper.EmployeeMapper;
-import com.ideas2it.employeemanagement.exceptions.ResourceAlreadyExistsException;
 import com.ideas2it.employeemanagement.exceptions.ResourceNotFoundException;
 import com.ideas2it.employeemanagement.model.Address;
 import com.ideas2it.employeemanagement.model.Department;
@@ -12,6 +13,7 @@ import com.ideas2it.employeemanagement.sport.dao.SportRepository;
 import com.ideas2it.employeemanagement.sport.dto.SportDto;
 import com.ideas2it.employeemanagement.sport.mapper.SportMapper;
 import com.ideas2it.employeemanagement.sport.service.SportServiceImpl;
+import com.ideas2it.employeemanagement.utilities.ResourceVersions;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,6 +23,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -38,6 +42,15 @@ public class SportServiceImplTest {
     @Mock
     private SportRepository sportRepository;
 
+    @Mock
+    private ResourceVersions resourceVersions;
+
+    @Mock
+    private EmployeeQueryRepository employeeQueryRepository;
+
+    @Mock
+    private EmployeeHeadcounts employeeHeadcounts;
+
     @Spy
     @InjectMocks
     private SportServiceImpl sportService;
@@ -61,7 +74,6 @@ public class SportServiceImplTest {
 
     @Test
     void addSport_ValidSport_ReturnsSportDto() {
-        when(sportRepository.existsByName(sportDto.getName())).thenReturn(false);
         when(sportRepository.save(any(Sport.class))).thenReturn(sport);
         SportDto createdSport = sportService.addSport(sportDto);
         assertNotNull(createdSport);
@@ -69,15 +81,15 @@ public class SportServiceImplTest {
     }
 
     @Test
-    void addSport_SportAlreadyExists_ThrowsException() {
-        when(sportRepository.existsByName(sportDto.getName())).thenReturn(true);
-        assertThrows(ResourceAlreadyExistsException.class, () -> sportService.addSport(sportDto));
-
+    void addSport_DuplicateName_ConstraintViolationPropagated() {
+        when(sportRepository.save(any(Sport.class))).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+        assertThrows(DataIntegrityViolationException.class, () -> sportService.addSport(sportDto));
+        verify(resourceVersions, never()).sportsChanged();
     }
 
     @Test
     void getSportById_ValidId_ReturnsSportDto() {
-        when(sportRepository.findById(1)).thenReturn(Optional.of(sport));
+        when(sportRepository.findActiveSportById(1)).thenReturn(Optional.of(sportDto));
         SportDto foundSport = sportService.getSportById(1);
         assertNotNull(foundSport);
         assertEquals(sportDto.getName(), foundSport.getName());
@@ -85,11 +97,27 @@ public class SportServiceImplTest {
 
     @Test
     void getSportById_InvalidId_ThrowsException() {
-        when(sportRepository.findById(1)).thenReturn(Optional.empty());
+        when(sportRepository.findActiveSportById(1)).thenReturn(Optional.empty());
+        when(sportRepository.existsById(1)).thenReturn(false);
         assertThrows(ResourceNotFoundException.class, () -> sportService.getSportById(1));
 
     }
 
+    @Test
+    void getSportWithEmployeeCount_ValidId_ReturnsSportWithCount() {
+        when(sportRepository.findActiveSportById(1)).thenReturn(Optional.of(sportDto));
+        when(employeeHeadcounts.getSportCount(1)).thenReturn(9L);
+        SportDto foundSport = sportService.getSportWithEmployeeCount(1);
+        assertEquals(sportDto.getName(), foundSport.getName());
+        assertEquals(9L, foundSport.getActiveEmployeeCount());
+    }
+
+    @Test
+    void getActiveEmployeeCount_InvalidId_ThrowsException() {
+        when(sportRepository.existsById(1)).thenReturn(false);
+        assertThrows(ResourceNotFoundException.class, () -> sportService.getActiveEmployeeCount(1));
+    }
+
     @Test
     void deleteSport_ValidId_DeletesSport() {
         when(sportRepository.findById(1)).thenReturn(Optional.of(sport));
@@ -163,15 +191,12 @@ public class SportServiceImplTest {
                 .isActive(true)
                 .build();
 
-        Sport inactiveSport = Sport.builder()
-                .id(3)
-                .name("Football")
-                .isActive(false)
-                .build();
-
-        List<Sport> sports = Arrays.asList(activeSport1, activeSport2, inactiveSport);
-        when(sportRepository.findAll()).thenReturn(sports);
-        List<SportDto> sportDtos = sportService.getAllSports();
+        List<SportDto> sports = Arrays.asList(SportMapper.mapToSportDto(activeSport1),
+                SportMapper.mapToSportDto(activeSport2));
+        when(sportRepository.findActiveSportsAfter(0, PageRequest.of(0, 50))).thenReturn(sports);
+        when(employeeHeadcounts.getSportCount(1)).thenReturn(3L);
+        when(employeeHeadcounts.getSportCount(2)).thenReturn(5L);
+        List<SportDto> sportDtos = sportService.getAllSports(0, 50);
         assertEquals(2, sportDtos.size());
         SportDto expectedSportDto1 = SportMapper.mapToSportDto(activeSport1);
         SportDto actualSportDto1 = sportDtos.get(0);
@@ -181,6 +206,8 @@ public class SportServiceImplTest {
         assertEquals(expectedSportDto1.getName(), actualSportDto1.getName());
         assertEquals(expectedSportDto2.getId(), actualSportDto2.getId());
         assertEquals(expectedSportDto2.getName(), actualSportDto2.getName());
+        assertEquals(3L, actualSportDto1.getActiveEmployeeCount());
+        assertEquals(5L, actualSportDto2.getActiveEmployeeCount());
     }
 
     @Test
@@ -228,20 +255,9 @@ public class SportServiceImplTest {
                 .department(department2)
                 .build();
 
-        Employee inactiveEmployee = Employee.builder()
-                .id(3)
-                .name("Pari")
-                .dob(LocalDate.of(1985, 3, 3))
-                .emailId("Pari@gmail.com")
-                .isActive(false)
-                .address(address1)
-                .department(department1)
-                .build();
-
-
-        Set<Employee> employees = new HashSet<>(Arrays.asList(activeEmployee1, activeEmployee2, inactiveEmployee));
-        sport.setEmployees(employees);
-        when(sportRepository.findById(sport.getId())).thenReturn(Optional.of(sport));
+        when(sportRepository.existsById(sport.getId())).thenReturn(true);
+        when(employeeQueryRepository.findActiveBySportId(sport.getId())).thenReturn(List.of(
+                EmployeeMapper.mapToEmployeeDto(activeEmployee1), EmployeeMapper.mapToEmployeeDto(activeEmployee2)));
         List<EmployeeDto> employeeDtos = sportService.getEmployeesBySportId(sport.getId());
         assertEquals(2, employeeDtos.size());
         EmployeeDto expectedEmployeeDto1 = EmployeeMapper.mapToEmployeeDto(activeEmployee1);
@@ -0,0 +1,25 @@
+package com.ideas2it.employeemanagement.statements;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Fails the test if it executes more JDBC statements than {@link #value()}. The statements
+ * run by {@code @BeforeEach} and {@code @AfterEach} methods are not counted. The DataSource
+ * must be wrapped in a {@link StatementCountingDataSource}, which a Spring test slice gets by
+ * importing {@link StatementCountConfiguration}.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(StatementBudgetExtension.class)
+public @interface StatementBudget {
+
+    /**
+     * @return The most statements the test may execute.
+     */
+    int value();
+}
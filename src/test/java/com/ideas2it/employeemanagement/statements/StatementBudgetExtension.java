@@ -0,0 +1,33 @@
+package com.ideas2it.employeemanagement.statements;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Counts the statements a test method executes on its own thread and fails it when the count
+ * goes over the {@link StatementBudget} of the method, or of its class if the method has none.
+ */
+public class StatementBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        StatementCounts.start();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        StatementCounts.Tally tally = StatementCounts.stop();
+        int budget = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), StatementBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), StatementBudget.class))
+                .map(StatementBudget::value)
+                .orElse(Integer.MAX_VALUE);
+        if (context.getExecutionException().isEmpty() && tally.getCount() > budget) {
+            fail(context.getDisplayName() + " executed " + tally.getCount()
+                    + " statements, over its budget of " + budget);
+        }
+    }
+}
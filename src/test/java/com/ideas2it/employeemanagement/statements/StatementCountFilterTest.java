@@ -0,0 +1,45 @@
+package com.ideas2it.employeemanagement.statements;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StatementCountFilterTest {
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employees/1");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private final FilterChain twoStatements = (request, response) -> {
+        StatementCounts.record(TimeUnit.MILLISECONDS.toNanos(3));
+        StatementCounts.record(TimeUnit.MILLISECONDS.toNanos(4));
+        response.getWriter().write("{}");
+    };
+
+    @Test
+    void doFilter_HeadersEnabled_AddsCountAndTime() throws Exception {
+        new StatementCountFilter(true, 25).doFilter(request, response, twoStatements);
+        assertEquals("2", response.getHeader(StatementCountFilter.COUNT_HEADER));
+        assertEquals("7", response.getHeader(StatementCountFilter.TIME_HEADER));
+        assertEquals("{}", response.getContentAsString());
+        assertNull(StatementCounts.stop());
+    }
+
+    @Test
+    void doFilter_NoBody_AddsHeadersAfterHandler() throws Exception {
+        new StatementCountFilter(true, 25).doFilter(request, response,
+                (request, response) -> StatementCounts.record(1));
+        assertEquals("1", response.getHeader(StatementCountFilter.COUNT_HEADER));
+    }
+
+    @Test
+    void doFilter_HeadersDisabled_AddsNoHeaders() throws Exception {
+        new StatementCountFilter(false, 1).doFilter(request, response, twoStatements);
+        assertNull(response.getHeader(StatementCountFilter.COUNT_HEADER));
+        assertNull(response.getHeader(StatementCountFilter.TIME_HEADER));
+        assertNull(StatementCounts.stop());
+    }
+}
@@ -0,0 +1,82 @@
+package com.ideas2it.employeemanagement.statements;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StatementCountingDataSourceTest {
+    private StatementCountingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:statements;DB_CLOSE_DELAY=-1");
+        dataSource = new StatementCountingDataSource(h2);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists sport (id int primary key, name varchar(50))");
+            statement.execute("delete from sport");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        StatementCounts.stop();
+    }
+
+    @Test
+    void execute_CountsEveryStatementAndBatchOnce() throws SQLException {
+        StatementCounts.Tally tally = StatementCounts.start();
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement insert = connection.prepareStatement("insert into sport values (?, ?)")) {
+                for (int id = 1; id <= 3; id++) {
+                    insert.setInt(1, id);
+                    insert.setString(2, "Sport " + id);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            try (PreparedStatement select = connection.prepareStatement("select name from sport where id = ?")) {
+                select.setInt(1, 2);
+                select.executeQuery().close();
+                select.setInt(1, 3);
+                select.executeQuery().close();
+            }
+        }
+        assertSame(tally, StatementCounts.stop());
+        assertEquals(3, tally.getCount());
+        assertTrue(tally.getNanos() > 0);
+    }
+
+    @Test
+    void execute_NoTallyOpen_CountsNothing() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeQuery("select count(*) from sport").close();
+        }
+        assertNull(StatementCounts.stop());
+    }
+
+    @Test
+    @StatementBudget(2)
+    void statementBudget_WithinBudget_Passes() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("insert into sport values (1, 'Chess')");
+            statement.executeQuery("select name from sport").close();
+        }
+    }
+
+    @Test
+    void unwrap_ReachesTheTargetDataSource() throws SQLException {
+        assertInstanceOf(JdbcDataSource.class, dataSource.unwrap(JdbcDataSource.class));
+    }
+}
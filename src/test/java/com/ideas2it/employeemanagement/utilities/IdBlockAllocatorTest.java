@@ -0,0 +1,69 @@
+package com.ideas2it.employeemanagement.utilities;
+
+import com.ideas2it.employeemanagement.model.BlockTableGenerator;
+import com.ideas2it.employeemanagement.model.Department;
+import com.ideas2it.employeemanagement.model.Sport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mixes Hibernate inserts with blocks reserved through {@link IdBlockAllocator},
+ * which share the same {@code id_block} rows, and checks that no ID is handed out twice.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.employeemanagement.id.block-size=3"
+})
+@Import(IdBlockAllocator.class)
+public class IdBlockAllocatorTest {
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private IdBlockAllocator idBlockAllocator;
+
+    @Test
+    void reserve_BetweenHibernateInserts_IdsDoNotOverlap() {
+        Set<Integer> ids = new HashSet<>();
+        ids.add(persistDepartment("HR").getId());
+
+        int first = idBlockAllocator.reserve(BlockTableGenerator.DEPARTMENT_SEGMENT, 5);
+        for (int id = first; id < first + 5; id++) {
+            assertTrue(ids.add(id), "reserved ID " + id + " was already used");
+        }
+        for (String name : new String[] {"IT", "Sales", "Finance", "Legal"}) {
+            int id = persistDepartment(name).getId();
+            assertTrue(ids.add(id), "Hibernate ID " + id + " was already used");
+        }
+
+        int next = idBlockAllocator.reserve(BlockTableGenerator.DEPARTMENT_SEGMENT, 2);
+        assertTrue(ids.add(next), "reserved ID " + next + " was already used");
+        assertTrue(ids.add(next + 1), "reserved ID " + (next + 1) + " was already used");
+    }
+
+    @Test
+    void reserve_MissingSegment_StartsAtOneAndHibernateContinuesAfterIt() {
+        assertEquals(1, idBlockAllocator.reserve(BlockTableGenerator.SPORT_SEGMENT, 4));
+        Sport sport = testEntityManager.persist(Sport.builder()
+                .name("Chess")
+                .isActive(true)
+                .employees(new HashSet<>())
+                .build());
+        assertEquals(5, sport.getId());
+    }
+
+    private Department persistDepartment(String name) {
+        return testEntityManager.persist(Department.builder()
+                .name(name)
+                .employees(new HashSet<>())
+                .build());
+    }
+}
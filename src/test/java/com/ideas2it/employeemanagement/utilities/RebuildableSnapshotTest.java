@@ -0,0 +1,78 @@
+package com.ideas2it.employeemanagement.utilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RebuildableSnapshotTest {
+    private final Ids ids = new Ids();
+
+    @AfterEach
+    void tearDown() {
+        ids.shutdown();
+    }
+
+    @Test
+    void rebuild_ReplaysWritesMadeWhileLoading() throws Exception {
+        Thread rebuild = startRebuild();
+        assertTrue(ids.write(snapshot -> snapshot.add(7)));
+        ids.loadMayFinish.countDown();
+        rebuild.join();
+        assertEquals(List.of(1, 7), ids.snapshot());
+        assertEquals(1, ids.loads);
+    }
+
+    @Test
+    void rebuild_ReplayedWriteRejected_RebuildsAgain() throws Exception {
+        Thread rebuild = startRebuild();
+        List<Integer> oldSnapshot = ids.snapshot();
+        assertTrue(ids.write(snapshot -> snapshot == oldSnapshot));
+        ids.loadMayFinish.countDown();
+        rebuild.join();
+        assertTrue(ids.loaded.tryAcquire(2, 10, TimeUnit.SECONDS));
+    }
+
+    private Thread startRebuild() throws InterruptedException {
+        Thread rebuild = new Thread(ids::rebuild);
+        rebuild.start();
+        ids.loadStarted.await();
+        return rebuild;
+    }
+
+    private static final class Ids extends RebuildableSnapshot<List<Integer>> {
+        private final CountDownLatch loadStarted = new CountDownLatch(1);
+        private final CountDownLatch loadMayFinish = new CountDownLatch(1);
+        private final Semaphore loaded = new Semaphore(0);
+        private volatile int loads;
+
+        private Ids() {
+            super(new ArrayList<>(), "ids-rebuild", "Ids", LogManager.getLogger(RebuildableSnapshotTest.class));
+        }
+
+        @Override
+        protected List<Integer> load() {
+            loadStarted.countDown();
+            try {
+                loadMayFinish.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            loads++;
+            loaded.release();
+            return new ArrayList<>(List.of(1));
+        }
+
+        @Override
+        protected int size(List<Integer> snapshot) {
+            return snapshot.size();
+        }
+    }
+}
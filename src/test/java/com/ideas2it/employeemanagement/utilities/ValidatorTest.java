@@ -0,0 +1,35 @@
+package com.ideas2it.employeemanagement.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ValidatorTest {
+
+    @Test
+    void calculateAge_MatchesPeriodBetween_IncludingLeapDays() {
+        LocalDate[] dobs = {LocalDate.of(2000, 2, 29), LocalDate.of(1990, 3, 1),
+                LocalDate.of(1985, 12, 31), LocalDate.of(2004, 1, 1), LocalDate.of(1996, 2, 28)};
+        for (LocalDate dob : dobs) {
+            for (LocalDate today = LocalDate.of(2023, 1, 1); today.isBefore(LocalDate.of(2025, 1, 1)); today = today.plusDays(1)) {
+                assertEquals(Period.between(dob, today).getYears(), Validator.calculateAge(dob, today),
+                        "dob " + dob + " on " + today);
+            }
+        }
+    }
+
+    @Test
+    void birthdayKey_EncodesMonthAndDay() {
+        assertEquals(229, Validator.birthdayKey(LocalDate.of(2000, 2, 29)));
+        assertEquals(1231, Validator.birthdayKey(LocalDate.of(1985, 12, 31)));
+    }
+
+    @Test
+    void validateBirthdayDays_ClampsToOneYear() {
+        assertEquals(0, Validator.validateBirthdayDays(-5));
+        assertEquals(Validator.MAX_BIRTHDAY_DAYS, Validator.validateBirthdayDays(1000));
+    }
+}